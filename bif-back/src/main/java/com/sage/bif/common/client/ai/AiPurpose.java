@@ -0,0 +1,17 @@
+package com.sage.bif.common.client.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AiPurpose {
+
+    FEEDBACK("feedback"),
+    STATS("stats"),
+    TODO("todo"),
+    GENERAL("general");
+
+    private final String key;
+
+}
@@ -4,10 +4,26 @@ import com.sage.bif.common.client.ai.dto.AiChatSettings;
 import com.sage.bif.common.client.ai.dto.AiRequest;
 import com.sage.bif.common.client.ai.dto.AiResponse;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 public interface AiServiceClient {
 
     AiResponse generate(AiRequest request);
 
     AiResponse generate(AiRequest request, AiChatSettings settings);
 
+    CompletableFuture<AiResponse> generateAsync(AiRequest request, AiChatSettings settings);
+
+    default CompletableFuture<AiResponse> generateAsync(AiRequest request) {
+        return generateAsync(request, AiChatSettings.getDefault());
+    }
+
+    default CompletableFuture<AiResponse> generateStream(AiRequest request, AiChatSettings settings, Consumer<String> onDelta) {
+        return generateAsync(request, settings).thenApply(response -> {
+            onDelta.accept(response.getContent());
+            return response;
+        });
+    }
+
 }
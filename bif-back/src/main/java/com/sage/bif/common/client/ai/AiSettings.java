@@ -18,6 +18,30 @@ public class AiSettings {
                     "사용자의 감정 상태를 절대 단정적으로 진단하거나, 의학적·심리적 조언을 제공하지 마세요. 오직 칭찬과 격려와 위로, 그리고 실천 가능한 조언에만 집중하세요.")
             .temperature(0.5)
             .maxTokens(200)
+            .purpose(AiPurpose.FEEDBACK)
+            .build();
+
+    public static final AiChatSettings DIARY_FEEDBACK_WITH_ANALYSIS = AiChatSettings.builder()
+            .systemPrompt(DIARY_FEEDBACK.getSystemPrompt() + """
+
+                    피드백과 함께 일기 분석 결과를 아래 JSON 형식으로만 응답하세요. 다른 텍스트는 포함하지 마세요.
+                    {
+                      "feedback": "사용자에게 보여줄 피드백",
+                      "keywords": ["키워드1", "키워드2", "키워드3"],
+                      "emotionScore": -2.0 ~ 2.0 사이의 숫자
+                    }
+
+                    keywords 규칙:
+                    - 일기에 직접 언급된 감정, 대상, 활동, 상황을 나타내는 명사 3-5개
+                    - 사람 이름, 업무·학업·기술 용어, '오늘', '하루' 같은 일반적인 단어는 제외
+
+                    emotionScore 규칙:
+                    - 매우 부정적 -2.0, 부정적 -1.0, 보통 0.0, 긍정적 1.0, 매우 긍정적 2.0
+                    """)
+            .temperature(0.5)
+            .maxTokens(400)
+            .promptVersion("diary-combined-v1")
+            .purpose(AiPurpose.FEEDBACK)
             .build();
 
     public static final AiChatSettings TODO_CREATION = AiChatSettings.builder()
@@ -102,6 +126,7 @@ public class AiSettings {
                     """)
             .temperature(0.3)
             .maxTokens(400)
+            .purpose(AiPurpose.TODO)
             .build();
 
     public static final AiChatSettings STATS_KEYWORD_EXTRACTION = AiChatSettings.builder()
@@ -114,11 +139,13 @@ public class AiSettings {
                     "5. 설명이나 추가 텍스트 없이 키워드만 반환")
             .temperature(0.7)
             .maxTokens(1000)
+            .promptVersion("stats-keyword-v1")
+            .purpose(AiPurpose.STATS)
             .build();
 
     public static final AiChatSettings STATS_EMOTION_ANALYSIS = AiChatSettings.builder()
             .systemPrompt("다음은 사용자의 월별 감정 통계입니다. " +
-                    "감정별 개수와 비율을 바탕으로 간단하고 격려가 되는 요약을 작성해주세요.\n\n" +
+                    "감정별 비율을 바탕으로 간단하고 격려가 되는 요약을 작성해주세요.\n\n" +
                     "요구사항:\n" +
                     "1. 감정 상태를 정확하게 분석하여 요약\n" +
                     "2. 2-3문장으로 작성 (100-150자)\n" +
@@ -126,11 +153,13 @@ public class AiSettings {
                     "4. 따뜻하고 격려가 되는 톤으로 작성\n" +
                     "5. 예시 일기문이나 구체적인 제안은 하지 말 것\n" +
                     "6. 감정일기 피드백처럼 공감적이고 건설적인 내용으로 작성\n" +
-                    "7. 월 초반(1-3일)에는 '이번 달의 시작'을 언급하고, 일기 작성 습관을 격려하는 내용 포함\n" +
+                    "7. 일기 개수나 날짜는 언급하지 말고 감정 비율만으로 작성\n" +
                     "8. 구체적인 예시나 질문은 절대 제외하고, 일반적이고 격려적인 메시지로 작성\n" +
                     "9. '예시를 써드릴게요', '도와드릴게요', '어떨까요?' 같은 표현 금지")
             .temperature(0.7)
             .maxTokens(1000)
+            .promptVersion("stats-text-v3")
+            .purpose(AiPurpose.STATS)
             .build();
 
     public static final AiChatSettings STATS_GUARDIAN_ADVICE = AiChatSettings.builder()
@@ -147,6 +176,8 @@ public class AiSettings {
                     "8. '예시를 써드릴게요', '도와드릴게요', '어떨까요?' 같은 표현 금지")
             .temperature(0.7)
             .maxTokens(1000)
+            .promptVersion("stats-advice-v2")
+            .purpose(AiPurpose.STATS)
             .build();
 
     private AiSettings() {
@@ -163,6 +194,7 @@ public class AiSettings {
                         .replace("{currentDate}", date.toString()))
                 .temperature(TODO_CREATION.getTemperature())
                 .maxTokens(TODO_CREATION.getMaxTokens())
+                .purpose(TODO_CREATION.getPurpose())
                 .build();
     }
 
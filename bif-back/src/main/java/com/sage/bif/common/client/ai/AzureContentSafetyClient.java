@@ -1,6 +1,8 @@
 package com.sage.bif.common.client.ai;
 
 import com.sage.bif.common.client.ai.dto.ModerationRequest;
+import com.sage.bif.common.client.http.OutboundHttpClients;
+import com.sage.bif.common.client.http.OutboundIntegration;
 import com.sage.bif.common.client.ai.dto.ModerationResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
@@ -26,8 +28,8 @@ public class AzureContentSafetyClient {
     
     private final RestTemplate restTemplate;
     
-    public AzureContentSafetyClient(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    public AzureContentSafetyClient(OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.get(OutboundIntegration.CONTENT_SAFETY);
     }
 
     public ModerationResponse moderateText(String text) {
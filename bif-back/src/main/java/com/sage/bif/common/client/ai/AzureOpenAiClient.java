@@ -1,5 +1,6 @@
 package com.sage.bif.common.client.ai;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -7,6 +8,9 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.sage.bif.common.client.ai.dto.AiChatSettings;
 import com.sage.bif.common.client.ai.dto.AiRequest;
 import com.sage.bif.common.client.ai.dto.AiResponse;
+import com.sage.bif.common.client.http.OutboundHttpClients;
+import com.sage.bif.common.client.http.OutboundIntegration;
+import com.sage.bif.common.exception.AiServiceException;
 import com.sage.bif.common.exception.BaseException;
 import com.sage.bif.common.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +19,27 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 @Slf4j
 @Component
 public class AzureOpenAiClient implements AiServiceClient {
@@ -26,6 +49,7 @@ public class AzureOpenAiClient implements AiServiceClient {
     private static final String MESSAGE_FIELD = "message";
 
     private final RestTemplate restTemplate;
+    private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
     @Value("${spring.ai.azure.openai.api-key}")
     private String apiKey;
@@ -33,9 +57,12 @@ public class AzureOpenAiClient implements AiServiceClient {
     private String endpoint;
     @Value("${spring.ai.azure.openai.deployment.name}")
     private String deploymentName;
+    @Value("${outbound-http.read-timeout-ms.openai:60000}")
+    private long timeoutMs;
 
-    public AzureOpenAiClient(RestTemplate restTemplate, ObjectMapper objectMapper) {
-        this.restTemplate = restTemplate;
+    public AzureOpenAiClient(OutboundHttpClients outboundHttpClients, HttpClient outboundHttpClient, ObjectMapper objectMapper) {
+        this.restTemplate = outboundHttpClients.get(OutboundIntegration.OPEN_AI);
+        this.httpClient = outboundHttpClient;
         this.objectMapper = objectMapper;
     }
 
@@ -50,80 +77,278 @@ public class AzureOpenAiClient implements AiServiceClient {
         return chat(request, settings.getSystemPrompt(), settings.getTemperature(), settings.getMaxTokens());
     }
 
-    private AiResponse chat(AiRequest request, String systemPrompt, double temperature, int maxTokens) {
+    @Override
+    public CompletableFuture<AiResponse> generateAsync(AiRequest request, AiChatSettings settings) {
+        final HttpRequest httpRequest;
         try {
-            String chatEndpoint = String.format("%s/openai/deployments/%s/chat/completions?api-version=2025-01-01-preview",
-                    endpoint, deploymentName);
+            httpRequest = createHttpRequest(createRequestBody(request, settings.getSystemPrompt(),
+                    settings.getTemperature(), settings.getMaxTokens(), false));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new BaseException(ErrorCode.COMMON_AI_MODEL_ERROR,
+                    "예상치 못한 오류: " + e.getMessage()));
+        }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("api-key", apiKey);
+        return exchange(httpRequest, HttpResponse.BodyHandlers.ofString(), this::toAiResponse);
+    }
 
-            ObjectNode requestBody = objectMapper.createObjectNode();
-            requestBody.put("max_tokens", maxTokens);
-            requestBody.put("temperature", temperature);
+    // stream=true로 요청하고 SSE 청크의 delta를 도착하는 대로 onDelta에 넘긴다. 완료되면 전체 텍스트를 돌려준다.
+    @Override
+    public CompletableFuture<AiResponse> generateStream(AiRequest request, AiChatSettings settings, Consumer<String> onDelta) {
+        final HttpRequest httpRequest;
+        try {
+            httpRequest = createHttpRequest(createRequestBody(request, settings.getSystemPrompt(),
+                    settings.getTemperature(), settings.getMaxTokens(), true));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new BaseException(ErrorCode.COMMON_AI_MODEL_ERROR,
+                    "예상치 못한 오류: " + e.getMessage()));
+        }
 
-            ArrayNode messages = objectMapper.createArrayNode();
+        final HttpResponse.BodyHandler<String> bodyHandler = responseInfo -> responseInfo.statusCode() / 100 == 2
+                ? HttpResponse.BodySubscribers.fromLineSubscriber(new ChatStreamSubscriber(onDelta), ChatStreamSubscriber::getText, null)
+                : HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8);
 
-            ObjectNode systemMessage = objectMapper.createObjectNode();
-            systemMessage.put("role", "system");
-            systemMessage.put(CONTENT_FIELD, systemPrompt);
-            messages.add(systemMessage);
+        return exchange(httpRequest, bodyHandler, response -> {
+            if (response.statusCode() / 100 != 2) {
+                return toAiResponse(response);
+            }
+            return new AiResponse(response.body());
+        });
+    }
+
+    private HttpRequest createHttpRequest(String body) {
+        return HttpRequest.newBuilder(URI.create(chatEndpoint()))
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("api-key", apiKey)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private CompletableFuture<AiResponse> exchange(HttpRequest httpRequest, HttpResponse.BodyHandler<String> bodyHandler,
+                                                   Function<HttpResponse<String>, AiResponse> mapper) {
+        final CompletableFuture<HttpResponse<String>> exchange = httpClient.sendAsync(httpRequest, bodyHandler);
+        final CompletableFuture<AiResponse> result = exchange
+                .thenApply(mapper)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(toAiException(e)));
+
+        // 호출자가 취소하거나 시간이 초과되면 진행 중인 HTTP 교환도 함께 취소한다.
+        result.whenComplete((response, e) -> {
+            if (e != null) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private String chatEndpoint() {
+        return String.format("%s/openai/deployments/%s/chat/completions?api-version=2025-01-01-preview",
+                endpoint, deploymentName);
+    }
+
+    private String createRequestBody(AiRequest request, String systemPrompt, double temperature, int maxTokens, boolean stream) {
+        ObjectNode requestBody = objectMapper.createObjectNode();
+        requestBody.put("max_tokens", maxTokens);
+        requestBody.put("temperature", temperature);
+        if (stream) {
+            requestBody.put("stream", true);
+        }
 
-            ObjectNode userMessage = objectMapper.createObjectNode();
-            userMessage.put("role", "user");
-            userMessage.put(CONTENT_FIELD, request.getUserPrompt());
-            messages.add(userMessage);
+        ArrayNode messages = objectMapper.createArrayNode();
 
-            requestBody.set("messages", messages);
+        ObjectNode systemMessage = objectMapper.createObjectNode();
+        systemMessage.put("role", "system");
+        systemMessage.put(CONTENT_FIELD, systemPrompt);
+        messages.add(systemMessage);
 
-            HttpEntity<String> entity = new HttpEntity<>(requestBody.toString(), headers);
-            ResponseEntity<JsonNode> response = restTemplate.postForEntity(chatEndpoint, entity, JsonNode.class);
+        ObjectNode userMessage = objectMapper.createObjectNode();
+        userMessage.put("role", "user");
+        userMessage.put(CONTENT_FIELD, request.getUserPrompt());
+        messages.add(userMessage);
+
+        requestBody.set("messages", messages);
+        return requestBody.toString();
+    }
+
+    private AiResponse chat(AiRequest request, String systemPrompt, double temperature, int maxTokens) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("api-key", apiKey);
+
+            HttpEntity<String> entity = new HttpEntity<>(createRequestBody(request, systemPrompt, temperature, maxTokens, false), headers);
+            ResponseEntity<JsonNode> response = restTemplate.postForEntity(chatEndpoint(), entity, JsonNode.class);
 
             if (!response.getStatusCode().is2xxSuccessful()) {
                 throw new BaseException(ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE,
                         "HTTP 상태 코드: " + response.getStatusCode());
             }
 
-            JsonNode body = response.getBody();
-            if (body == null) {
-                throw new BaseException(ErrorCode.COMMON_AI_RESPONSE_INVALID,
-                        "AI 서비스 응답 본문이 비어있습니다.");
+            return parseContent(response.getBody());
+        } catch (HttpClientErrorException e) {
+            final HttpHeaders responseHeaders = e.getResponseHeaders() != null ? e.getResponseHeaders() : new HttpHeaders();
+            throw toClientErrorException(e.getStatusCode(), e.getMessage(), e.getResponseBodyAsString(),
+                    retryAfter(name -> Optional.ofNullable(responseHeaders.getFirst(name))));
+        } catch (HttpServerErrorException e) {
+            final HttpHeaders responseHeaders = e.getResponseHeaders() != null ? e.getResponseHeaders() : new HttpHeaders();
+            throw new AiServiceException(ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE,
+                    "AI 서비스 내부 오류: " + e.getMessage(), true,
+                    retryAfter(name -> Optional.ofNullable(responseHeaders.getFirst(name))));
+        } catch (ResourceAccessException e) {
+            throw new AiServiceException(ErrorCode.COMMON_AI_TIMEOUT,
+                    "AI 서비스 연결 오류: " + e.getMessage(), true, null);
+        } catch (Exception e) {
+            throw new BaseException(ErrorCode.COMMON_AI_MODEL_ERROR,
+                    "예상치 못한 오류: " + e.getMessage());
+        }
+    }
+
+    private AiResponse toAiResponse(HttpResponse<String> response) {
+        final HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        if (status.is4xxClientError()) {
+            throw toClientErrorException(status, "HTTP 상태 코드: " + status, response.body(),
+                    retryAfter(name -> response.headers().firstValue(name)));
+        }
+        if (status.is5xxServerError()) {
+            throw new AiServiceException(ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE,
+                    "AI 서비스 내부 오류: " + status, true, retryAfter(name -> response.headers().firstValue(name)));
+        }
+        if (!status.is2xxSuccessful()) {
+            throw new BaseException(ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE,
+                    "HTTP 상태 코드: " + status);
+        }
+
+        try {
+            return parseContent(objectMapper.readTree(response.body()));
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ErrorCode.COMMON_AI_RESPONSE_INVALID,
+                    "응답 본문을 해석할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private AiResponse parseContent(JsonNode body) {
+        if (body == null) {
+            throw new BaseException(ErrorCode.COMMON_AI_RESPONSE_INVALID,
+                    "AI 서비스 응답 본문이 비어있습니다.");
+        }
+
+        if (body.has(CHOICES_FIELD) && body.get(CHOICES_FIELD).isArray() && !body.get(CHOICES_FIELD).isEmpty()) {
+            JsonNode firstChoice = body.get(CHOICES_FIELD).get(0);
+
+            if (firstChoice.has(MESSAGE_FIELD) && firstChoice.get(MESSAGE_FIELD).has(CONTENT_FIELD)) {
+                String content = firstChoice.get(MESSAGE_FIELD).get(CONTENT_FIELD).asText();
+                return new AiResponse(content);
+            }
+        }
+
+        throw new BaseException(ErrorCode.COMMON_AI_RESPONSE_INVALID,
+                "응답 형식이 올바르지 않습니다. 응답 본문: " + body);
+    }
+
+    private BaseException toClientErrorException(HttpStatusCode status, String message, String responseBody, Duration retryAfter) {
+        if (status == HttpStatus.UNAUTHORIZED) {
+            return new BaseException(ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE,
+                    "API 키 인증 실패: " + message);
+        } else if (status == HttpStatus.TOO_MANY_REQUESTS) {
+            return new AiServiceException(ErrorCode.COMMON_AI_QUOTA_EXCEEDED,
+                    "API 호출 한도 초과: " + message, true, retryAfter);
+        } else if (status == HttpStatus.BAD_REQUEST) {
+            return new BaseException(ErrorCode.COMMON_AI_REQUEST_FAILED,
+                    "Azure OpenAI 콘텐츠 정책 위반: " + responseBody);
+        } else {
+            return new BaseException(ErrorCode.COMMON_AI_REQUEST_FAILED,
+                    "HTTP 클라이언트 오류: " + message);
+        }
+    }
+
+    // Azure OpenAI는 retry-after-ms를 우선 제공하고, 표준 retry-after는 초 단위로 온다.
+    private Duration retryAfter(Function<String, Optional<String>> header) {
+        try {
+            final Optional<String> millis = header.apply("retry-after-ms");
+            if (millis.isPresent()) {
+                return Duration.ofMillis(Long.parseLong(millis.get().trim()));
             }
+            return header.apply(HttpHeaders.RETRY_AFTER)
+                    .map(seconds -> Duration.ofSeconds(Long.parseLong(seconds.trim())))
+                    .orElse(null);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Throwable toAiException(Throwable e) {
+        final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof BaseException || cause instanceof CancellationException) {
+            return cause;
+        }
+        if (cause instanceof TimeoutException || cause instanceof HttpTimeoutException) {
+            return new AiServiceException(ErrorCode.COMMON_AI_TIMEOUT, "AI 서비스 응답 시간 초과", true, null);
+        }
+        if (cause instanceof IOException) {
+            return new AiServiceException(ErrorCode.COMMON_AI_TIMEOUT,
+                    "AI 서비스 연결 오류: " + cause.getMessage(), true, null);
+        }
+        return new BaseException(ErrorCode.COMMON_AI_MODEL_ERROR,
+                "예상치 못한 오류: " + cause.getMessage());
+    }
 
-            if (body.has(CHOICES_FIELD) && body.get(CHOICES_FIELD).isArray() && !body.get(CHOICES_FIELD).isEmpty()) {
-                JsonNode firstChoice = body.get(CHOICES_FIELD).get(0);
+    private class ChatStreamSubscriber implements Flow.Subscriber<String> {
 
-                if (firstChoice.has(MESSAGE_FIELD) && firstChoice.get(MESSAGE_FIELD).has(CONTENT_FIELD)) {
-                    String content = firstChoice.get(MESSAGE_FIELD).get(CONTENT_FIELD).asText();
-                    return new AiResponse(content);
-                }
+        private static final String DATA_PREFIX = "data:";
+        private static final String DONE_MARKER = "[DONE]";
+
+        private final Consumer<String> onDelta;
+        private final StringBuilder text = new StringBuilder();
+
+        private ChatStreamSubscriber(Consumer<String> onDelta) {
+            this.onDelta = onDelta;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!line.startsWith(DATA_PREFIX)) {
+                return;
             }
 
-            throw new BaseException(ErrorCode.COMMON_AI_RESPONSE_INVALID,
-                    "응답 형식이 올바르지 않습니다. 응답 본문: " + body);
-        } catch (HttpClientErrorException e) {
-            String responseBody = e.getResponseBodyAsString();
-            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
-                throw new BaseException(ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE,
-                        "API 키 인증 실패: " + e.getMessage());
-            } else if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                throw new BaseException(ErrorCode.COMMON_AI_QUOTA_EXCEEDED,
-                        "API 호출 한도 초과: " + e.getMessage());
-            } else if (e.getStatusCode() == HttpStatus.BAD_REQUEST) {
-                throw new BaseException(ErrorCode.COMMON_AI_REQUEST_FAILED,
-                        "Azure OpenAI 콘텐츠 정책 위반: " + responseBody);
-            } else {
-                throw new BaseException(ErrorCode.COMMON_AI_REQUEST_FAILED,
-                        "HTTP 클라이언트 오류: " + e.getMessage());
+            final String data = line.substring(DATA_PREFIX.length()).trim();
+            if (data.isEmpty() || DONE_MARKER.equals(data)) {
+                return;
             }
-        } catch (HttpServerErrorException e) {
-            throw new BaseException(ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE,
-                    "AI 서비스 내부 오류: " + e.getMessage());
-        } catch (Exception e) {
-            throw new BaseException(ErrorCode.COMMON_AI_MODEL_ERROR,
-                    "예상치 못한 오류: " + e.getMessage());
+
+            try {
+                final JsonNode choices = objectMapper.readTree(data).path(CHOICES_FIELD);
+                final String delta = choices.isArray() && !choices.isEmpty()
+                        ? choices.get(0).path("delta").path(CONTENT_FIELD).asText("") : "";
+                if (delta.isEmpty()) {
+                    return;
+                }
+
+                text.append(delta);
+                onDelta.accept(delta);
+            } catch (Exception e) {
+                log.warn("AI 스트리밍 청크 처리 실패: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            log.warn("AI 스트리밍 응답 수신 중 오류: {}", throwable.getMessage());
+        }
+
+        @Override
+        public void onComplete() {
+            log.debug("AI 스트리밍 응답 수신 완료 - 길이: {}", text.length());
         }
+
+        private String getText() {
+            return text.toString();
+        }
+
     }
 
 }
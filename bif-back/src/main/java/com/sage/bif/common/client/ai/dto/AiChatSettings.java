@@ -1,5 +1,6 @@
 package com.sage.bif.common.client.ai.dto;
 
+import com.sage.bif.common.client.ai.AiPurpose;
 import lombok.Builder;
 import lombok.Data;
 
@@ -13,6 +14,12 @@ public class AiChatSettings {
 
     private int maxTokens;
 
+    @Builder.Default
+    private String promptVersion = "v1";
+
+    @Builder.Default
+    private AiPurpose purpose = AiPurpose.GENERAL;
+
     public static AiChatSettings getDefault() {
         return AiChatSettings.builder()
                 .systemPrompt("당신은 도움이 되는 AI 어시스턴트입니다.")
@@ -0,0 +1,89 @@
+package com.sage.bif.common.client.ai.resilience;
+
+import com.sage.bif.common.client.ai.AiPurpose;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 용도별 동시 호출 수를 제한해 느린 통계 호출이 피드백·할 일 생성 호출의 자리를 차지하지 못하게 한다.
+@Component
+@RequiredArgsConstructor
+public class AiBulkhead {
+
+    private static final String PERMITS_PROPERTY = "ai.resilience.bulkhead.";
+    private static final int DEFAULT_PERMITS = 2;
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final Map<AiPurpose, Semaphore> semaphores = new EnumMap<>(AiPurpose.class);
+
+    @PostConstruct
+    void init() {
+        for (AiPurpose purpose : AiPurpose.values()) {
+            final Semaphore semaphore = new Semaphore(
+                    environment.getProperty(PERMITS_PROPERTY + purpose.getKey(), Integer.class, DEFAULT_PERMITS));
+            semaphores.put(purpose, semaphore);
+            Gauge.builder("ai.bulkhead.available", semaphore, Semaphore::availablePermits)
+                    .description("용도별 남은 AI 동시 호출 수")
+                    .tag("purpose", purpose.getKey())
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean tryAcquire(final AiPurpose purpose, final long waitMs) {
+        try {
+            final boolean acquired = semaphores.get(purpose).tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                meterRegistry.counter("ai.bulkhead.rejected", "purpose", purpose.getKey()).increment();
+            }
+            return acquired;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 비동기 호출용. 스레드를 붙잡지 않도록 짧은 간격으로 다시 시도하며 최대 waitMs까지 자리를 기다린다.
+    public CompletableFuture<Boolean> acquireAsync(final AiPurpose purpose, final long waitMs) {
+        final CompletableFuture<Boolean> acquired = new CompletableFuture<>();
+        pollAcquire(purpose, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs), acquired);
+        return acquired;
+    }
+
+    private void pollAcquire(final AiPurpose purpose, final long deadlineNanos, final CompletableFuture<Boolean> acquired) {
+        if (acquired.isDone()) {
+            return;
+        }
+        if (semaphores.get(purpose).tryAcquire()) {
+            // 기다리는 동안 호출자가 취소했다면 얻은 자리를 바로 돌려준다
+            if (!acquired.complete(true)) {
+                release(purpose);
+            }
+            return;
+        }
+
+        final long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            meterRegistry.counter("ai.bulkhead.rejected", "purpose", purpose.getKey()).increment();
+            acquired.complete(false);
+            return;
+        }
+        CompletableFuture.delayedExecutor(Math.min(remainingNanos, POLL_INTERVAL_NANOS), TimeUnit.NANOSECONDS)
+                .execute(() -> pollAcquire(purpose, deadlineNanos, acquired));
+    }
+
+    public void release(final AiPurpose purpose) {
+        semaphores.get(purpose).release();
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.sage.bif.common.client.ai.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+// 최근 호출의 실패율이 임계치를 넘으면 일정 시간 AI 호출을 즉시 실패시켜 각 서비스의 대체 로직으로 넘긴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.resilience.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${ai.resilience.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${ai.resilience.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${ai.resilience.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${ai.resilience.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    private final Deque<Boolean> outcomes = new ArrayDeque<>();
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("ai.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("AI 회로 차단기 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= TimeUnit.MILLISECONDS.toNanos(openDurationMs)) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        switch (state) {
+            case OPEN:
+                meterRegistry.counter("ai.circuit.rejected").increment();
+                return false;
+            case HALF_OPEN:
+                if (halfOpenInFlight >= halfOpenCalls) {
+                    meterRegistry.counter("ai.circuit.rejected").increment();
+                    return false;
+                }
+                halfOpenInFlight++;
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(true);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            transitionTo(State.OPEN);
+            return;
+        }
+
+        record(false);
+        final long failures = outcomes.stream().filter(success -> !success).count();
+        if (state == State.CLOSED && outcomes.size() >= minimumCalls
+                && failures * 100 >= (long) failureRateThreshold * outcomes.size()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // 호출 결과가 서비스 상태와 무관할 때(요청 오류 등) 허가만 반납한다.
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        }
+    }
+
+    private void record(final boolean success) {
+        outcomes.addLast(success);
+        while (outcomes.size() > windowSize) {
+            outcomes.removeFirst();
+        }
+    }
+
+    private void transitionTo(final State next) {
+        log.warn("AI 회로 차단기 상태 변경: {} -> {}", state, next);
+        state = next;
+        outcomes.clear();
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        meterRegistry.counter("ai.circuit.transitions", "to", next.name()).increment();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.sage.bif.common.client.ai.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 배포의 RPM/TPM 한도에 맞춘 토큰 버킷. 429를 받으면 Retry-After 동안 멈추고 속도를 절반으로 줄였다가 성공할 때마다 조금씩 회복한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRateLimiter {
+
+    private static final double MIN_RATE_FACTOR = 0.1;
+    private static final double RECOVERY_STEP = 0.05;
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.resilience.rate-limit.requests-per-minute:60}")
+    private int requestsPerMinute;
+
+    @Value("${ai.resilience.rate-limit.tokens-per-minute:60000}")
+    private int tokensPerMinute;
+
+    @Value("${ai.resilience.rate-limit.max-wait-ms:3000}")
+    private long maxWaitMs;
+
+    @Value("${ai.resilience.rate-limit.default-pause-ms:1000}")
+    private long defaultPauseMs;
+
+    private Bucket requests;
+    private Bucket tokens;
+    private double rateFactor = 1.0;
+    private long pausedUntilNanos;
+
+    @PostConstruct
+    void init() {
+        final long now = System.nanoTime();
+        requests = new Bucket(requestsPerMinute, now);
+        tokens = new Bucket(tokensPerMinute, now);
+        Gauge.builder("ai.ratelimit.rate.factor", this, AiRateLimiter::currentRateFactor)
+                .description("429 응답에 따라 조정된 현재 호출 속도 비율")
+                .register(meterRegistry);
+    }
+
+    // 호출 전에 기다려야 할 시간(ns)을 예약한다. 최대 대기 시간을 넘으면 예약하지 않고 -1을 돌려준다.
+    public synchronized long reserve(final int estimatedTokens) {
+        final long now = System.nanoTime();
+        requests.refill(now, rateFactor);
+        tokens.refill(now, rateFactor);
+
+        requests.available -= 1;
+        tokens.available -= estimatedTokens;
+
+        final long waitNanos = Math.max(Math.max(pausedUntilNanos - now, 0),
+                Math.max(requests.waitNanos(rateFactor), tokens.waitNanos(rateFactor)));
+        if (waitNanos > TimeUnit.MILLISECONDS.toNanos(maxWaitMs)) {
+            requests.available += 1;
+            tokens.available += estimatedTokens;
+            meterRegistry.counter("ai.ratelimit.rejected").increment();
+            return -1;
+        }
+
+        meterRegistry.timer("ai.ratelimit.wait").record(waitNanos, TimeUnit.NANOSECONDS);
+        return waitNanos;
+    }
+
+    public synchronized void onThrottled(final Duration retryAfter) {
+        final long pauseNanos = retryAfter != null ? retryAfter.toNanos() : TimeUnit.MILLISECONDS.toNanos(defaultPauseMs);
+        pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + pauseNanos);
+        rateFactor = Math.max(MIN_RATE_FACTOR, rateFactor / 2);
+        meterRegistry.counter("ai.ratelimit.throttled").increment();
+        log.warn("AI 호출 한도 초과 응답 - {}ms 동안 대기, 호출 속도 비율: {}", TimeUnit.NANOSECONDS.toMillis(pauseNanos), rateFactor);
+    }
+
+    public synchronized void onSuccess() {
+        rateFactor = Math.min(1.0, rateFactor + RECOVERY_STEP);
+    }
+
+    private synchronized double currentRateFactor() {
+        return rateFactor;
+    }
+
+    private static class Bucket {
+
+        private final double perMinute;
+        private final double capacity;
+        private double available;
+        private long refilledAtNanos;
+
+        private Bucket(final double perMinute, final long now) {
+            this.perMinute = perMinute;
+            this.capacity = Math.max(1, perMinute / 6);
+            this.available = capacity;
+            this.refilledAtNanos = now;
+        }
+
+        private void refill(final long now, final double rateFactor) {
+            final double refilled = (now - refilledAtNanos) * perMinute * rateFactor / NANOS_PER_MINUTE;
+            available = Math.min(capacity, available + refilled);
+            refilledAtNanos = now;
+        }
+
+        private long waitNanos(final double rateFactor) {
+            if (available >= 0) {
+                return 0;
+            }
+            return (long) (-available * NANOS_PER_MINUTE / (perMinute * rateFactor));
+        }
+
+    }
+
+}
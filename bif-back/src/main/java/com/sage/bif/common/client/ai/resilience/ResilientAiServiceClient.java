@@ -0,0 +1,327 @@
+package com.sage.bif.common.client.ai.resilience;
+
+import com.sage.bif.common.client.ai.AiPurpose;
+import com.sage.bif.common.client.ai.AiServiceClient;
+import com.sage.bif.common.client.ai.AzureOpenAiClient;
+import com.sage.bif.common.client.ai.dto.AiChatSettings;
+import com.sage.bif.common.client.ai.dto.AiRequest;
+import com.sage.bif.common.client.ai.dto.AiResponse;
+import com.sage.bif.common.exception.AiCallRejectedException;
+import com.sage.bif.common.exception.AiServiceException;
+import com.sage.bif.common.exception.BaseException;
+import com.sage.bif.common.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Azure OpenAI 호출을 속도 제한, 용도별 격벽, 회로 차단기, Retry-After 기반 재시도로 감싼다.
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class ResilientAiServiceClient implements AiServiceClient {
+
+    private final AzureOpenAiClient delegate;
+    private final AiRateLimiter rateLimiter;
+    private final AiBulkhead bulkhead;
+    private final AiCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.resilience.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${ai.resilience.retry.base-backoff-ms:500}")
+    private long baseBackoffMs;
+
+    @Value("${ai.resilience.retry.max-backoff-ms:10000}")
+    private long maxBackoffMs;
+
+    @Value("${ai.resilience.bulkhead.max-wait-ms:500}")
+    private long bulkheadMaxWaitMs;
+
+    @Override
+    public AiResponse generate(AiRequest request) {
+        return generate(request, AiChatSettings.getDefault());
+    }
+
+    @Override
+    public AiResponse generate(AiRequest request, AiChatSettings settings) {
+        final AiPurpose purpose = settings.getPurpose();
+        for (int attempt = 1; ; attempt++) {
+            sleep(reserveRate(request, settings));
+            acquire(purpose, bulkheadMaxWaitMs);
+
+            final long backoffMs;
+            try {
+                final AiResponse response = delegate.generate(request, settings);
+                onSuccess(purpose);
+                return response;
+            } catch (BaseException e) {
+                backoffMs = onFailure(purpose, e, attempt);
+                if (backoffMs < 0) {
+                    throw e;
+                }
+            } catch (RuntimeException e) {
+                circuitBreaker.onIgnored();
+                throw e;
+            } finally {
+                bulkhead.release(purpose);
+            }
+            sleep(TimeUnit.MILLISECONDS.toNanos(backoffMs));
+        }
+    }
+
+    @Override
+    public CompletableFuture<AiResponse> generateAsync(AiRequest request, AiChatSettings settings) {
+        final CompletableFuture<AiResponse> result = new CompletableFuture<>();
+        final AtomicReference<CompletableFuture<?>> inFlight = new AtomicReference<>();
+
+        // 호출자가 취소하면 속도 제한·격벽·재시도 대기 중이거나 진행 중인 실제 호출도 함께 취소한다.
+        result.whenComplete((response, e) -> cancelInFlight(result, inFlight));
+        attemptAsync(request, settings, 1, result, inFlight).whenComplete((response, e) -> complete(result, response, e));
+        return result;
+    }
+
+    // 이미 일부 토큰을 전달한 스트림은 다시 시도할 수 없으므로 속도 제한, 격벽, 회로 차단기만 적용한다.
+    @Override
+    public CompletableFuture<AiResponse> generateStream(AiRequest request, AiChatSettings settings, Consumer<String> onDelta) {
+        final AiPurpose purpose = settings.getPurpose();
+        final long waitNanos;
+        try {
+            waitNanos = reserveRate(request, settings);
+        } catch (BaseException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final CompletableFuture<AiResponse> result = new CompletableFuture<>();
+        final AtomicReference<CompletableFuture<?>> inFlight = new AtomicReference<>();
+        final AtomicBoolean permitted = new AtomicBoolean();
+
+        result.whenComplete((response, e) -> cancelInFlight(result, inFlight));
+        acquireAsync(purpose, waitNanos, result, inFlight, permitted)
+                .thenCompose(ignored -> callDelegate(purpose, result, inFlight,
+                        () -> delegate.generateStream(request, settings, onDelta)))
+                .whenComplete((response, e) -> {
+                    if (e == null) {
+                        onSuccess(purpose);
+                    } else {
+                        onError(purpose, unwrap(e), maxAttempts, permitted);
+                    }
+                    complete(result, response, e);
+                });
+        return result;
+    }
+
+    private CompletableFuture<AiResponse> attemptAsync(AiRequest request, AiChatSettings settings, int attempt,
+                                                       CompletableFuture<AiResponse> result,
+                                                       AtomicReference<CompletableFuture<?>> inFlight) {
+        final AiPurpose purpose = settings.getPurpose();
+        if (result.isCancelled()) {
+            return CompletableFuture.failedFuture(new CancellationException("AI 호출 재시도 전에 취소되었습니다."));
+        }
+
+        final long waitNanos;
+        try {
+            waitNanos = reserveRate(request, settings);
+        } catch (BaseException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final AtomicBoolean permitted = new AtomicBoolean();
+        return acquireAsync(purpose, waitNanos, result, inFlight, permitted)
+                .thenCompose(ignored -> callDelegate(purpose, result, inFlight, () -> delegate.generateAsync(request, settings)))
+                .handle((response, e) -> {
+                    if (e == null) {
+                        onSuccess(purpose);
+                        return CompletableFuture.completedFuture(response);
+                    }
+
+                    final Throwable cause = unwrap(e);
+                    final long backoffMs = onError(purpose, cause, attempt, permitted);
+                    if (backoffMs < 0 || result.isCancelled()) {
+                        return CompletableFuture.<AiResponse>failedFuture(cause);
+                    }
+                    return track(result, inFlight, CompletableFuture.runAsync(() -> { },
+                                    CompletableFuture.delayedExecutor(backoffMs, TimeUnit.MILLISECONDS)))
+                            .thenCompose(ignored -> attemptAsync(request, settings, attempt + 1, result, inFlight));
+                })
+                .thenCompose(next -> next);
+    }
+
+    private long reserveRate(AiRequest request, AiChatSettings settings) {
+        final long waitNanos = rateLimiter.reserve(estimateTokens(request, settings));
+        if (waitNanos < 0) {
+            throw new AiCallRejectedException("AI 호출 속도 제한으로 요청을 처리할 수 없습니다.");
+        }
+        return waitNanos;
+    }
+
+    // 격벽 자리를 얻은 뒤 회로 차단기 허가를 받는다. 어느 쪽이든 실패하면 바로 예외를 던진다.
+    private void acquire(AiPurpose purpose, long waitMs) {
+        if (!bulkhead.tryAcquire(purpose, waitMs)) {
+            throw new AiCallRejectedException("AI 동시 호출 한도 초과 - " + purpose.getKey());
+        }
+        acquireCircuitPermission(purpose);
+    }
+
+    // 비동기 경로도 동기 경로와 같은 시간만큼 격벽 자리를 기다리되, 기다리는 동안 스레드를 점유하지 않는다.
+    // 속도 제한 대기와 격벽 대기도 진행 중인 단계로 등록해 호출자가 취소하면 바로 끝낸다.
+    private CompletableFuture<Void> acquireAsync(AiPurpose purpose, long waitNanos, CompletableFuture<AiResponse> result,
+                                                 AtomicReference<CompletableFuture<?>> inFlight, AtomicBoolean permitted) {
+        return track(result, inFlight, CompletableFuture.runAsync(() -> { },
+                        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)))
+                .thenCompose(ignored -> track(result, inFlight, bulkhead.acquireAsync(purpose, bulkheadMaxWaitMs)))
+                .thenAccept(acquired -> {
+                    if (!acquired) {
+                        throw new AiCallRejectedException("AI 동시 호출 한도 초과 - " + purpose.getKey());
+                    }
+                    acquireCircuitPermission(purpose);
+                    permitted.set(true);
+                });
+    }
+
+    private void acquireCircuitPermission(AiPurpose purpose) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release(purpose);
+            throw new AiCallRejectedException("AI 회로 차단 중");
+        }
+    }
+
+    // 격벽 자리와 회로 차단기 허가를 얻은 사이에 호출자가 취소했다면 실제 호출을 보내지 않는다.
+    private CompletableFuture<AiResponse> callDelegate(AiPurpose purpose, CompletableFuture<AiResponse> result,
+                                                       AtomicReference<CompletableFuture<?>> inFlight,
+                                                       Supplier<CompletableFuture<AiResponse>> call) {
+        if (result.isCancelled()) {
+            bulkhead.release(purpose);
+            return CompletableFuture.failedFuture(new CancellationException("AI 호출 전에 취소되었습니다."));
+        }
+
+        final CompletableFuture<AiResponse> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            bulkhead.release(purpose);
+            return CompletableFuture.failedFuture(e);
+        }
+        return track(result, inFlight, future).whenComplete((response, e) -> bulkhead.release(purpose));
+    }
+
+    // 등록하기 직전에 호출자가 취소했을 수 있으므로 등록 후 한 번 더 확인한다.
+    private <T> CompletableFuture<T> track(CompletableFuture<AiResponse> result, AtomicReference<CompletableFuture<?>> inFlight,
+                                           CompletableFuture<T> stage) {
+        inFlight.set(stage);
+        if (result.isCancelled()) {
+            stage.cancel(true);
+        }
+        return stage;
+    }
+
+    private void cancelInFlight(CompletableFuture<AiResponse> result, AtomicReference<CompletableFuture<?>> inFlight) {
+        final CompletableFuture<?> current = inFlight.get();
+        if (result.isCancelled() && current != null) {
+            current.cancel(true);
+        }
+    }
+
+    private void complete(CompletableFuture<AiResponse> result, AiResponse response, Throwable e) {
+        if (e == null) {
+            result.complete(response);
+        } else {
+            result.completeExceptionally(unwrap(e));
+        }
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private void onSuccess(AiPurpose purpose) {
+        circuitBreaker.onSuccess();
+        rateLimiter.onSuccess();
+        meterRegistry.counter("ai.calls", "purpose", purpose.getKey(), "outcome", "success").increment();
+    }
+
+    // 허가를 받은 호출만 회로 차단기에 결과를 남긴다. 거절은 기록하지 않고, 취소나 알 수 없는 예외는 허가만 반납한다.
+    private long onError(AiPurpose purpose, Throwable cause, int attempt, AtomicBoolean permitted) {
+        if (!permitted.get()) {
+            return -1;
+        }
+        if (cause instanceof BaseException baseException) {
+            return onFailure(purpose, baseException, attempt);
+        }
+
+        circuitBreaker.onIgnored();
+        meterRegistry.counter("ai.calls", "purpose", purpose.getKey(),
+                "outcome", cause instanceof CancellationException ? "CANCELLED" : "UNKNOWN").increment();
+        return -1;
+    }
+
+    // 실패를 기록하고 재시도할 대기 시간(ms)을 돌려준다. 재시도하지 않으면 -1.
+    private long onFailure(AiPurpose purpose, BaseException e, int attempt) {
+        meterRegistry.counter("ai.calls", "purpose", purpose.getKey(), "outcome", e.getErrorCode().name()).increment();
+
+        if (!(e instanceof AiServiceException serviceException)) {
+            if (e.getErrorCode() == ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE || e.getErrorCode() == ErrorCode.COMMON_AI_MODEL_ERROR) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onIgnored();
+            }
+            return -1;
+        }
+
+        if (serviceException.getErrorCode() == ErrorCode.COMMON_AI_QUOTA_EXCEEDED) {
+            circuitBreaker.onIgnored();
+            rateLimiter.onThrottled(serviceException.getRetryAfter());
+        } else {
+            circuitBreaker.onFailure();
+        }
+
+        if (!serviceException.isRetryable() || attempt >= maxAttempts) {
+            return -1;
+        }
+
+        final long backoffMs = serviceException.getRetryAfter() != null
+                ? serviceException.getRetryAfter().toMillis()
+                : ThreadLocalRandom.current().nextLong(baseBackoffMs << Math.min(attempt - 1, 10), (baseBackoffMs << Math.min(attempt, 10)) + 1);
+        if (backoffMs > maxBackoffMs) {
+            return -1;
+        }
+
+        meterRegistry.counter("ai.retries", "purpose", purpose.getKey()).increment();
+        log.warn("AI 호출 재시도 예정 - 용도: {}, 시도: {}/{}, 대기: {}ms, 원인: {}",
+                purpose.getKey(), attempt, maxAttempts, backoffMs, e.getErrorCode());
+        return backoffMs;
+    }
+
+    private int estimateTokens(AiRequest request, AiChatSettings settings) {
+        final int promptLength = (settings.getSystemPrompt() != null ? settings.getSystemPrompt().length() : 0)
+                + (request.getUserPrompt() != null ? request.getUserPrompt().length() : 0);
+        return promptLength + settings.getMaxTokens();
+    }
+
+    private void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(ErrorCode.COMMON_AI_SERVICE_UNAVAILABLE, "AI 호출 대기 중 중단되었습니다.");
+        }
+    }
+
+}
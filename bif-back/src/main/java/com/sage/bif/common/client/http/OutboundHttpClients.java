@@ -0,0 +1,21 @@
+package com.sage.bif.common.client.http;
+
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+// 외부 연동별 RestTemplate. 모두 하나의 HttpClient(커넥션 풀)를 공유하고 읽기 타임아웃만 다르다.
+public class OutboundHttpClients {
+
+    private final Map<OutboundIntegration, RestTemplate> templates;
+
+    public OutboundHttpClients(Map<OutboundIntegration, RestTemplate> templates) {
+        this.templates = Map.copyOf(templates);
+    }
+
+    public RestTemplate get(OutboundIntegration integration) {
+        final RestTemplate template = templates.get(integration);
+        return template != null ? template : templates.get(OutboundIntegration.DEFAULT);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.sage.bif.common.client.http;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboundIntegration {
+
+    DEFAULT("default"),
+    OPEN_AI("openai"),
+    CONTENT_SAFETY("content-safety"),
+    SPEECH("speech"),
+    TTS("tts");
+
+    private final String key;
+
+}
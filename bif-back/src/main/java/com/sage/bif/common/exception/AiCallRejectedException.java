@@ -0,0 +1,10 @@
+package com.sage.bif.common.exception;
+
+// 속도 제한, 격벽, 회로 차단기에 막혀 AI를 호출하기 전에 거절된 요청. AI 응답에서 나온 오류와 구분해 처리한다.
+public class AiCallRejectedException extends BaseException {
+
+    public AiCallRejectedException(String details) {
+        super(ErrorCode.COMMON_AI_CALL_REJECTED, details);
+    }
+
+}
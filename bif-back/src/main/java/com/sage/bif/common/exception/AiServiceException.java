@@ -0,0 +1,19 @@
+package com.sage.bif.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class AiServiceException extends BaseException {
+
+    private final boolean retryable;
+    private final transient Duration retryAfter;
+
+    public AiServiceException(ErrorCode errorCode, Object details, boolean retryable, Duration retryAfter) {
+        super(errorCode, details);
+        this.retryable = retryable;
+        this.retryAfter = retryAfter;
+    }
+
+}
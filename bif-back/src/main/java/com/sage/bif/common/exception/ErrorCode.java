@@ -42,6 +42,7 @@ public enum ErrorCode {
     COMMON_DATA_VERSION_CONFLICT(HttpStatus.CONFLICT, "DATA_VERSION_CONFLICT", "데이터 버전 충돌이 발생했습니다."),
 
     COMMON_AI_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI_SERVICE_UNAVAILABLE", "AI 서비스를 사용할 수 없습니다."),
+    COMMON_AI_CALL_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "AI_CALL_REJECTED", "AI 요청이 많아 잠시 후 다시 시도해주세요."),
     COMMON_AI_REQUEST_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI_REQUEST_FAILED", "AI 서비스 요청에 실패했습니다."),
     COMMON_AI_RESPONSE_INVALID(HttpStatus.BAD_GATEWAY, "AI_RESPONSE_INVALID", "AI 서비스 응답이 올바르지 않습니다."),
     COMMON_AI_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "AI_QUOTA_EXCEEDED", "AI 서비스 사용량이 초과되었습니다."),
@@ -0,0 +1,32 @@
+package com.sage.bif.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MONTHLY_STATS_CACHE = "monthlyStats";
+    public static final String GUARDIAN_STATS_CACHE = "guardianStats";
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats());
+        cacheManager.setCacheNames(List.of(MONTHLY_STATS_CACHE, GUARDIAN_STATS_CACHE));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.sage.bif.config;
+
+import com.sage.bif.common.client.http.OutboundHttpClients;
+import com.sage.bif.common.client.http.OutboundIntegration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 외부 연동 호출은 하나의 JDK HttpClient를 공유해 keep-alive 커넥션을 재사용하고, 지원하는 호스트와는 HTTP/2로 통신한다.
+@Configuration
+public class HttpClientConfig {
+
+    private static final String TIMEOUT_PROPERTY = "outbound-http.read-timeout-ms.";
+
+    @Value("${outbound-http.connect-timeout-ms:10000}")
+    private long connectTimeoutMs;
+
+    @Value("${outbound-http.read-timeout-ms.default:30000}")
+    private long defaultReadTimeoutMs;
+
+    @Bean
+    public HttpClient outboundHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Bean
+    public OutboundHttpClients outboundHttpClients(HttpClient outboundHttpClient,
+                                                   RestTemplateBuilder restTemplateBuilder,
+                                                   MeterRegistry meterRegistry,
+                                                   Environment environment) {
+        final Map<OutboundIntegration, RestTemplate> templates = new EnumMap<>(OutboundIntegration.class);
+
+        for (OutboundIntegration integration : OutboundIntegration.values()) {
+            final long readTimeoutMs = environment.getProperty(TIMEOUT_PROPERTY + integration.getKey(), Long.class, defaultReadTimeoutMs);
+            final JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(outboundHttpClient);
+            factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+            templates.put(integration, restTemplateBuilder
+                    .requestFactory(() -> factory)
+                    .additionalInterceptors(inFlightInterceptor(integration, meterRegistry))
+                    .build());
+        }
+
+        return new OutboundHttpClients(templates);
+    }
+
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(OutboundHttpClients outboundHttpClients) {
+        return outboundHttpClients.get(OutboundIntegration.DEFAULT);
+    }
+
+    private ClientHttpRequestInterceptor inFlightInterceptor(OutboundIntegration integration, MeterRegistry meterRegistry) {
+        final AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("outbound.http.in-flight", inFlight, AtomicInteger::get)
+                .description("연동별 진행 중인 외부 HTTP 요청 수")
+                .tag("integration", integration.getKey())
+                .register(meterRegistry);
+
+        return (request, body, execution) -> {
+            inFlight.incrementAndGet();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+}
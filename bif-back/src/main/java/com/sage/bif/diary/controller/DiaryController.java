@@ -1,5 +1,7 @@
 package com.sage.bif.diary.controller;
 
+import com.sage.bif.common.client.http.OutboundHttpClients;
+import com.sage.bif.common.client.http.OutboundIntegration;
 import com.sage.bif.common.dto.CustomUserDetails;
 import com.sage.bif.diary.dto.request.DiaryRequest;
 import com.sage.bif.diary.dto.request.DiaryUpdateRequest;
@@ -22,7 +24,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -39,7 +40,7 @@ public class DiaryController {
     private static final String SUCCESS_FIELD = "success";
     private static final String ERROR_FIELD = "error";
     private static final String ERROR_TYPE_FIELD = "errorType";
-    private final RestTemplate restTemplate;
+    private final OutboundHttpClients outboundHttpClients;
 
     @Value("${spring.ai.azure.speech-service.api-key:}")
     private String apiKey;
@@ -105,7 +106,7 @@ public class DiaryController {
             headers.set("Ocp-Apim-Subscription-Key",subscriptionKey);
 
             HttpEntity<String> entity= new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(tokenUrl, entity, String.class);
+            ResponseEntity<String> response = outboundHttpClients.get(OutboundIntegration.SPEECH).postForEntity(tokenUrl, entity, String.class);
 
             Map<String, String> result = new HashMap<>();
             result.put("token",response.getBody());
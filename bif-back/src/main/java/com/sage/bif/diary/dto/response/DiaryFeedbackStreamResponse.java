@@ -0,0 +1,19 @@
+package com.sage.bif.diary.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+public class DiaryFeedbackStreamResponse {
+
+    private UUID diaryId;
+    private String delta;
+    private String content;
+    private boolean done;
+    private boolean contentFlagged;
+    private String contentFlaggedCategories;
+
+}
@@ -20,6 +20,7 @@ public class DiaryResponse {
     private String content;
     private Long userId;
     private String aiFeedback;
+    private boolean aiFeedbackPending;
     private boolean contentFlagged;
     private String contentFlaggedCategories;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSSS")
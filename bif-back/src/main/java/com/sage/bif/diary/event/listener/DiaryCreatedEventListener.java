@@ -1,28 +1,28 @@
 package com.sage.bif.diary.event.listener;
 
 import com.sage.bif.diary.event.model.DiaryCreatedEvent;
-import com.sage.bif.stats.service.StatsService;
+import com.sage.bif.stats.service.StatsUpdateWorker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DiaryCreatedEventListener {
 
-    private final StatsService statsService;
+    private final StatsUpdateWorker statsUpdateWorker;
 
-    @EventListener
-    @Async
+    // 통계 갱신 작업은 일기 트랜잭션이 커밋된 뒤에 넣어 롤백된 변경이나 커밋 전 데이터를 읽지 않게 한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleDiaryCreated(DiaryCreatedEvent event) {
         try {
             log.info("일기 생성 이벤트 처리 시작 - BIF ID: {}, 일기 내용 길이: {}", 
                     event.getBifId(), event.getContent().length());
             
-            statsService.updateStatsWithKeywords(event.getBifId(), event.getContent());
+            statsUpdateWorker.diaryCreated(event.getBifId(), event.getContent());
             
             log.info("일기 생성 이벤트 처리 완료 - BIF ID: {}", event.getBifId());
             
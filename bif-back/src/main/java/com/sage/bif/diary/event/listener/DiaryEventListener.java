@@ -1,9 +1,11 @@
 package com.sage.bif.diary.event.listener;
 
+import com.sage.bif.diary.entity.Diary;
 import com.sage.bif.diary.event.model.DiaryCreatedEvent;
 import com.sage.bif.diary.event.model.DiaryUpdatedEvent;
 import com.sage.bif.diary.event.model.DiaryDeletedEvent;
 import com.sage.bif.stats.event.model.StatsUpdateEvent;
+import com.sage.bif.stats.util.ContentHasher;
 // import com.sage.bif.common.service.RedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,7 @@ import java.time.LocalDate;
 public class DiaryEventListener {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final ContentHasher contentHasher;
     // private final RedisService redisService;
 
     @EventListener
@@ -44,10 +47,18 @@ public class DiaryEventListener {
         try {
             // invalidateAllDiaryCache(event.getDiary().getUser().getBifId()); // Redis 캐시 무효화 주석 처리
 
-            if (!event.getPreviousContent().equals(event.getDiary().getContent())) {
-                log.info("Diary content changed significantly for diary: {}", event.getDiary().getId());
+            final Diary diary = event.getDiary();
+            final String previousContentHash = contentHasher.hash(event.getPreviousContent());
+            final String contentHash = contentHasher.hash(diary.getContent());
 
-                publishStatsEvent(event.getDiary().getUser().getBifId(), "DIARY_UPDATED", "일기 수정으로 인한 통계 업데이트");
+            if (!previousContentHash.equals(contentHash) || event.getPreviousEmotion() != diary.getEmotion()) {
+                log.info("Diary content changed significantly for diary: {}", diary.getId());
+
+                eventPublisher.publishEvent(new StatsUpdateEvent(this, diary.getUser().getBifId(), diary.getContent(),
+                        StatsUpdateEvent.EventType.DIARY_UPDATED, diary.getId(), diary.getCreatedAt(),
+                        event.getPreviousEmotion(), diary.getEmotion(), previousContentHash, contentHash));
+                log.info("Stats update event published: User={}, Type={}, Diary={}",
+                        diary.getUser().getBifId(), StatsUpdateEvent.EventType.DIARY_UPDATED, diary.getId());
             }
 
         } catch (Exception e) {
@@ -63,7 +74,11 @@ public class DiaryEventListener {
         try {
             // invalidateAllDiaryCache(event.getUserId()); // Redis 캐시 무효화 주석 처리
 
-            publishStatsEvent(event.getUserId(), "DIARY_DELETED", "일기 삭제로 인한 통계 업데이트");
+            eventPublisher.publishEvent(new StatsUpdateEvent(this, event.getUserId(), "",
+                    StatsUpdateEvent.EventType.DIARY_DELETED, event.getDiaryId(), event.getCreatedAt(),
+                    null, null, contentHasher.hash(event.getDeletedContent()), null));
+            log.info("Stats update event published: User={}, Type={}, Diary={}",
+                    event.getUserId(), StatsUpdateEvent.EventType.DIARY_DELETED, event.getDiaryId());
 
         } catch (Exception e) {
             log.error("Error in handleDiaryDeleted: {}", e.getMessage(), e);
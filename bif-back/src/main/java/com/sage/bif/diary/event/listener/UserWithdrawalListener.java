@@ -1,7 +1,6 @@
 package com.sage.bif.diary.event.listener;
 
 // import com.sage.bif.common.service.RedisService;
-import com.sage.bif.diary.entity.Diary;
 import com.sage.bif.diary.repository.AiFeedbackRepository;
 import com.sage.bif.diary.repository.DiaryRepository;
 import com.sage.bif.user.event.model.UserWithdrawalEvent;
@@ -47,23 +46,19 @@ public class UserWithdrawalListener {
 
     private void deleteUserDiaryData(Long bifId) {
         try {
-            var diaries = diaryRepository.findByUserId(bifId);
-            log.info("삭제할 diary 수: {} - UserId: {}", diaries.size(), bifId);
+            List<Long> diaryIds = diaryRepository.findIdsByUserId(bifId);
+            log.info("삭제할 diary 수: {} - UserId: {}", diaryIds.size(), bifId);
 
-            if (diaries.isEmpty()) {
+            if (diaryIds.isEmpty()) {
                 log.info("삭제할 diary가 없습니다 - UserId: {}", bifId);
                 return;
             }
 
-            List<Long> diaryIds = diaries.stream()
-                    .map(Diary::getId)
-                    .toList();
-
             int deletedAiFeedbacks = aiFeedbackRepository.deleteByDiaryIds(diaryIds);
             log.info("AI 피드백 일괄 삭제 완료 - 삭제된 수: {}", deletedAiFeedbacks);
 
-            diaryRepository.deleteAll(diaries);
-            log.info("사용자 diary 일괄 삭제 완료 - UserId: {}, 삭제된 diary 수: {}", bifId, diaries.size());
+            diaryRepository.deleteAllByIdInBatch(diaryIds);
+            log.info("사용자 diary 일괄 삭제 완료 - UserId: {}, 삭제된 diary 수: {}", bifId, diaryIds.size());
 
             // clearUserDiaryCache(bifId); // Redis 캐시 삭제 로직 주석 처리
 
@@ -1,19 +1,26 @@
 package com.sage.bif.diary.event.model;
 
+import com.sage.bif.diary.model.Emotion;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class DiaryCreatedEvent extends ApplicationEvent {
     
     private final Long bifId;
     private final String content;
     private final Long diaryId;
+    private final Emotion emotion;
+    private final LocalDateTime createdAt;
     
-    public DiaryCreatedEvent(Object source, Long bifId, String content, Long diaryId) {
+    public DiaryCreatedEvent(Object source, Long bifId, String content, Long diaryId, Emotion emotion, LocalDateTime createdAt) {
         super(source);
         this.bifId = bifId;
         this.content = content;
         this.diaryId = diaryId;
+        this.emotion = emotion;
+        this.createdAt = createdAt;
     }
 }
@@ -3,6 +3,8 @@ package com.sage.bif.diary.event.model;
 import com.sage.bif.common.event.model.BaseEvent;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class DiaryDeletedEvent extends BaseEvent {
 
@@ -10,21 +12,24 @@ public class DiaryDeletedEvent extends BaseEvent {
     private final Long userId;
     private final String deletedContent;
     private final String emotion;
+    private final LocalDateTime createdAt;
 
-    public DiaryDeletedEvent(Object source, Long diaryId, Long userId, String deletedContent, String emotion) {
+    public DiaryDeletedEvent(Object source, Long diaryId, Long userId, String deletedContent, String emotion, LocalDateTime createdAt) {
         super(source);
         this.diaryId = diaryId;
         this.userId = userId;
         this.deletedContent = deletedContent;
         this.emotion = emotion;
+        this.createdAt = createdAt;
     }
 
-    public DiaryDeletedEvent(Object source, Long diaryId, Long userId, String deletedContent, String emotion, String correlationId) {
+    public DiaryDeletedEvent(Object source, Long diaryId, Long userId, String deletedContent, String emotion, LocalDateTime createdAt, String correlationId) {
         super(source, correlationId);
         this.diaryId = diaryId;
         this.userId = userId;
         this.deletedContent = deletedContent;
         this.emotion = emotion;
+        this.createdAt = createdAt;
     }
 
     @Override
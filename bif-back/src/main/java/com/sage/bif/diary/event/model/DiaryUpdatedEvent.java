@@ -2,6 +2,7 @@ package com.sage.bif.diary.event.model;
 
 import com.sage.bif.common.event.model.BaseEvent;
 import com.sage.bif.diary.entity.Diary;
+import com.sage.bif.diary.model.Emotion;
 import lombok.Getter;
 
 @Getter
@@ -9,17 +10,20 @@ public class DiaryUpdatedEvent extends BaseEvent {
 
     private final Diary diary;
     private final String previousContent;
+    private final Emotion previousEmotion;
 
-    public DiaryUpdatedEvent(Object source, Diary diary, String previousContent) {
+    public DiaryUpdatedEvent(Object source, Diary diary, String previousContent, Emotion previousEmotion) {
         super(source);
         this.diary = diary;
         this.previousContent = previousContent;
+        this.previousEmotion = previousEmotion;
     }
 
-    public DiaryUpdatedEvent(Object source, Diary diary, String previousContent, String correlationId) {
+    public DiaryUpdatedEvent(Object source, Diary diary, String previousContent, Emotion previousEmotion, String correlationId) {
         super(source, correlationId);
         this.diary = diary;
         this.previousContent = previousContent;
+        this.previousEmotion = previousEmotion;
     }
 
     @Override
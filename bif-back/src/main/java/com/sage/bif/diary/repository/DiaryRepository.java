@@ -1,6 +1,9 @@
 package com.sage.bif.diary.repository;
 
 import com.sage.bif.diary.entity.Diary;
+import com.sage.bif.diary.repository.projection.DiaryDayView;
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import com.sage.bif.diary.repository.projection.EmotionCountView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,4 +31,24 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
     List<Diary> findByUserId(@Param("userId") Long userId);
 
     Optional<Diary> findByUuid(UUID uuid);
+
+    Optional<Diary> findFirstByUser_BifIdAndIsDeletedFalseOrderByCreatedAtDesc(Long userId);
+
+    @Query("SELECT d.id FROM Diary d WHERE d.user.bifId = :userId AND d.isDeleted = false")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT d.uuid AS uuid, d.createdAt AS createdAt, d.emotion AS emotion FROM Diary d WHERE d.user.bifId = :userId AND d.createdAt >= :startDate AND d.createdAt < :endDate AND d.isDeleted = false ORDER BY d.createdAt DESC")
+    List<DiaryDayView> findDaysByUserIdAndDateBetween(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT d.emotion AS emotion, COUNT(d) AS count FROM Diary d WHERE d.user.bifId = :userId AND d.createdAt >= :startDate AND d.createdAt < :endDate AND d.isDeleted = false GROUP BY d.emotion")
+    List<EmotionCountView> countEmotionsByUserIdAndDateBetween(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT d.createdAt AS createdAt, d.emotion AS emotion FROM Diary d WHERE d.user.bifId = :userId AND d.createdAt >= :startDate AND d.createdAt < :endDate AND d.isDeleted = false ORDER BY d.createdAt ASC")
+    List<DiaryEmotionView> findEmotionsByUserIdAndDateBetween(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT d.createdAt AS createdAt, d.emotion AS emotion FROM Diary d WHERE d.user.bifId = :userId AND d.isDeleted = false ORDER BY d.createdAt ASC")
+    List<DiaryEmotionView> findEmotionsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(d) FROM Diary d WHERE d.user.bifId = :userId AND d.createdAt >= :startDate AND d.createdAt < :endDate AND d.isDeleted = false")
+    long countByUserIdAndDateBetween(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 }
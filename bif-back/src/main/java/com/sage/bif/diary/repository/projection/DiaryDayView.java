@@ -0,0 +1,16 @@
+package com.sage.bif.diary.repository.projection;
+
+import com.sage.bif.diary.model.Emotion;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface DiaryDayView {
+
+    UUID getUuid();
+
+    LocalDateTime getCreatedAt();
+
+    Emotion getEmotion();
+
+}
@@ -0,0 +1,13 @@
+package com.sage.bif.diary.repository.projection;
+
+import com.sage.bif.diary.model.Emotion;
+
+import java.time.LocalDateTime;
+
+public interface DiaryEmotionView {
+
+    LocalDateTime getCreatedAt();
+
+    Emotion getEmotion();
+
+}
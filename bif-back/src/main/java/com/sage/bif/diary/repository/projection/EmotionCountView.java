@@ -0,0 +1,11 @@
+package com.sage.bif.diary.repository.projection;
+
+import com.sage.bif.diary.model.Emotion;
+
+public interface EmotionCountView {
+
+    Emotion getEmotion();
+
+    Long getCount();
+
+}
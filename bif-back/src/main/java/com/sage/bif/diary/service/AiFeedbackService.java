@@ -1,22 +1,40 @@
 package com.sage.bif.diary.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sage.bif.common.client.ai.AiServiceClient;
 import com.sage.bif.common.client.ai.AzureContentSafetyClient;
 import com.sage.bif.common.client.ai.dto.AiRequest;
 import com.sage.bif.common.client.ai.dto.AiResponse;
 import com.sage.bif.common.client.ai.dto.ModerationResponse;
 import com.sage.bif.common.client.ai.AiSettings;
+import com.sage.bif.common.exception.AiCallRejectedException;
 import com.sage.bif.common.exception.BaseException;
+import com.sage.bif.diary.dto.response.DiaryFeedbackStreamResponse;
 import com.sage.bif.diary.entity.AiFeedback;
 import com.sage.bif.diary.entity.Diary;
 import com.sage.bif.diary.model.Emotion;
 import com.sage.bif.diary.repository.AiFeedbackRepository;
+import com.sage.bif.notification.service.SseNotificationService;
+import com.sage.bif.stats.service.AiEmotionAnalysisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,9 +42,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AiFeedbackService {
 
+    private static final String FEEDBACK_STREAM_EVENT = "diary-feedback";
+
     private final AiFeedbackRepository aiFeedbackRepository;
     private final AiServiceClient aiModelClient;
     private final AzureContentSafetyClient contentSafetyClient;
+    private final AiEmotionAnalysisService aiEmotionAnalysisService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final SseNotificationService sseNotificationService;
+
+    @Value("${diary.ai.combined-analysis-enabled:true}")
+    private boolean combinedAnalysisEnabled;
 
     public AiFeedback createAiFeedback(Diary diary) {
         AiFeedback feedback = AiFeedback.builder()
@@ -41,10 +68,15 @@ public class AiFeedbackService {
     public void generateAiFeedbackAll(Diary diary, AiFeedback feedback) {
         
         log.info("AI 피드백 생성 메서드 시작 - 일기 ID: {}", diary.getId());
-        
+
+        // 유해성 검사와 피드백 생성은 서로 독립적이므로 동시에 진행하고, 유해 판정 시 생성 요청을 취소한다.
+        AtomicReference<PrecomputedAnalysis> analysis = new AtomicReference<>();
+        CompletableFuture<AiResponse> pendingFeedback = requestAiFeedback(diary.getContent(), diary.getEmotion(), analysis);
+
         checkModeration(diary.getContent(), feedback, diary.getUser().getBifId(), diary.getId());
         
         if (feedback.isContentFlagged()) {
+            pendingFeedback.cancel(true);
             log.info("유해한 콘텐츠로 인해 AI 피드백 생성을 건너뜀 - 일기 ID: {}, 카테고리: {}", 
                 diary.getId(), feedback.getContentFlaggedCategories());
 
@@ -52,7 +84,9 @@ public class AiFeedbackService {
             return;
         }
 
-        String aiFeedbackContent = generateAiFeedback(diary.getContent(), diary.getEmotion(), feedback);
+        String aiFeedbackContent = awaitAiFeedback(pendingFeedback, diary.getContent(), feedback);
+        // 통합 응답의 분석 결과는 유해성 검사를 통과한 뒤에만 캐시에 남긴다
+        recordPrecomputedAnalysis(diary.getUser().getBifId(), diary.getContent(), feedback, analysis.get());
 
         feedback.setContent(aiFeedbackContent);
         aiFeedbackRepository.save(feedback);
@@ -166,30 +200,217 @@ public class AiFeedbackService {
         }
     }
 
-    public String generateAiFeedback(String content, Emotion emotion, AiFeedback feedback) {
+    // 유해성 검사를 거치지 않는 경로이므로 통합 응답의 분석 결과는 기록하지 않는다.
+    public String generateAiFeedback(Long bifId, String content, Emotion emotion, AiFeedback feedback) {
+        return awaitAiFeedback(requestAiFeedback(content, emotion, new AtomicReference<>()), content, feedback);
+    }
+
+    public AiFeedback createPendingAiFeedback(Diary diary) {
+        return aiFeedbackRepository.save(AiFeedback.builder()
+            .diary(diary)
+            .content(null)
+            .build());
+    }
+
+    // 유해성 검사 후 피드백을 스트리밍으로 받아 SSE로 전달하고, 스트림이 끝나면 전체 텍스트를 저장한다.
+    @Async("eventTaskExecutor")
+    public void streamAiFeedback(Long feedbackId, UUID diaryUuid, Long bifId, Long diaryId, String content, Emotion emotion) {
+        AiFeedback feedback = aiFeedbackRepository.findById(feedbackId).orElse(null);
+        if (feedback == null) {
+            log.warn("스트리밍할 AI 피드백이 없습니다 - 피드백 ID: {}", feedbackId);
+            return;
+        }
+
+        checkModeration(content, feedback, bifId, diaryId);
+        if (feedback.isContentFlagged()) {
+            log.info("유해한 콘텐츠로 인해 AI 피드백 스트리밍을 건너뜀 - 일기 ID: {}", diaryId);
+            aiFeedbackRepository.save(feedback);
+            sendFeedbackStreamDone(bifId, diaryUuid, feedback);
+            return;
+        }
+
+        Timer.Sample firstToken = Timer.start(meterRegistry);
+        AtomicBoolean firstTokenRecorded = new AtomicBoolean();
+
+        aiModelClient.generateStream(new AiRequest(buildUserPrompt(content, emotion)), AiSettings.DIARY_FEEDBACK, delta -> {
+                    if (firstTokenRecorded.compareAndSet(false, true)) {
+                        firstToken.stop(meterRegistry.timer("diary.ai.feedback.first-token"));
+                    }
+                    sseNotificationService.sendTransient(bifId, FEEDBACK_STREAM_EVENT, DiaryFeedbackStreamResponse.builder()
+                        .diaryId(diaryUuid)
+                        .delta(delta)
+                        .build());
+                })
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        log.warn("AI 피드백 스트리밍 실패 - 일반 호출로 다시 생성합니다. 일기 ID: {}, 에러: {}", diaryId, e.getMessage());
+                        completeWithoutStream(feedback, bifId, diaryUuid, diaryId, content, emotion);
+                        return;
+                    }
+                    try {
+                        feedback.setContent(response.getContent());
+                        aiFeedbackRepository.save(feedback);
+                        log.info("AI 피드백 스트리밍 완료 - 일기 ID: {}", diaryId);
+                        sendFeedbackStreamDone(bifId, diaryUuid, feedback);
+                    } catch (Exception saveException) {
+                        log.error("AI 피드백 스트리밍 결과 저장 실패 - 일기 ID: {}", diaryId, saveException);
+                    }
+                });
+    }
+
+    // 스트리밍 작업을 대기열에 넣지 못했을 때 대기 중인 피드백 행을 일반 호출로 채우고 완료를 알린다.
+    public void completePendingAiFeedback(Long feedbackId, Diary diary) {
+        AiFeedback feedback = aiFeedbackRepository.findById(feedbackId).orElse(null);
+        if (feedback == null) {
+            log.warn("채울 AI 피드백이 없습니다 - 피드백 ID: {}", feedbackId);
+            return;
+        }
+
+        generateAiFeedbackAll(diary, feedback);
+        sendFeedbackStreamDone(diary.getUser().getBifId(), diary.getUuid(), feedback);
+    }
+
+    // 스트림이 거절되거나 끊겨도 대기 중인 피드백 행은 지우지 않고, 격벽 대기와 재시도가 있는 일반 호출로 채운다.
+    private void completeWithoutStream(AiFeedback feedback, Long bifId, UUID diaryUuid, Long diaryId, String content, Emotion emotion) {
+        AtomicReference<PrecomputedAnalysis> analysis = new AtomicReference<>();
+        CompletableFuture<AiResponse> pendingFeedback = requestAiFeedback(content, emotion, analysis);
+
+        pendingFeedback.whenComplete((response, e) -> {
+            try {
+                String aiFeedbackContent = awaitAiFeedback(pendingFeedback, content, feedback);
+                recordPrecomputedAnalysis(bifId, content, feedback, analysis.get());
+                feedback.setContent(aiFeedbackContent);
+                aiFeedbackRepository.save(feedback);
+                log.info("AI 피드백 일반 호출 대체 완료 - 일기 ID: {}", diaryId);
+                sendFeedbackStreamDone(bifId, diaryUuid, feedback);
+            } catch (Exception saveException) {
+                log.error("AI 피드백 대체 결과 저장 실패 - 일기 ID: {}", diaryId, saveException);
+            }
+        });
+    }
+
+    private void sendFeedbackStreamDone(Long bifId, UUID diaryUuid, AiFeedback feedback) {
+        sseNotificationService.sendTransient(bifId, FEEDBACK_STREAM_EVENT, DiaryFeedbackStreamResponse.builder()
+            .diaryId(diaryUuid)
+            .content(feedback.getContent())
+            .done(true)
+            .contentFlagged(feedback.isContentFlagged())
+            .contentFlaggedCategories(feedback.getContentFlaggedCategories())
+            .build());
+    }
+
+    private String buildUserPrompt(String content, Emotion emotion) {
+        if (emotion == null) {
+            return content;
+        }
+        return String.format("감정: %s%n%n일기 내용:%n%s", 
+            emotion.name(), content);
+    }
+
+    private CompletableFuture<AiResponse> requestAiFeedback(String content, Emotion emotion,
+                                                            AtomicReference<PrecomputedAnalysis> analysis) {
+        AiRequest request = new AiRequest(buildUserPrompt(content, emotion));
+        if (!combinedAnalysisEnabled) {
+            return aiModelClient.generateAsync(request, AiSettings.DIARY_FEEDBACK);
+        }
+
+        // 피드백, 키워드, 감정 점수를 한 번의 호출로 받고, 형식이 맞지 않으면 기존 피드백 호출로 되돌아간다.
+        AtomicReference<CompletableFuture<AiResponse>> inFlight =
+                new AtomicReference<>(aiModelClient.generateAsync(request, AiSettings.DIARY_FEEDBACK_WITH_ANALYSIS));
+        CompletableFuture<AiResponse> pendingFeedback = inFlight.get()
+                .thenCompose(response -> {
+                    Optional<String> feedbackText = fanOutCombinedResponse(response.getContent(), analysis);
+                    if (feedbackText.isPresent()) {
+                        meterRegistry.counter("diary.ai.combined", "result", "parsed").increment();
+                        return CompletableFuture.completedFuture(new AiResponse(feedbackText.get()));
+                    }
+
+                    meterRegistry.counter("diary.ai.combined", "result", "fallback").increment();
+                    return inFlight.updateAndGet(previous -> aiModelClient.generateAsync(request, AiSettings.DIARY_FEEDBACK));
+                });
+
+        // thenCompose 단계를 취소해도 앞선 호출까지 전달되지 않으므로 진행 중인 호출을 직접 취소한다.
+        pendingFeedback.whenComplete((response, e) -> {
+            if (pendingFeedback.isCancelled()) {
+                inFlight.get().cancel(true);
+            }
+        });
+        return pendingFeedback;
+    }
+
+    private Optional<String> fanOutCombinedResponse(String response, AtomicReference<PrecomputedAnalysis> analysis) {
         try {
-            String userPrompt = content;
-            if (emotion != null) {
-                userPrompt = String.format("감정: %s%n%n일기 내용:%n%s", 
-                    emotion.name(), content);
+            JsonNode root = objectMapper.readTree(stripCodeFence(response));
+            String feedbackText = root.path("feedback").asText("");
+            if (feedbackText.isBlank()) {
+                log.warn("통합 AI 응답에 피드백이 없어 개별 호출로 전환합니다.");
+                return Optional.empty();
             }
 
-            AiRequest request = new AiRequest(userPrompt);
-            AiResponse response = aiModelClient.generate(request, AiSettings.DIARY_FEEDBACK);
-            return response.getContent();
-            
-        } catch (BaseException e) {
-            log.error("AI 피드백 생성 BaseException - 콘텐츠: {}, 에러: {}", content, e.getMessage());
-            
-            parseOpenAiErrorAndSetFlag(e.getMessage(), feedback);
-            
-            return null;
+            List<String> keywords = new ArrayList<>();
+            root.path("keywords").forEach(keyword -> keywords.add(keyword.asText()));
+            JsonNode emotionScore = root.path("emotionScore");
+            if (!keywords.isEmpty() && emotionScore.isNumber()) {
+                analysis.set(new PrecomputedAnalysis(keywords, emotionScore.asDouble()));
+            }
+
+            return Optional.of(feedbackText);
+
+        } catch (Exception e) {
+            log.warn("통합 AI 응답 파싱 실패 - 개별 호출로 전환합니다. 에러: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void recordPrecomputedAnalysis(Long bifId, String content, AiFeedback feedback, PrecomputedAnalysis analysis) {
+        if (analysis == null || feedback.isContentFlagged()) {
+            return;
+        }
+        aiEmotionAnalysisService.recordPrecomputedAnalysis(bifId, content, analysis.keywords(), analysis.emotionScore());
+    }
+
+    private String stripCodeFence(String response) {
+        String trimmed = response == null ? "" : response.trim();
+        if (trimmed.startsWith("```")) {
+            trimmed = trimmed.replaceFirst("^```(?:json)?", "");
+            int end = trimmed.lastIndexOf("```");
+            if (end >= 0) {
+                trimmed = trimmed.substring(0, end);
+            }
+        }
+        return trimmed.trim();
+    }
+
+    private String awaitAiFeedback(CompletableFuture<AiResponse> pendingFeedback, String content, AiFeedback feedback) {
+        try {
+            return pendingFeedback.join().getContent();
+
+        } catch (CompletionException e) {
+            // 호출 전에 거절된 요청은 콘텐츠 문제가 아니므로 유해 판정 없이 피드백을 대기 상태로 남긴다.
+            if (e.getCause() instanceof AiCallRejectedException cause) {
+                log.warn("AI 피드백 요청이 거절되어 대기 상태로 남깁니다 - 에러: {}", cause.getDetails());
+                return null;
+            }
+            if (e.getCause() instanceof BaseException cause) {
+                log.error("AI 피드백 생성 BaseException - 콘텐츠: {}, 에러: {}", content, cause.getMessage());
+
+                parseOpenAiErrorAndSetFlag(cause.getMessage(), feedback);
+
+                return null;
+            }
+            return handleUnexpectedFeedbackError(e.getCause() != null ? e.getCause() : e, content);
         } catch (Exception e) {
-            log.error("=== generateAiFeedback 메서드에서 예상치 못한 예외 발생 ===");
-            log.error("AI 피드백 생성 예상치 못한 오류 - 콘텐츠: {}, 에러: {}", content, e.getMessage(), e);
-            log.error("예외 스택 트레이스:", e);
-            return "AI 피드백 생성 중 예상치 못한 오류가 발생했습니다.";
+            return handleUnexpectedFeedbackError(e, content);
         }
     }
 
+    private String handleUnexpectedFeedbackError(Throwable e, String content) {
+        log.error("=== generateAiFeedback 메서드에서 예상치 못한 예외 발생 ===");
+        log.error("AI 피드백 생성 예상치 못한 오류 - 콘텐츠: {}, 에러: {}", content, e.getMessage(), e);
+        return "AI 피드백 생성 중 예상치 못한 오류가 발생했습니다.";
+    }
+
+    private record PrecomputedAnalysis(List<String> keywords, double emotionScore) {
+    }
+
 }
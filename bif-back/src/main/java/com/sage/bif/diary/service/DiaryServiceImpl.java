@@ -14,17 +14,23 @@ import com.sage.bif.diary.entity.Diary;
 import com.sage.bif.diary.exception.DiaryNotFoundException;
 import com.sage.bif.diary.exception.BifAccessForbiddenException;
 import com.sage.bif.diary.exception.DiaryAlreadyExistsException;
+import com.sage.bif.diary.model.Emotion;
 import com.sage.bif.diary.repository.AiFeedbackRepository;
 import com.sage.bif.diary.repository.DiaryRepository;
+import com.sage.bif.diary.repository.projection.DiaryDayView;
 import com.sage.bif.user.entity.Bif;
 import com.sage.bif.user.repository.BifRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -43,6 +49,8 @@ import static com.sage.bif.common.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class DiaryServiceImpl implements DiaryService {
     
+    private static final Duration FEEDBACK_PENDING_TIMEOUT = Duration.ofMinutes(2);
+
     private final DiaryRepository diaryRepository;
     private final AiFeedbackRepository aiFeedbackRepository;
     private final BifRepository bifRepository;
@@ -51,6 +59,9 @@ public class DiaryServiceImpl implements DiaryService {
     private final AiFeedbackService aiFeedbackService;
     private final ApplicationEventPublisher eventPublisher;
 
+    @Value("${diary.ai.feedback-streaming-enabled:false}")
+    private boolean feedbackStreamingEnabled;
+
     @Override
     public MonthlySummaryResponse getMonthlySummary(Long bifId, MonthlySummaryRequest request) {
         // Redis 캐시 로직을 주석 처리하고 직접 DB에서 조회
@@ -97,7 +108,7 @@ public class DiaryServiceImpl implements DiaryService {
         LocalDateTime start = startDate.atStartOfDay();
         LocalDateTime end = start.plusMonths(1);
 
-        List<Diary> diaries = diaryRepository.findByUserIdAndDateBetween(bifId,start,end);
+        List<DiaryDayView> diaries = diaryRepository.findDaysByUserIdAndDateBetween(bifId,start,end);
 
         if(diaries.isEmpty()){
             return MonthlySummaryResponse.builder()
@@ -139,6 +150,10 @@ public class DiaryServiceImpl implements DiaryService {
             .content(null)
             .build();
 
+            aiFeedbackService.generateAiFeedbackAll(diary, feedback);
+        } else if (isFeedbackPending(feedback)
+                && feedback.getCreatedAt().isBefore(LocalDateTime.now().minus(FEEDBACK_PENDING_TIMEOUT))) {
+            // 스트리밍이 끝나지 않은 채 대기 시간이 지났다면 작업이 유실된 것으로 보고 다시 생성한다.
             aiFeedbackService.generateAiFeedbackAll(diary, feedback);
         }
 
@@ -148,6 +163,7 @@ public class DiaryServiceImpl implements DiaryService {
                 .userId(diary.getUser().getBifId())
                 .emotion(diary.getEmotion())
                 .aiFeedback(feedback.getContent())
+                .aiFeedbackPending(isFeedbackPending(feedback))
                 .contentFlagged(feedback.isContentFlagged())
                 .contentFlaggedCategories(feedback.getContentFlaggedCategories())
                 .createdAt(diary.getCreatedAt())
@@ -155,6 +171,11 @@ public class DiaryServiceImpl implements DiaryService {
                 .build();
     }
 
+    // 유해 판정 없이 내용이 비어 있는 피드백은 아직 생성 중이거나 생성 요청이 거절된 상태다.
+    private boolean isFeedbackPending(AiFeedback feedback) {
+        return feedback.getContent() == null && !feedback.isContentFlagged();
+    }
+
     @Override
     @Transactional
     public DiaryResponse createDiary(Long bifId, DiaryRequest request) {
@@ -175,9 +196,16 @@ public class DiaryServiceImpl implements DiaryService {
 
         Diary savedDiary = diaryRepository.save(diary);
         
-        AiFeedback feedback = aiFeedbackService.createAiFeedback(savedDiary);
+        AiFeedback feedback;
+        if (feedbackStreamingEnabled) {
+            feedback = aiFeedbackService.createPendingAiFeedback(savedDiary);
+            startFeedbackStreamAfterCommit(feedback.getId(), savedDiary, bifId);
+        } else {
+            feedback = aiFeedbackService.createAiFeedback(savedDiary);
+        }
 
-        DiaryCreatedEvent event = new DiaryCreatedEvent(this, bifId, savedDiary.getContent(), savedDiary.getId());
+        DiaryCreatedEvent event = new DiaryCreatedEvent(this, bifId, savedDiary.getContent(), savedDiary.getId(),
+                savedDiary.getEmotion(), savedDiary.getCreatedAt());
         eventPublisher.publishEvent(event);
 
         return DiaryResponse.builder()
@@ -186,6 +214,7 @@ public class DiaryServiceImpl implements DiaryService {
             .userId(bifId)
             .emotion(savedDiary.getEmotion())
             .aiFeedback(feedback.getContent())
+            .aiFeedbackPending(feedbackStreamingEnabled)
             .contentFlagged(feedback.isContentFlagged())
             .contentFlaggedCategories(feedback.getContentFlaggedCategories())
             .createdAt(savedDiary.getCreatedAt())
@@ -193,6 +222,34 @@ public class DiaryServiceImpl implements DiaryService {
             .build();
     }
 
+    // 일기 저장이 커밋된 뒤에 스트리밍을 시작해야 피드백 저장 시 일기와 피드백 행을 찾을 수 있다.
+    private void startFeedbackStreamAfterCommit(Long feedbackId, Diary diary, Long bifId) {
+        UUID diaryUuid = diary.getUuid();
+        Long diaryId = diary.getId();
+        String content = diary.getContent();
+        Emotion emotion = diary.getEmotion();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    aiFeedbackService.streamAiFeedback(feedbackId, diaryUuid, bifId, diaryId, content, emotion);
+                } catch (TaskRejectedException e) {
+                    log.warn("AI 피드백 스트리밍 작업이 거절되어 일반 호출로 생성합니다 - 일기 ID: {}", diaryId);
+                    completePendingFeedback(feedbackId, diary);
+                }
+            }
+        });
+    }
+
+    private void completePendingFeedback(Long feedbackId, Diary diary) {
+        try {
+            aiFeedbackService.completePendingAiFeedback(feedbackId, diary);
+        } catch (Exception e) {
+            log.error("대기 중인 AI 피드백 생성 실패 - 일기 ID: {}", diary.getId(), e);
+        }
+    }
+
     @Override
     @Transactional
     public DiaryResponse updateDiaryContent(Long bifId, String uuid, String content) {
@@ -204,6 +261,7 @@ public class DiaryServiceImpl implements DiaryService {
         }
 
         String previousContent = diary.getContent();
+        Emotion previousEmotion = diary.getEmotion();
         diary.setContent(content);
         diary.setUpdatedAt(LocalDateTime.now());
 
@@ -214,7 +272,7 @@ public class DiaryServiceImpl implements DiaryService {
                     .build();
         }
 
-        DiaryUpdatedEvent event = new DiaryUpdatedEvent(this, diary, previousContent);
+        DiaryUpdatedEvent event = new DiaryUpdatedEvent(this, diary, previousContent, previousEmotion);
         eventPublisher.publishEvent(event);
 
         return DiaryResponse.builder()
@@ -243,10 +301,11 @@ public class DiaryServiceImpl implements DiaryService {
         Long deletedDiaryId = diary.getId();
         String deletedContent = diary.getContent();
         String emotion = diary.getEmotion().toString();
+        LocalDateTime createdAt = diary.getCreatedAt();
 
         diary.setDeleted(true);
 
-        DiaryDeletedEvent event = new DiaryDeletedEvent(this, deletedDiaryId, bifId, deletedContent, emotion);
+        DiaryDeletedEvent event = new DiaryDeletedEvent(this, deletedDiaryId, bifId, deletedContent, emotion, createdAt);
         eventPublisher.publishEvent(event);
     }
 
@@ -74,6 +74,20 @@ public class SseNotificationService {
         }
     }
 
+    // 스트리밍처럼 재연결 시 다시 보낼 필요가 없는 이벤트는 캐시하지 않고 현재 연결에만 보낸다.
+    public void sendTransient(Long userId, String eventName, Object data) {
+        if (userId == null || data == null) {
+            return;
+        }
+
+        try {
+            Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByUserId(String.valueOf(userId));
+            emitters.forEach((key, emitter) -> sendToClient(emitter, key, eventName, data));
+        } catch (Exception e) {
+            log.error("SSE 이벤트 전송 중 예외 발생: userId={}, eventName={}", userId, eventName, e);
+        }
+    }
+
     private void sendToClient(SseEmitter emitter, String emitterId, String eventName, Object data) {
         try {
             emitter.send(SseEmitter.event()
@@ -1,5 +1,7 @@
 package com.sage.bif.simulation.service;
 
+import com.sage.bif.common.client.http.OutboundHttpClients;
+import com.sage.bif.common.client.http.OutboundIntegration;
 import com.sage.bif.common.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -37,6 +39,9 @@ import org.springframework.web.client.RestTemplate;
 @RequiredArgsConstructor
 public class SimulationServiceImpl implements SimulationService {
 
+    private static final String GOOGLE_TTS_SYNTHESIZE_URL = "https://texttospeech.googleapis.com/v1/text:synthesize";
+    private static final String GOOGLE_API_KEY_HEADER = "x-goog-api-key";
+
     private final SimulationRepository simulationRepository;
     private final SimulationStepRepository stepRepository;
     private final BifChoiceRepository choiceRepository;
@@ -44,6 +49,7 @@ public class SimulationServiceImpl implements SimulationService {
     private final SimulationRecommendationRepository recommendationRepository;
     private final GuardianRepository guardianRepository;
     private final BifRepository bifRepository;
+    private final OutboundHttpClients outboundHttpClients;
     @Value("${GOOGLE_TTS_API_KEY}")
     private String googleTtsApiKey;
 
@@ -301,13 +307,14 @@ public class SimulationServiceImpl implements SimulationService {
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        // API 키를 쿼리스트링에 넣으면 http.client.requests 메트릭의 uri 태그와 접근 로그에 남는다
+        headers.set(GOOGLE_API_KEY_HEADER, googleTtsApiKey);
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestData, headers);
 
-        RestTemplate restTemplate = new RestTemplate();
-        String url = "https://texttospeech.googleapis.com/v1/text:synthesize?key=" + googleTtsApiKey;
+        RestTemplate restTemplate = outboundHttpClients.get(OutboundIntegration.TTS);
 
         return restTemplate.exchange(
-                url,
+                GOOGLE_TTS_SYNTHESIZE_URL,
                 HttpMethod.POST,
                 entity,
                 new ParameterizedTypeReference<Map<String, Object>>() {}
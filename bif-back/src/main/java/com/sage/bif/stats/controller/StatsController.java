@@ -2,13 +2,17 @@ package com.sage.bif.stats.controller;
 
 import com.sage.bif.common.dto.ApiResponse;
 import com.sage.bif.stats.dto.GuardianStatsResponse;
+import com.sage.bif.stats.dto.StatsJobResponse;
+import com.sage.bif.stats.dto.StatsRangeResponse;
 import com.sage.bif.stats.dto.StatsResponse;
+import com.sage.bif.stats.entity.StatsMaintenanceJob;
+import com.sage.bif.stats.service.StatsMaintenanceJobService;
+import com.sage.bif.stats.service.StatsRangeService;
 import com.sage.bif.stats.service.StatsService;
-import com.sage.bif.stats.service.StatsServiceImpl;
 import com.sage.bif.common.dto.CustomUserDetails;
 import com.sage.bif.common.jwt.JwtTokenProvider;
-import com.sage.bif.user.entity.Guardian;
 import com.sage.bif.user.repository.GuardianRepository;
+import com.sage.bif.user.repository.projection.GuardianBifView;
 import com.sage.bif.common.exception.BaseException;
 import com.sage.bif.common.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,8 +23,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
-import java.time.format.DateTimeFormatter;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -39,6 +43,8 @@ import com.sage.bif.diary.repository.DiaryRepository;
 public class StatsController {
 
     private final StatsService statsService;
+    private final StatsRangeService statsRangeService;
+    private final StatsMaintenanceJobService statsMaintenanceJobService;
     private final GuardianRepository guardianRepository;
     private final StatsRepository statsRepository;
     private final DiaryRepository diaryRepository;
@@ -96,6 +102,38 @@ public class StatsController {
         }
     }
 
+    @GetMapping("/range")
+    @Operation(summary = "기간별 감정 통계 조회", description = "BIF 사용자의 월별 감정 개수와 전월 대비 증감을 기간 단위로 조회합니다. (yyyy-MM, 최대 24개월)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "통계 조회 성공",
+                    content = @Content(schema = @Schema(implementation = StatsRangeResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 조회 기간"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<ApiResponse<StatsRangeResponse>> getStatsRange(
+            @AuthenticationPrincipal final UserDetails userDetails,
+            @RequestParam final YearMonth from,
+            @RequestParam final YearMonth to) {
+
+        try {
+            final CustomUserDetails customUserDetails = validateAuthentication(userDetails);
+            validateBifRole(customUserDetails);
+
+            final StatsRangeResponse response = statsRangeService.getRange(customUserDetails.getBifId(), from, to);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (BaseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("기간별 통계 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("통계 조회 중 오류가 발생했습니다."));
+        }
+    }
+
     @GetMapping("/bif_stats")
     @Operation(summary = "보호자 통계 조회", description = "보호자가 연결된 BIF의 통계를 조회합니다.")
     @ApiResponses(value = {
@@ -113,27 +151,16 @@ public class StatsController {
             final CustomUserDetails customUserDetails = validateAuthentication(userDetails);
             validateGuardianRole(customUserDetails);
 
-            Guardian guardian = guardianRepository.findBySocialLogin_SocialId(customUserDetails.getSocialId())
+            final GuardianBifView guardian = guardianRepository.findBifViewBySocialId(customUserDetails.getSocialId())
                     .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND, "가디언 정보를 찾을 수 없습니다."));
 
-            if (!guardian.getBif().getBifId().equals(bifId)) {
+            if (!guardian.getBifId().equals(bifId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(ApiResponse.error("연결되지 않은 BIF의 통계는 조회할 수 없습니다."));
             }
 
-            final GuardianStatsResponse base = statsService.getGuardianStats(bifId);
-
-            final String joinDate = guardian.getCreatedAt() != null
-                    ? guardian.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                    : "";
-
-            final GuardianStatsResponse response = GuardianStatsResponse.builder()
-                    .bifNickname(base.getBifNickname())
-                    .advice(base.getAdvice())
-                    .guardianJoinDate(joinDate)
-                    .emotionRatio(base.getEmotionRatio())
-                    .monthlyChange(base.getMonthlyChange())
-                    .build();
+            final GuardianStatsResponse response = statsService.getGuardianStats(
+                    bifId, guardian.getBifNickname(), guardian.getGuardianCreatedAt());
 
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
@@ -151,13 +178,14 @@ public class StatsController {
     }
 
     @PostMapping("/force-regenerate/{bifId}")
-    @Operation(summary = "통계 데이터 강제 재생성", description = "BIF 사용자의 통계 데이터를 강제로 재생성하고 캐시를 무효화합니다.")
+    @Operation(summary = "통계 데이터 강제 재생성", description = "BIF 사용자의 통계 데이터 강제 재생성 작업을 백그라운드로 등록합니다.")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "통계 재생성 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "재생성 작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = StatsJobResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
     })
-    public ResponseEntity<ApiResponse<String>> forceRegenerateStats(
+    public ResponseEntity<ApiResponse<StatsJobResponse>> forceRegenerateStats(
             @AuthenticationPrincipal final UserDetails userDetails,
             @PathVariable final Long bifId) {
 
@@ -165,26 +193,31 @@ public class StatsController {
             final CustomUserDetails customUserDetails = validateAuthentication(userDetails);
             validateBifRole(customUserDetails);
 
-            statsService.forceRegenerateStats(bifId);
-            return ResponseEntity.ok(ApiResponse.success("통계 데이터가 성공적으로 재생성되었습니다."));
+            final StatsJobResponse job = statsMaintenanceJobService.submit(
+                    StatsMaintenanceJob.Type.FORCE_REGENERATE, bifId, customUserDetails.getSocialId(),
+                    customUserDetails.getBifId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(job));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error(e.getMessage()));
+        } catch (BaseException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("통계 데이터 강제 재생성 중 오류 발생: {}", e.getMessage(), e);
+            log.error("통계 데이터 강제 재생성 작업 등록 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("통계 재생성 중 오류가 발생했습니다."));
+                    .body(ApiResponse.error("통계 재생성 작업 등록 중 오류가 발생했습니다."));
         }
     }
 
     @PostMapping("/cleanup-keywords/{bifId}")
-    @Operation(summary = "잘못된 키워드 정리", description = "BIF 사용자의 통계에서 잘못된 키워드들을 정리합니다.")
+    @Operation(summary = "잘못된 키워드 정리", description = "BIF 사용자의 잘못된 키워드 정리 작업을 백그라운드로 등록합니다.")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "키워드 정리 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "키워드 정리 작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = StatsJobResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
     })
-    public ResponseEntity<ApiResponse<String>> cleanupInvalidKeywords(
+    public ResponseEntity<ApiResponse<StatsJobResponse>> cleanupInvalidKeywords(
             @AuthenticationPrincipal final UserDetails userDetails,
             @PathVariable final Long bifId) {
 
@@ -192,26 +225,31 @@ public class StatsController {
             final CustomUserDetails customUserDetails = validateAuthentication(userDetails);
             validateBifRole(customUserDetails);
 
-            ((StatsServiceImpl) statsService).cleanupInvalidKeywords(bifId);
-            return ResponseEntity.ok(ApiResponse.success("잘못된 키워드가 성공적으로 정리되었습니다."));
+            final StatsJobResponse job = statsMaintenanceJobService.submit(
+                    StatsMaintenanceJob.Type.CLEANUP_KEYWORDS, bifId, customUserDetails.getSocialId(),
+                    customUserDetails.getBifId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(job));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error(e.getMessage()));
+        } catch (BaseException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("키워드 정리 중 오류 발생: {}", e.getMessage(), e);
+            log.error("키워드 정리 작업 등록 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("키워드 정리 중 오류가 발생했습니다."));
+                    .body(ApiResponse.error("키워드 정리 작업 등록 중 오류가 발생했습니다."));
         }
     }
 
     @PostMapping("/reset-keywords/{bifId}")
-    @Operation(summary = "키워드 데이터 초기화", description = "BIF 사용자의 키워드 데이터를 초기화합니다.")
+    @Operation(summary = "키워드 데이터 초기화", description = "BIF 사용자의 키워드 데이터 초기화 작업을 백그라운드로 등록합니다.")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "키워드 초기화 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "키워드 초기화 작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = StatsJobResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
     })
-    public ResponseEntity<ApiResponse<String>> resetKeywords(
+    public ResponseEntity<ApiResponse<StatsJobResponse>> resetKeywords(
             @AuthenticationPrincipal final UserDetails userDetails,
             @PathVariable final Long bifId) {
 
@@ -219,15 +257,113 @@ public class StatsController {
             final CustomUserDetails customUserDetails = validateAuthentication(userDetails);
             validateBifRole(customUserDetails);
 
-            statsService.resetKeywords(bifId);
-            return ResponseEntity.ok(ApiResponse.success("키워드 데이터가 성공적으로 초기화되었습니다."));
+            final StatsJobResponse job = statsMaintenanceJobService.submit(
+                    StatsMaintenanceJob.Type.RESET_KEYWORDS, bifId, customUserDetails.getSocialId(),
+                    customUserDetails.getBifId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (BaseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("키워드 초기화 작업 등록 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("키워드 초기화 작업 등록 중 오류가 발생했습니다."));
+        }
+    }
+
+    @PostMapping("/jobs")
+    @Operation(summary = "전체 사용자 통계 작업 등록", description = "전체 BIF 사용자를 대상으로 통계 유지보수 작업을 백그라운드로 등록합니다. 운영자만 사용할 수 있습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = StatsJobResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "동일 작업 진행 중")
+    })
+    public ResponseEntity<ApiResponse<StatsJobResponse>> submitAllUsersJob(
+            @AuthenticationPrincipal final UserDetails userDetails,
+            @RequestParam final StatsMaintenanceJob.Type type) {
+
+        try {
+            final CustomUserDetails customUserDetails = validateAuthentication(userDetails);
+            validateBifRole(customUserDetails);
+
+            final StatsJobResponse job = statsMaintenanceJobService.submit(type, null, customUserDetails.getSocialId(),
+                    customUserDetails.getBifId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (BaseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("전체 사용자 통계 작업 등록 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("통계 작업 등록 중 오류가 발생했습니다."));
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "통계 작업 진행 상황 조회", description = "통계 유지보수 작업의 진행률과 예상 남은 시간을 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = StatsJobResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업 없음")
+    })
+    public ResponseEntity<ApiResponse<StatsJobResponse>> getJob(
+            @AuthenticationPrincipal final UserDetails userDetails,
+            @PathVariable final Long jobId) {
+
+        try {
+            final CustomUserDetails customUserDetails = validateAuthentication(userDetails);
+            validateBifRole(customUserDetails);
+
+            return ResponseEntity.ok(ApiResponse.success(statsMaintenanceJobService.getJob(jobId,
+                    customUserDetails.getSocialId(), customUserDetails.getBifId())));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error(e.getMessage()));
+        } catch (BaseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("통계 작업 조회 중 오류 발생 - jobId: {}", jobId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("통계 작업 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    @PostMapping("/jobs/{jobId}/cancel")
+    @Operation(summary = "통계 작업 취소", description = "대기 중이거나 실행 중인 통계 유지보수 작업을 취소합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "취소 요청 성공",
+                    content = @Content(schema = @Schema(implementation = StatsJobResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업 없음")
+    })
+    public ResponseEntity<ApiResponse<StatsJobResponse>> cancelJob(
+            @AuthenticationPrincipal final UserDetails userDetails,
+            @PathVariable final Long jobId) {
+
+        try {
+            final CustomUserDetails customUserDetails = validateAuthentication(userDetails);
+            validateBifRole(customUserDetails);
+
+            return ResponseEntity.ok(ApiResponse.success(statsMaintenanceJobService.cancel(jobId,
+                    customUserDetails.getSocialId(), customUserDetails.getBifId())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (BaseException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("키워드 초기화 중 오류 발생: {}", e.getMessage(), e);
+            log.error("통계 작업 취소 중 오류 발생 - jobId: {}", jobId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("키워드 초기화 중 오류가 발생했습니다."));
+                    .body(ApiResponse.error("통계 작업 취소 중 오류가 발생했습니다."));
         }
     }
 
@@ -249,7 +385,7 @@ public class StatsController {
             log.info("=== 키워드 디버깅 시작 - BIF ID: {} ===", bifId);
             
             final LocalDateTime currentYearMonth = LocalDateTime.now().withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-            final Optional<Stats> stats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
+            final Optional<Stats> stats = statsRepository.findByBifIdAndYearMonth(bifId, currentYearMonth);
             
             Map<String, Object> debugInfo = new HashMap<>();
             
@@ -6,6 +6,7 @@ import com.sage.bif.stats.entity.EmotionType;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -34,6 +35,12 @@ public class OptimizedStatsResponse {
     @JsonProperty("advice")
     private String guardianAdviceText;
 
+    @JsonProperty("stale")
+    private Boolean textStale;
+
+    @JsonProperty("textAt")
+    private LocalDateTime textGeneratedAt;
+
     @JsonProperty("emotions")
     private List<OptimizedEmotionRatio> emotionRatio;
 
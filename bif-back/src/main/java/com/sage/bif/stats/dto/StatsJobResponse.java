@@ -0,0 +1,29 @@
+package com.sage.bif.stats.dto;
+
+import com.sage.bif.stats.entity.StatsMaintenanceJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsJobResponse {
+
+    private Long jobId;
+    private StatsMaintenanceJob.Type type;
+    private StatsMaintenanceJob.Status status;
+    private Long targetBifId;
+    private long totalCount;
+    private long processedCount;
+    private long failedCount;
+    private double progressPercent;
+    private Long etaSeconds;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+}
@@ -0,0 +1,34 @@
+package com.sage.bif.stats.dto;
+
+import com.sage.bif.stats.entity.EmotionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsRangeResponse {
+
+    private Long bifId;
+    private String from;
+    private String to;
+    private List<EmotionType> emotions;
+    private List<MonthEntry> months;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthEntry {
+        private String month;
+        private int total;
+        private int[] counts;
+        private int[] deltas;
+    }
+
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -16,6 +17,8 @@ public class StatsResponse {
 
     private String statisticsText;
     private String guardianAdviceText;
+    private Boolean textStale;
+    private LocalDateTime textGeneratedAt;
 
     private List<EmotionRatio> emotionRatio;
 
@@ -0,0 +1,41 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "achievement_ledger",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_bif_achievement", columnNames = {"bif_id", "achievement_code"})
+        },
+        indexes = {
+                @Index(name = "idx_achievement_bif_earned", columnList = "bif_id, earned_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AchievementLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_id")
+    private Long id;
+
+    @Column(name = "bif_id", nullable = false)
+    private Long bifId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "achievement_code", nullable = false, length = 30)
+    private AchievementType achievement;
+
+    @Column(name = "points", nullable = false)
+    private int points;
+
+    @Column(name = "earned_at", nullable = false)
+    private LocalDateTime earnedAt;
+
+}
@@ -0,0 +1,30 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "achievement_total")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AchievementTotal {
+
+    @Id
+    @Column(name = "bif_id")
+    private Long bifId;
+
+    @Column(name = "total_points", nullable = false)
+    private int totalPoints;
+
+    @Column(name = "current_level", nullable = false)
+    private int currentLevel;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
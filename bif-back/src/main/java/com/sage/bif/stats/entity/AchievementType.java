@@ -0,0 +1,29 @@
+package com.sage.bif.stats.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum AchievementType {
+
+    FIRST_DIARY("첫 번째 일기", "첫 번째 일기를 작성했습니다!", 10, "📝"),
+    DIARY_STREAK_3("3일 연속 기록", "3일 연속으로 일기를 작성했습니다!", 20, "🔥"),
+    DIARY_STREAK_7("일주일 연속 기록", "7일 연속으로 일기를 작성했습니다!", 50, "🌟"),
+    DIARY_STREAK_30("한 달 연속 기록", "30일 연속으로 일기를 작성했습니다!", 100, "🏆"),
+    EMOTION_VARIETY("감정 다양성", "다양한 감정을 표현했습니다!", 30, "🌈"),
+    KEYWORD_MASTER("키워드 마스터", "많은 키워드를 사용했습니다!", 25, "🔑"),
+    GUARDIAN_CONNECTION("보호자 연결", "보호자와 연결되었습니다!", 40, "👥"),
+    MONTHLY_COMPLETE("한 달 완주", "한 달 동안 매일 일기를 작성했습니다!", 60, "📅");
+
+    private final String koreanName;
+    private final String description;
+    private final int points;
+    private final String icon;
+
+    AchievementType(final String koreanName, final String description, final int points, final String icon) {
+        this.koreanName = koreanName;
+        this.description = description;
+        this.points = points;
+        this.icon = icon;
+    }
+
+}
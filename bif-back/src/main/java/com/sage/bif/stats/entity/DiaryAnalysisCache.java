@@ -0,0 +1,51 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 분석 결과는 일기가 남아 있는 동안 보관한다. 수정/삭제 차분에서 이전 키워드를 빼는 데 쓰이므로 기간으로 지우지 않는다.
+@Entity
+@Table(name = "diary_analysis_cache",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_analysis_bif_hash_version", columnNames = {"bif_id", "content_hash", "analysis_version"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryAnalysisCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "analysis_id")
+    private Long id;
+
+    @Column(name = "bif_id", nullable = false)
+    private Long bifId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "analysis_version", nullable = false, length = 100)
+    private String analysisVersion;
+
+    @Column(name = "keywords", columnDefinition = "TEXT", nullable = false)
+    private String keywords;
+
+    @Column(name = "emotion_score", nullable = false)
+    private double emotionScore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dominant_emotion", nullable = false, length = 10)
+    private EmotionType dominantEmotion;
+
+    @Column(name = "confidence", nullable = false)
+    private double confidence;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+}
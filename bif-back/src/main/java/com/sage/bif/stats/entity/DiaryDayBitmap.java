@@ -0,0 +1,39 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "diary_day_bitmap",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_bif_bitmap_year", columnNames = {"bif_id", "bitmap_year"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryDayBitmap {
+
+    public static final int BITMAP_BYTES = 46;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bitmap_id")
+    private Long id;
+
+    @Column(name = "bif_id", nullable = false)
+    private Long bifId;
+
+    @Column(name = "bitmap_year", nullable = false)
+    private int year;
+
+    @Column(name = "days", nullable = false, length = BITMAP_BYTES)
+    private byte[] days;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
@@ -9,7 +9,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "emotion_statistics")
+@Table(name = "emotion_statistics",
+        uniqueConstraints = {
+                @UniqueConstraint(name = Stats.UNIQUE_BIF_YEAR_MONTH, columnNames = {"bif_id", "stats_year_month"})
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,6 +21,8 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Stats {
 
+    public static final String UNIQUE_BIF_YEAR_MONTH = "uk_stats_bif_year_month";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "statistics_id")
@@ -44,6 +49,9 @@ public class Stats {
     @Column(name = "ai_emotion_score", columnDefinition = "DECIMAL(3,2)")
     private Double aiEmotionScore;
 
+    @Column(name = "text_generated_at")
+    private LocalDateTime textGeneratedAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
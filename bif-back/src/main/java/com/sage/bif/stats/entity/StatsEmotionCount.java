@@ -0,0 +1,41 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "emotion_statistics_count",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_bif_month_emotion", columnNames = {"bif_id", "stats_year_month", "emotion"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatsEmotionCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "emotion_count_id")
+    private Long id;
+
+    @Column(name = "bif_id", nullable = false)
+    private Long bifId;
+
+    @Column(name = "stats_year_month", nullable = false)
+    private LocalDateTime yearMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "emotion", nullable = false, length = 10)
+    private EmotionType emotion;
+
+    @Column(name = "emotion_count", nullable = false)
+    private int count;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
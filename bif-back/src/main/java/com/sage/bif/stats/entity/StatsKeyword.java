@@ -0,0 +1,45 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stats_keyword",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_bif_month_keyword", columnNames = {"bif_id", "stats_year_month", "keyword"})
+        },
+        indexes = {
+                @Index(name = "idx_bif_month_count", columnList = "bif_id, stats_year_month, keyword_count")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatsKeyword {
+
+    public static final int MAX_KEYWORD_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "keyword_id")
+    private Long id;
+
+    @Column(name = "bif_id", nullable = false)
+    private Long bifId;
+
+    @Column(name = "stats_year_month", nullable = false)
+    private LocalDateTime yearMonth;
+
+    @Column(name = "keyword", nullable = false, length = MAX_KEYWORD_LENGTH)
+    private String keyword;
+
+    @Column(name = "keyword_count", nullable = false)
+    private int count;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,100 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stats_maintenance_job",
+        indexes = {
+                @Index(name = "idx_maintenance_job_status", columnList = "status")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class StatsMaintenanceJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 30)
+    private Type type;
+
+    @Column(name = "target_bif_id")
+    private Long targetBifId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "requested_by")
+    private Long requestedBy;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "last_bif_id", nullable = false)
+    private Long lastBifId;
+
+    // 취소 요청은 DB에 남겨 다른 노드나 재시작 후의 실행 루프도 확인할 수 있게 한다. 엔티티 저장으로 덮어쓰지 않는다.
+    @Column(name = "cancel_requested", nullable = false, updatable = false)
+    private boolean cancelRequested;
+
+    // 작업을 실행 중인 노드가 잡은 임대 만료 시각. 임대 쿼리로만 갱신하고 엔티티 저장으로 덮어쓰지 않는다.
+    @Column(name = "lease_expires_at", insertable = false, updatable = false)
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isAllUsers() {
+        return targetBifId == null;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    public enum Type {
+        FORCE_REGENERATE,
+        CLEANUP_KEYWORDS,
+        RESET_KEYWORDS,
+        BACKFILL_ACHIEVEMENTS
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stats_rollover_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_rollover_year_month", columnNames = {"stats_year_month"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class StatsRolloverCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "checkpoint_id")
+    private Long id;
+
+    @Column(name = "stats_year_month", nullable = false)
+    private LocalDateTime yearMonth;
+
+    @Column(name = "last_bif_id", nullable = false)
+    private Long lastBifId;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    // 실패한 BIF ID를 쉼표로 이어 둔 목록. 마지막 처리 ID가 지나간 뒤에도 완료 전에 다시 시도한다.
+    @Column(name = "retry_bif_ids", columnDefinition = "TEXT")
+    private String retryBifIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    // 여러 인스턴스 중 하나만 롤오버를 진행하도록 잡는 임대 만료 시각
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.sage.bif.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stats_text_cache",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_stats_text_kind_bucket_version", columnNames = {"text_kind", "bucket_key", "prompt_version"})
+        },
+        indexes = {
+                @Index(name = "idx_stats_text_last_used", columnList = "last_used_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatsTextCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "text_cache_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "text_kind", nullable = false, length = 20)
+    private Kind kind;
+
+    @Column(name = "bucket_key", nullable = false, length = 64)
+    private String bucketKey;
+
+    @Column(name = "prompt_version", nullable = false, length = 100)
+    private String promptVersion;
+
+    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_used_at", nullable = false)
+    private LocalDateTime lastUsedAt;
+
+    public enum Kind {
+        STATISTICS,
+        GUARDIAN_ADVICE
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.sage.bif.stats.event.listener;
+
+import com.sage.bif.diary.event.model.DiaryCreatedEvent;
+import com.sage.bif.stats.event.model.StatsUpdatedEvent;
+import com.sage.bif.stats.service.AchievementService;
+import com.sage.bif.user.event.model.GuardianConnectedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AchievementEventListener {
+
+    private final AchievementService achievementService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiaryCreated(final DiaryCreatedEvent event) {
+        try {
+            achievementService.recordDiaryAchievements(event.getBifId(), event.getCreatedAt().toLocalDate());
+        } catch (Exception e) {
+            log.error("일기 작성 업적 기록 중 오류 발생 - BifId: {}, DiaryId: {}", event.getBifId(), event.getDiaryId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleGuardianConnected(final GuardianConnectedEvent event) {
+        try {
+            achievementService.recordGuardianConnection(event.getBifId());
+        } catch (Exception e) {
+            log.error("보호자 연결 업적 기록 중 오류 발생 - BifId: {}, EventId: {}", event.getBifId(), event.getEventId(), e);
+        }
+    }
+
+    @EventListener
+    public void handleStatsUpdated(final StatsUpdatedEvent event) {
+        if (event.getStats() == null) {
+            return;
+        }
+
+        try {
+            achievementService.recordKeywordAchievements(event.getUserId(), event.getStats().getYearMonth());
+        } catch (Exception e) {
+            log.error("키워드 업적 기록 중 오류 발생 - BifId: {}, EventId: {}", event.getUserId(), event.getEventId(), e);
+        }
+    }
+
+}
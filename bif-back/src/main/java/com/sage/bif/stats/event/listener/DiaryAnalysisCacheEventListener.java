@@ -0,0 +1,34 @@
+package com.sage.bif.stats.event.listener;
+
+import com.sage.bif.common.jwt.JwtTokenProvider;
+import com.sage.bif.stats.service.AiEmotionAnalysisService;
+import com.sage.bif.user.event.model.UserWithdrawalEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 삭제된 일기의 분석 결과는 키워드 차감에 쓰인 뒤 통계 갱신 작업(applyDiaryDeletion)에서 지운다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryAnalysisCacheEventListener {
+
+    private final AiEmotionAnalysisService aiEmotionAnalysisService;
+
+    // 보호자 탈퇴도 연결된 bifId를 담아 오므로 BIF 본인 탈퇴일 때만 지운다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserWithdrawal(final UserWithdrawalEvent event) {
+        if (event.getUserRole() != JwtTokenProvider.UserRole.BIF || event.getBifId() == null) {
+            return;
+        }
+
+        try {
+            aiEmotionAnalysisService.deleteAnalyses(event.getBifId());
+        } catch (Exception e) {
+            log.error("탈퇴 사용자 일기 분석 결과 제거 중 오류 발생 - BIF ID: {}", event.getBifId(), e);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.sage.bif.stats.event.listener;
+
+import com.sage.bif.diary.event.model.DiaryCreatedEvent;
+import com.sage.bif.diary.event.model.DiaryDeletedEvent;
+import com.sage.bif.stats.service.DiaryDayBitmapService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DiaryDayBitmapEventListener {
+
+    private final DiaryDayBitmapService diaryDayBitmapService;
+
+    @EventListener
+    public void handleDiaryCreated(final DiaryCreatedEvent event) {
+        diaryDayBitmapService.markDay(event.getBifId(), event.getCreatedAt());
+    }
+
+    @EventListener
+    public void handleDiaryDeleted(final DiaryDeletedEvent event) {
+        diaryDayBitmapService.clearDay(event.getUserId(), event.getCreatedAt());
+    }
+
+}
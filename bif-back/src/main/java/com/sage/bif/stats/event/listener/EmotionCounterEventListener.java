@@ -0,0 +1,41 @@
+package com.sage.bif.stats.event.listener;
+
+import com.sage.bif.diary.event.model.DiaryCreatedEvent;
+import com.sage.bif.diary.event.model.DiaryDeletedEvent;
+import com.sage.bif.diary.event.model.DiaryUpdatedEvent;
+import com.sage.bif.diary.model.Emotion;
+import com.sage.bif.stats.service.EmotionCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 일기 트랜잭션 안에서 동기적으로 실행되어 일기 변경과 감정 카운터가 함께 커밋/롤백된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmotionCounterEventListener {
+
+    private final EmotionCounterService emotionCounterService;
+
+    @EventListener
+    public void handleDiaryCreated(final DiaryCreatedEvent event) {
+        emotionCounterService.increment(event.getBifId(), event.getCreatedAt(), event.getEmotion());
+    }
+
+    @EventListener
+    public void handleDiaryUpdated(final DiaryUpdatedEvent event) {
+        emotionCounterService.move(event.getDiary().getUser().getBifId(), event.getDiary().getCreatedAt(),
+                event.getPreviousEmotion(), event.getDiary().getEmotion());
+    }
+
+    @EventListener
+    public void handleDiaryDeleted(final DiaryDeletedEvent event) {
+        if (event.getEmotion() == null) {
+            log.warn("삭제된 일기의 감정 정보가 없어 카운터를 갱신하지 않습니다 - 일기 ID: {}", event.getDiaryId());
+            return;
+        }
+        emotionCounterService.decrement(event.getUserId(), event.getCreatedAt(), Emotion.valueOf(event.getEmotion()));
+    }
+
+}
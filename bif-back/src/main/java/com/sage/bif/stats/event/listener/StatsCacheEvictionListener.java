@@ -0,0 +1,54 @@
+package com.sage.bif.stats.event.listener;
+
+import com.sage.bif.diary.event.model.DiaryCreatedEvent;
+import com.sage.bif.diary.event.model.DiaryDeletedEvent;
+import com.sage.bif.diary.event.model.DiaryUpdatedEvent;
+import com.sage.bif.stats.event.model.StatsUpdatedEvent;
+import com.sage.bif.stats.service.StatsResponseCache;
+import com.sage.bif.user.event.model.GuardianConnectedEvent;
+import com.sage.bif.user.event.model.UserWithdrawalEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class StatsCacheEvictionListener {
+
+    private final StatsResponseCache statsResponseCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiaryCreated(final DiaryCreatedEvent event) {
+        statsResponseCache.evict(event.getBifId(), event.getCreatedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiaryUpdated(final DiaryUpdatedEvent event) {
+        statsResponseCache.evict(event.getDiary().getUser().getBifId(), event.getDiary().getCreatedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiaryDeleted(final DiaryDeletedEvent event) {
+        statsResponseCache.evict(event.getUserId(), event.getCreatedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStatsUpdated(final StatsUpdatedEvent event) {
+        statsResponseCache.evict(event.getUserId(), event.getStats().getYearMonth());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleGuardianConnected(final GuardianConnectedEvent event) {
+        statsResponseCache.evictAll(event.getBifId());
+    }
+
+    // 보호자 연결 해제와 BIF 탈퇴 모두 이 이벤트로 전달된다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserWithdrawal(final UserWithdrawalEvent event) {
+        if (event.getBifId() != null) {
+            statsResponseCache.evictAll(event.getBifId());
+        }
+    }
+
+}
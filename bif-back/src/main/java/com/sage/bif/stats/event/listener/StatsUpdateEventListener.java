@@ -1,28 +1,22 @@
 package com.sage.bif.stats.event.listener;
 
-import com.sage.bif.diary.repository.DiaryRepository;
-import com.sage.bif.diary.entity.Diary;
 import com.sage.bif.stats.event.model.StatsUpdateEvent;
-import com.sage.bif.stats.service.StatsService;
+import com.sage.bif.stats.service.StatsUpdateWorker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-
-import java.util.Comparator;
-import java.util.List;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StatsUpdateEventListener {
 
-    private final StatsService statsService;
-    private final DiaryRepository diaryRepository;
+    private final StatsUpdateWorker statsUpdateWorker;
 
-    @EventListener
-    @Async
+    // 수정/삭제 차분은 커밋된 일기 상태를 기준으로 해야 하므로 롤백될 수 있는 트랜잭션 안에서는 작업을 넣지 않는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleStatsUpdate(StatsUpdateEvent event) {
         try {
             log.info("통계 업데이트 이벤트 처리 시작 - BIF ID: {}, 이벤트 타입: {}", 
@@ -35,12 +29,12 @@ public class StatsUpdateEventListener {
                     
                 case DIARY_UPDATED:
                     log.info("일기 수정으로 인한 통계 업데이트 - BIF ID: {}", event.getBifId());
-                    handleDiaryUpdated(event.getBifId());
+                    handleDiaryUpdated(event);
                     break;
                     
                 case DIARY_DELETED:
                     log.info("일기 삭제로 인한 통계 업데이트 - BIF ID: {}", event.getBifId());
-                    handleDiaryDeleted(event.getBifId());
+                    handleDiaryDeleted(event);
                     break;
                     
                 default:
@@ -53,49 +47,26 @@ public class StatsUpdateEventListener {
         }
     }
 
-    private void handleDiaryUpdated(Long bifId) {
+    private void handleDiaryUpdated(StatsUpdateEvent event) {
+        if (event.getDiaryId() == null) {
+            log.warn("수정된 일기 정보가 없어 통계를 갱신하지 않습니다 - BIF ID: {}", event.getBifId());
+            return;
+        }
+
         try {
-            log.info("=== 일기 수정으로 인한 통계 갱신 시작 - BIF ID: {} ===", bifId);
-            
-            List<Diary> userDiaries = diaryRepository.findByUserId(bifId);
-            log.info("BIF ID {}의 전체 일기 개수: {}", bifId, userDiaries.size());
-            
-            if (!userDiaries.isEmpty()) {
-                Diary latestDiary = userDiaries.stream()
-                        .filter(diary -> !diary.isDeleted())
-                        .max(Comparator.comparing(Diary::getCreatedAt))
-                        .orElse(null);
-                
-                if (latestDiary != null) {
-                    log.info("일기 수정으로 인한 통계 갱신 - BIF ID: {}, 일기 ID: {}, 내용 길이: {}, 내용 미리보기: {}", 
-                            bifId, latestDiary.getId(), latestDiary.getContent().length(), 
-                            latestDiary.getContent().substring(0, Math.min(100, latestDiary.getContent().length())));
-                    
-                    statsService.updateStatsWithKeywords(bifId, latestDiary.getContent());
-                    
-                    log.info("일기 수정으로 인한 통계 갱신 완료 - BIF ID: {}", bifId);
-                } else {
-                    log.warn("BIF ID {}의 유효한 일기를 찾을 수 없음", bifId);
-                }
-            } else {
-                log.warn("BIF ID {}의 일기를 찾을 수 없음", bifId);
-            }
-            
+            statsUpdateWorker.diaryUpdated(event.getBifId(), event.getDiaryId(), event.getDiaryCreatedAt(),
+                    event.getPreviousContentHash(), event.getContent());
         } catch (Exception e) {
-            log.error("일기 수정 통계 갱신 중 오류 발생 - BIF ID: {}", bifId, e);
+            log.error("일기 수정 통계 갱신 요청 중 오류 발생 - BIF ID: {}", event.getBifId(), e);
         }
     }
 
-    private void handleDiaryDeleted(Long bifId) {
+    private void handleDiaryDeleted(StatsUpdateEvent event) {
         try {
-            log.info("일기 삭제로 인한 통계 갱신 - BIF ID: {}", bifId);
-            
-            statsService.updateRealTimeStats(bifId);
-            
-            log.info("일기 삭제로 인한 통계 갱신 완료 - BIF ID: {}", bifId);
-            
+            statsUpdateWorker.diaryDeleted(event.getBifId(), event.getDiaryId(), event.getDiaryCreatedAt(),
+                    event.getPreviousContentHash());
         } catch (Exception e) {
-            log.error("일기 삭제 통계 갱신 중 오류 발생 - BIF ID: {}", bifId, e);
+            log.error("일기 삭제 통계 갱신 요청 중 오류 발생 - BIF ID: {}", event.getBifId(), e);
         }
     }
 
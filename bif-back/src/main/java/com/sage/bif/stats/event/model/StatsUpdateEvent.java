@@ -1,8 +1,11 @@
 package com.sage.bif.stats.event.model;
 
+import com.sage.bif.diary.model.Emotion;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class StatsUpdateEvent extends ApplicationEvent {
     
@@ -15,12 +18,30 @@ public class StatsUpdateEvent extends ApplicationEvent {
     private final Long bifId;
     private final String content;
     private final EventType eventType;
+    private final Long diaryId;
+    private final LocalDateTime diaryCreatedAt;
+    private final Emotion previousEmotion;
+    private final Emotion emotion;
+    private final String previousContentHash;
+    private final String contentHash;
     
     public StatsUpdateEvent(Object source, Long bifId, String content, EventType eventType) {
+        this(source, bifId, content, eventType, null, null, null, null, null, null);
+    }
+
+    public StatsUpdateEvent(Object source, Long bifId, String content, EventType eventType,
+                            Long diaryId, LocalDateTime diaryCreatedAt, Emotion previousEmotion, Emotion emotion,
+                            String previousContentHash, String contentHash) {
         super(source);
         this.bifId = bifId;
         this.content = content;
         this.eventType = eventType;
+        this.diaryId = diaryId;
+        this.diaryCreatedAt = diaryCreatedAt;
+        this.previousEmotion = previousEmotion;
+        this.emotion = emotion;
+        this.previousContentHash = previousContentHash;
+        this.contentHash = contentHash;
     }
 
 }
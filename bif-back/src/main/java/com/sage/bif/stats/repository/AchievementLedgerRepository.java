@@ -0,0 +1,38 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.AchievementLedger;
+import com.sage.bif.stats.entity.AchievementType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AchievementLedgerRepository extends JpaRepository<AchievementLedger, Long> {
+
+    List<AchievementLedger> findTop5ByBifIdOrderByEarnedAtDesc(final Long bifId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO achievement_ledger (bif_id, achievement_code, points, earned_at) " +
+            "VALUES (:bifId, :code, :points, NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("bifId") Long bifId, @Param("code") String code, @Param("points") int points);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO achievement_ledger (bif_id, achievement_code, points, earned_at) " +
+            "VALUES (:bifId, :code, :points, :earnedAt)",
+            nativeQuery = true)
+    int insertIfAbsentAt(@Param("bifId") Long bifId, @Param("code") String code, @Param("points") int points,
+                         @Param("earnedAt") LocalDateTime earnedAt);
+
+    @Modifying
+    @Query("UPDATE AchievementLedger l SET l.earnedAt = :earnedAt " +
+            "WHERE l.bifId = :bifId AND l.achievement = :achievement AND l.earnedAt > :earnedAt")
+    int backdate(@Param("bifId") Long bifId, @Param("achievement") AchievementType achievement,
+                 @Param("earnedAt") LocalDateTime earnedAt);
+
+}
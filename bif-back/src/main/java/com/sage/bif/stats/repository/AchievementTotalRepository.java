@@ -0,0 +1,24 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.AchievementTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AchievementTotalRepository extends JpaRepository<AchievementTotal, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO achievement_total (bif_id, total_points, current_level, updated_at) " +
+            "VALUES (:bifId, :points, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE total_points = total_points + :points, updated_at = NOW()",
+            nativeQuery = true)
+    int addPoints(@Param("bifId") Long bifId, @Param("points") int points);
+
+    @Modifying
+    @Query("UPDATE AchievementTotal t SET t.currentLevel = :level WHERE t.bifId = :bifId AND t.currentLevel <> :level")
+    int updateLevel(@Param("bifId") Long bifId, @Param("level") int level);
+
+}
@@ -0,0 +1,41 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.DiaryAnalysisCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface DiaryAnalysisCacheRepository extends JpaRepository<DiaryAnalysisCache, Long> {
+
+    Optional<DiaryAnalysisCache> findByBifIdAndContentHashAndAnalysisVersion(final Long bifId, final String contentHash,
+                                                                          final String analysisVersion);
+
+    Optional<DiaryAnalysisCache> findFirstByBifIdAndContentHashOrderByIdDesc(final Long bifId, final String contentHash);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO diary_analysis_cache " +
+            "(bif_id, content_hash, analysis_version, keywords, emotion_score, dominant_emotion, confidence, created_at) " +
+            "VALUES (:bifId, :contentHash, :analysisVersion, :keywords, :emotionScore, :dominantEmotion, :confidence, NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("bifId") Long bifId, @Param("contentHash") String contentHash, @Param("analysisVersion") String analysisVersion,
+                       @Param("keywords") String keywords, @Param("emotionScore") double emotionScore,
+                       @Param("dominantEmotion") String dominantEmotion, @Param("confidence") double confidence);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DiaryAnalysisCache c WHERE c.bifId = :bifId AND c.contentHash = :contentHash")
+    int deleteByBifIdAndContentHash(@Param("bifId") Long bifId, @Param("contentHash") String contentHash);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DiaryAnalysisCache c WHERE c.bifId = :bifId")
+    int deleteByBifId(@Param("bifId") Long bifId);
+
+}
@@ -0,0 +1,32 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.DiaryDayBitmap;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DiaryDayBitmapRepository extends JpaRepository<DiaryDayBitmap, Long> {
+
+    Optional<DiaryDayBitmap> findByBifIdAndYear(final Long bifId, final int year);
+
+    boolean existsByBifIdAndYear(final Long bifId, final int year);
+
+    @Modifying
+    @Query(value = "INSERT INTO diary_day_bitmap (bif_id, bitmap_year, days, updated_at) " +
+            "VALUES (:bifId, :year, :mask, NOW()) " +
+            "ON DUPLICATE KEY UPDATE days = days | VALUES(days), updated_at = NOW()",
+            nativeQuery = true)
+    int setDays(@Param("bifId") Long bifId, @Param("year") int year, @Param("mask") byte[] mask);
+
+    @Modifying
+    @Query(value = "UPDATE diary_day_bitmap SET days = days & :mask, updated_at = NOW() " +
+            "WHERE bif_id = :bifId AND bitmap_year = :year",
+            nativeQuery = true)
+    int keepDays(@Param("bifId") Long bifId, @Param("year") int year, @Param("mask") byte[] mask);
+
+}
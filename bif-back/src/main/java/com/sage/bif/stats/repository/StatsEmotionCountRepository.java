@@ -0,0 +1,40 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.StatsEmotionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StatsEmotionCountRepository extends JpaRepository<StatsEmotionCount, Long> {
+
+    List<StatsEmotionCount> findByBifIdAndYearMonth(final Long bifId, final LocalDateTime yearMonth);
+
+    List<StatsEmotionCount> findByYearMonth(final LocalDateTime yearMonth);
+
+    boolean existsByBifIdAndYearMonth(final Long bifId, final LocalDateTime yearMonth);
+
+    List<StatsEmotionCount> findByBifIdAndYearMonthBetween(final Long bifId, final LocalDateTime from, final LocalDateTime to);
+
+    @Modifying
+    @Query(value = "INSERT INTO emotion_statistics_count (bif_id, stats_year_month, emotion, emotion_count, updated_at) " +
+            "VALUES (:bifId, :yearMonth, :emotion, GREATEST(:delta, 0), NOW()) " +
+            "ON DUPLICATE KEY UPDATE emotion_count = GREATEST(emotion_count + :delta, 0), updated_at = NOW()",
+            nativeQuery = true)
+    int applyDelta(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                   @Param("emotion") String emotion, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO emotion_statistics_count (bif_id, stats_year_month, emotion, emotion_count, updated_at) " +
+            "VALUES (:bifId, :yearMonth, :emotion, :count, NOW()) " +
+            "ON DUPLICATE KEY UPDATE emotion_count = :count, updated_at = NOW()",
+            nativeQuery = true)
+    int upsertCount(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                    @Param("emotion") String emotion, @Param("count") int count);
+
+}
@@ -0,0 +1,74 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.StatsKeyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StatsKeywordRepository extends JpaRepository<StatsKeyword, Long> {
+
+    List<StatsKeyword> findTop5ByBifIdAndYearMonthOrderByCountDescKeywordAsc(final Long bifId, final LocalDateTime yearMonth);
+
+    List<StatsKeyword> findByBifIdAndYearMonth(final Long bifId, final LocalDateTime yearMonth);
+
+    List<StatsKeyword> findByBifId(final Long bifId);
+
+    long countByBifIdAndYearMonth(final Long bifId, final LocalDateTime yearMonth);
+
+    boolean existsByBifIdAndYearMonth(final Long bifId, final LocalDateTime yearMonth);
+
+    @Query("SELECT k.yearMonth FROM StatsKeyword k WHERE k.bifId = :bifId " +
+            "GROUP BY k.yearMonth HAVING COUNT(k) >= :threshold ORDER BY k.yearMonth ASC")
+    List<LocalDateTime> findYearMonthsWithKeywordsAtLeast(@Param("bifId") Long bifId, @Param("threshold") long threshold);
+
+    @Modifying
+    @Query(value = "INSERT INTO stats_keyword (bif_id, stats_year_month, keyword, keyword_count, updated_at) " +
+            "VALUES (:bifId, :yearMonth, :keyword, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE keyword_count = keyword_count + 1, updated_at = NOW()",
+            nativeQuery = true)
+    int increment(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                  @Param("keyword") String keyword);
+
+    @Modifying
+    @Query(value = "INSERT INTO stats_keyword (bif_id, stats_year_month, keyword, keyword_count, updated_at) " +
+            "VALUES (:bifId, :yearMonth, :keyword, :count, NOW()) " +
+            "ON DUPLICATE KEY UPDATE keyword_count = :count, updated_at = NOW()",
+            nativeQuery = true)
+    int upsertCount(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                    @Param("keyword") String keyword, @Param("count") int count);
+
+    @Modifying
+    @Query(value = "INSERT INTO stats_keyword (bif_id, stats_year_month, keyword, keyword_count, updated_at) " +
+            "VALUES (:bifId, :yearMonth, :keyword, :count, NOW()) " +
+            "ON DUPLICATE KEY UPDATE keyword_count = keyword_count + :count, updated_at = NOW()",
+            nativeQuery = true)
+    int addCount(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                 @Param("keyword") String keyword, @Param("count") int count);
+
+    @Modifying
+    @Query("DELETE FROM StatsKeyword k WHERE k.bifId = :bifId AND k.yearMonth = :yearMonth")
+    int deleteByBifIdAndYearMonth(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth);
+
+    @Modifying
+    @Query("DELETE FROM StatsKeyword k WHERE k.bifId = :bifId AND k.yearMonth = :yearMonth AND k.keyword IN :keywords")
+    int deleteKeywords(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                       @Param("keywords") List<String> keywords);
+
+    @Modifying
+    @Query("UPDATE StatsKeyword k SET k.count = k.count - 1, k.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE k.bifId = :bifId AND k.yearMonth = :yearMonth AND k.keyword IN :keywords AND k.count > 0")
+    int decrement(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                  @Param("keywords") Collection<String> keywords);
+
+    @Modifying
+    @Query("DELETE FROM StatsKeyword k WHERE k.bifId = :bifId AND k.yearMonth = :yearMonth AND k.count <= 0")
+    int deleteExhausted(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth);
+
+}
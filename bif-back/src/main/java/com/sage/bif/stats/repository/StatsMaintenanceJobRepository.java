@@ -0,0 +1,55 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.StatsMaintenanceJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StatsMaintenanceJobRepository extends JpaRepository<StatsMaintenanceJob, Long> {
+
+    List<StatsMaintenanceJob> findByStatusInOrderByIdAsc(final Collection<StatsMaintenanceJob.Status> statuses);
+
+    boolean existsByTypeAndTargetBifIdIsNullAndStatusIn(final StatsMaintenanceJob.Type type,
+                                                        final Collection<StatsMaintenanceJob.Status> statuses);
+
+    @Query("SELECT j.cancelRequested FROM StatsMaintenanceJob j WHERE j.id = :id")
+    boolean isCancelRequested(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatsMaintenanceJob j SET j.cancelRequested = true, j.updatedAt = :requestedAt WHERE j.id = :id")
+    int requestCancel(@Param("id") Long id, @Param("requestedAt") LocalDateTime requestedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatsMaintenanceJob j SET j.leaseExpiresAt = :leaseExpiresAt, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :statuses AND (j.leaseExpiresAt IS NULL OR j.leaseExpiresAt < :now)")
+    int claimLease(@Param("id") Long id, @Param("statuses") Collection<StatsMaintenanceJob.Status> statuses,
+                   @Param("now") LocalDateTime now, @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatsMaintenanceJob j SET j.leaseExpiresAt = :leaseExpiresAt WHERE j.id = :id")
+    int renewLease(@Param("id") Long id, @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatsMaintenanceJob j SET j.leaseExpiresAt = NULL WHERE j.id = :id")
+    int releaseLease(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatsMaintenanceJob j SET j.status = :status, j.completedAt = :completedAt, j.updatedAt = :completedAt " +
+            "WHERE j.id = :id AND j.status IN :fromStatuses")
+    int transition(@Param("id") Long id, @Param("fromStatuses") Collection<StatsMaintenanceJob.Status> fromStatuses,
+                   @Param("status") StatsMaintenanceJob.Status status, @Param("completedAt") LocalDateTime completedAt);
+
+}
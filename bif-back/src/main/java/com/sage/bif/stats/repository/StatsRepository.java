@@ -2,7 +2,11 @@ package com.sage.bif.stats.repository;
 
 import com.sage.bif.stats.entity.Stats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -12,6 +16,47 @@ public interface StatsRepository extends JpaRepository<Stats, Long> {
 
     Optional<Stats> findByBifIdAndYearMonth(final Long bifId, final LocalDateTime yearMonth);
 
-    Optional<Stats> findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(final Long bifId, final LocalDateTime yearMonth);
+    @Modifying
+    @Transactional
+    @Query("UPDATE Stats s SET s.emotionStatisticsText = :statisticsText, s.guardianAdviceText = :adviceText, " +
+            "s.emotionCounts = :emotionCounts, s.textGeneratedAt = :generatedAt, s.updatedAt = :updatedAt WHERE s.id = :id")
+    int updateGeneratedTexts(@Param("id") Long id, @Param("statisticsText") String statisticsText,
+                             @Param("adviceText") String adviceText, @Param("emotionCounts") String emotionCounts,
+                             @Param("generatedAt") LocalDateTime generatedAt, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO emotion_statistics (bif_id, stats_year_month, emotion_statistics_text, guardian_advice_text, " +
+            "emotion_counts, ai_emotion_score, text_generated_at, created_at, updated_at) " +
+            "VALUES (:bifId, :yearMonth, :statisticsText, :adviceText, :emotionCounts, :aiEmotionScore, :generatedAt, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE emotion_statistics_text = VALUES(emotion_statistics_text), " +
+            "guardian_advice_text = VALUES(guardian_advice_text), emotion_counts = VALUES(emotion_counts), " +
+            "ai_emotion_score = COALESCE(VALUES(ai_emotion_score), ai_emotion_score), " +
+            "text_generated_at = VALUES(text_generated_at), updated_at = NOW()",
+            nativeQuery = true)
+    int upsertGeneratedTexts(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                             @Param("statisticsText") String statisticsText, @Param("adviceText") String adviceText,
+                             @Param("emotionCounts") String emotionCounts, @Param("aiEmotionScore") Double aiEmotionScore,
+                             @Param("generatedAt") LocalDateTime generatedAt);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO emotion_statistics (bif_id, stats_year_month, emotion_statistics_text, guardian_advice_text, " +
+            "emotion_counts, ai_emotion_score, text_generated_at, created_at, updated_at) " +
+            "VALUES (:bifId, :yearMonth, :statisticsText, :adviceText, :emotionCounts, :aiEmotionScore, :generatedAt, NOW(), NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                       @Param("statisticsText") String statisticsText, @Param("adviceText") String adviceText,
+                       @Param("emotionCounts") String emotionCounts, @Param("aiEmotionScore") Double aiEmotionScore,
+                       @Param("generatedAt") LocalDateTime generatedAt);
+
+    @Modifying
+    @Query("UPDATE Stats s SET s.aiEmotionScore = :aiEmotionScore, s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.bifId = :bifId AND s.yearMonth = :yearMonth")
+    int updateAiEmotionScore(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth,
+                             @Param("aiEmotionScore") Double aiEmotionScore);
+
+    @Modifying
+    @Query("UPDATE Stats s SET s.topKeywords = NULL, s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.bifId = :bifId AND s.yearMonth = :yearMonth AND s.topKeywords IS NOT NULL")
+    int clearTopKeywords(@Param("bifId") Long bifId, @Param("yearMonth") LocalDateTime yearMonth);
 
 }
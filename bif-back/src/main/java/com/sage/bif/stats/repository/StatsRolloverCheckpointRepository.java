@@ -0,0 +1,39 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.StatsRolloverCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StatsRolloverCheckpointRepository extends JpaRepository<StatsRolloverCheckpoint, Long> {
+
+    Optional<StatsRolloverCheckpoint> findByYearMonth(final LocalDateTime yearMonth);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO stats_rollover_checkpoint (stats_year_month, last_bif_id, processed_count, failed_count, " +
+            "status, created_at, updated_at) VALUES (:yearMonth, 0, 0, 0, 'RUNNING', NOW(), NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("yearMonth") LocalDateTime yearMonth);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatsRolloverCheckpoint c SET c.leaseExpiresAt = :leaseExpiresAt, c.updatedAt = :now " +
+            "WHERE c.yearMonth = :yearMonth AND c.status <> com.sage.bif.stats.entity.StatsRolloverCheckpoint.Status.COMPLETED " +
+            "AND (c.leaseExpiresAt IS NULL OR c.leaseExpiresAt < :now)")
+    int claimLease(@Param("yearMonth") LocalDateTime yearMonth, @Param("now") LocalDateTime now,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatsRolloverCheckpoint c SET c.leaseExpiresAt = NULL WHERE c.yearMonth = :yearMonth")
+    int releaseLease(@Param("yearMonth") LocalDateTime yearMonth);
+
+}
@@ -0,0 +1,48 @@
+package com.sage.bif.stats.repository;
+
+import com.sage.bif.stats.entity.StatsTextCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StatsTextCacheRepository extends JpaRepository<StatsTextCache, Long> {
+
+    Optional<StatsTextCache> findByKindAndBucketKeyAndPromptVersion(final StatsTextCache.Kind kind, final String bucketKey,
+                                                                      final String promptVersion);
+
+    boolean existsByKindAndBucketKeyAndPromptVersionAndCreatedAtAfter(final StatsTextCache.Kind kind, final String bucketKey,
+                                                                       final String promptVersion, final LocalDateTime createdAfter);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO stats_text_cache " +
+            "(text_kind, bucket_key, prompt_version, content, hit_count, created_at, last_used_at) " +
+            "VALUES (:kind, :bucketKey, :promptVersion, :content, 0, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE content = :content, created_at = NOW(), last_used_at = NOW()",
+            nativeQuery = true)
+    int upsert(@Param("kind") String kind, @Param("bucketKey") String bucketKey,
+               @Param("promptVersion") String promptVersion, @Param("content") String content);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatsTextCache c SET c.hitCount = c.hitCount + 1, c.lastUsedAt = CURRENT_TIMESTAMP WHERE c.id = :id")
+    int touch(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM StatsTextCache c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM stats_text_cache ORDER BY last_used_at ASC LIMIT :limit", nativeQuery = true)
+    int deleteLeastRecentlyUsed(@Param("limit") long limit);
+
+}
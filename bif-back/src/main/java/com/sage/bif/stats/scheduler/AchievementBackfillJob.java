@@ -0,0 +1,27 @@
+package com.sage.bif.stats.scheduler;
+
+import com.sage.bif.stats.entity.StatsMaintenanceJob;
+import com.sage.bif.stats.service.StatsMaintenanceJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AchievementBackfillJob {
+
+    private final StatsMaintenanceJobService statsMaintenanceJobService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAchievements() {
+        try {
+            statsMaintenanceJobService.submitOnce(StatsMaintenanceJob.Type.BACKFILL_ACHIEVEMENTS);
+        } catch (Exception e) {
+            log.error("업적 백필 작업 등록 중 오류 발생", e);
+        }
+    }
+
+}
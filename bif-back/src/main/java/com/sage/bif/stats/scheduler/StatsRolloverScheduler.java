@@ -0,0 +1,21 @@
+package com.sage.bif.stats.scheduler;
+
+import com.sage.bif.stats.service.StatsRolloverService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class StatsRolloverScheduler {
+
+    private final StatsRolloverService statsRolloverService;
+
+    @Scheduled(cron = "0 5 * * * ?")
+    public void rolloverMonthlyStats() {
+        statsRolloverService.rollover(LocalDateTime.now());
+    }
+
+}
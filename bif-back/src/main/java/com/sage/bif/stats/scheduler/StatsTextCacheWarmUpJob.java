@@ -0,0 +1,75 @@
+package com.sage.bif.stats.scheduler;
+
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.StatsEmotionCount;
+import com.sage.bif.stats.repository.StatsEmotionCountRepository;
+import com.sage.bif.stats.service.AiEmotionAnalysisService;
+import com.sage.bif.stats.service.EmotionCounterService;
+import com.sage.bif.stats.util.EmotionDistributionBucket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 이번 달 가장 흔한 감정 분포 버킷의 통계 문구를 미리 만들어 둔다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsTextCacheWarmUpJob {
+
+    private final StatsEmotionCountRepository statsEmotionCountRepository;
+    private final AiEmotionAnalysisService aiEmotionAnalysisService;
+
+    @Value("${stats.text-cache.warm-up.enabled:false}")
+    private boolean enabled;
+
+    @Value("${stats.text-cache.warm-up.top-buckets:30}")
+    private int topBuckets;
+
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            final LocalDateTime yearMonth = EmotionCounterService.toYearMonth(LocalDateTime.now());
+            final Map<Long, Map<EmotionType, Integer>> countsByBif = new HashMap<>();
+            for (StatsEmotionCount count : statsEmotionCountRepository.findByYearMonth(yearMonth)) {
+                countsByBif.computeIfAbsent(count.getBifId(), id -> new EnumMap<>(EmotionType.class))
+                        .put(count.getEmotion(), count.getCount());
+            }
+
+            final Map<EmotionDistributionBucket, Long> frequencies = countsByBif.values().stream()
+                    .map(EmotionDistributionBucket::of)
+                    .filter(bucket -> !bucket.isEmpty())
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+            final List<EmotionDistributionBucket> targets = frequencies.entrySet().stream()
+                    .sorted(Map.Entry.<EmotionDistributionBucket, Long>comparingByValue().reversed())
+                    .limit(topBuckets)
+                    .map(Map.Entry::getKey)
+                    .filter(bucket -> !aiEmotionAnalysisService.isTextCached(bucket))
+                    .toList();
+
+            for (EmotionDistributionBucket bucket : targets) {
+                aiEmotionAnalysisService.prefetchTexts(bucket.getShares());
+            }
+
+            log.info("통계 문구 캐시 예열 완료 - 버킷: {}개 중 {}개 생성", frequencies.size(), targets.size());
+
+        } catch (Exception e) {
+            log.error("통계 문구 캐시 예열 중 오류 발생", e);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import com.sage.bif.stats.entity.AchievementType;
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.util.EmotionMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 작성일 오름차순 일기 목록을 처음부터 다시 훑어 각 업적이 실제로 달성된 시각을 계산한다.
+// 실시간 규칙(AchievementService)과 같은 기준을 쓰므로 백필 결과가 실시간 적립과 어긋나지 않는다.
+final class AchievementHistory {
+
+    static final int EMOTION_VARIETY_THRESHOLD = 4;
+    static final int KEYWORD_MASTER_THRESHOLD = 5;
+
+    private static final Map<Integer, AchievementType> STREAK_ACHIEVEMENTS = Map.of(
+            3, AchievementType.DIARY_STREAK_3,
+            7, AchievementType.DIARY_STREAK_7,
+            30, AchievementType.DIARY_STREAK_30
+    );
+
+    private AchievementHistory() {
+    }
+
+    static Map<AchievementType, LocalDateTime> fromDiaries(final List<? extends DiaryEmotionView> diaries) {
+        final Map<AchievementType, LocalDateTime> earned = new EnumMap<>(AchievementType.class);
+        final Map<YearMonth, Set<EmotionType>> emotionsByMonth = new HashMap<>();
+        final Map<YearMonth, Set<LocalDate>> daysByMonth = new HashMap<>();
+
+        LocalDate previousDay = null;
+        int streak = 0;
+        for (DiaryEmotionView diary : diaries) {
+            final LocalDateTime createdAt = diary.getCreatedAt();
+            final LocalDate day = createdAt.toLocalDate();
+            final YearMonth yearMonth = YearMonth.from(day);
+            earned.putIfAbsent(AchievementType.FIRST_DIARY, createdAt);
+
+            if (!day.equals(previousDay)) {
+                streak = previousDay != null && previousDay.plusDays(1).equals(day) ? streak + 1 : 1;
+                previousDay = day;
+                final AchievementType streakAchievement = STREAK_ACHIEVEMENTS.get(streak);
+                if (streakAchievement != null) {
+                    earned.putIfAbsent(streakAchievement, createdAt);
+                }
+            }
+
+            final EmotionType emotion = EmotionMapper.mapDiaryEmotionToStats(diary.getEmotion());
+            final Set<EmotionType> emotions = emotionsByMonth.computeIfAbsent(yearMonth, key -> EnumSet.noneOf(EmotionType.class));
+            if (emotions.add(emotion) && emotions.size() == EMOTION_VARIETY_THRESHOLD) {
+                earned.putIfAbsent(AchievementType.EMOTION_VARIETY, createdAt);
+            }
+
+            final Set<LocalDate> days = daysByMonth.computeIfAbsent(yearMonth, key -> new HashSet<>());
+            if (days.add(day) && days.size() == yearMonth.lengthOfMonth()) {
+                earned.putIfAbsent(AchievementType.MONTHLY_COMPLETE, createdAt);
+            }
+        }
+        return earned;
+    }
+
+    // 키워드 행에는 생성 시각이 없으므로 해당 월의 마지막 일기 시각(키워드가 5개 이상이 된 시점의 상한)을 쓴다.
+    static Optional<LocalDateTime> lastDiaryInMonth(final List<? extends DiaryEmotionView> diaries, final YearMonth yearMonth) {
+        LocalDateTime last = null;
+        for (DiaryEmotionView diary : diaries) {
+            if (YearMonth.from(diary.getCreatedAt()).equals(yearMonth)) {
+                last = diary.getCreatedAt();
+            }
+        }
+        return Optional.ofNullable(last);
+    }
+
+}
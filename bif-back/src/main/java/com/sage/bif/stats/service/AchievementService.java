@@ -1,41 +1,39 @@
 package com.sage.bif.stats.service;
 
+import com.sage.bif.diary.repository.DiaryRepository;
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import com.sage.bif.stats.entity.AchievementLedger;
+import com.sage.bif.stats.entity.AchievementTotal;
+import com.sage.bif.stats.entity.AchievementType;
+import com.sage.bif.stats.repository.AchievementLedgerRepository;
+import com.sage.bif.stats.repository.AchievementTotalRepository;
+import com.sage.bif.stats.repository.StatsKeywordRepository;
+import com.sage.bif.user.entity.Guardian;
+import com.sage.bif.user.repository.GuardianRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AchievementService {
 
-    private static final String ACHIEVEMENT_FIRST_DIARY = "FIRST_DIARY";
-    private static final String ACHIEVEMENT_DIARY_STREAK_3 = "DIARY_STREAK_3";
-    private static final String ACHIEVEMENT_DIARY_STREAK_7 = "DIARY_STREAK_7";
-    private static final String ACHIEVEMENT_DIARY_STREAK_30 = "DIARY_STREAK_30";
-    private static final String ACHIEVEMENT_EMOTION_VARIETY = "EMOTION_VARIETY";
-    private static final String ACHIEVEMENT_KEYWORD_MASTER = "KEYWORD_MASTER";
-    private static final String ACHIEVEMENT_GUARDIAN_CONNECTION = "GUARDIAN_CONNECTION";
-    private static final String ACHIEVEMENT_MONTHLY_COMPLETE = "MONTHLY_COMPLETE";
-
     private static final String LEVEL_TITLE_EMOTION_EXPLORER = "감정 탐험가";
-
-    private static final Map<String, Integer> ACHIEVEMENT_POINTS = Map.of(
-            ACHIEVEMENT_FIRST_DIARY, 10,
-            ACHIEVEMENT_DIARY_STREAK_3, 20,
-            ACHIEVEMENT_DIARY_STREAK_7, 50,
-            ACHIEVEMENT_DIARY_STREAK_30, 100,
-            ACHIEVEMENT_EMOTION_VARIETY, 30,
-            ACHIEVEMENT_KEYWORD_MASTER, 25,
-            ACHIEVEMENT_GUARDIAN_CONNECTION, 40,
-            ACHIEVEMENT_MONTHLY_COMPLETE, 60
-    );
+    private static final DateTimeFormatter EARNED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     private static final Map<Integer, String> LEVEL_TITLES = Map.of(
             1, LEVEL_TITLE_EMOTION_EXPLORER,
@@ -45,98 +43,147 @@ public class AchievementService {
             5, "감정의 현자"
     );
 
-    public AchievementResult calculateAchievements(Long bifId, int diaryCount, int streakCount, 
-                                                 List<String> emotions, List<String> keywords) {
-        try {
-            List<Achievement> achievements = new ArrayList<>();
-            int totalPoints = 0;
-
-            if (diaryCount == 1) {
-                int points = ACHIEVEMENT_POINTS.get(ACHIEVEMENT_FIRST_DIARY);
-                achievements.add(createAchievement(ACHIEVEMENT_FIRST_DIARY, "첫 번째 일기", 
-                    "첫 번째 일기를 작성했습니다!", points));
-                totalPoints += points;
-            }
+    private final AchievementLedgerRepository achievementLedgerRepository;
+    private final AchievementTotalRepository achievementTotalRepository;
+    private final StatsKeywordRepository statsKeywordRepository;
+    private final DiaryDayBitmapService diaryDayBitmapService;
+    private final EmotionCounterService emotionCounterService;
+    private final StatsResponseCache statsResponseCache;
+    private final DiaryRepository diaryRepository;
+    private final GuardianRepository guardianRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordDiaryAchievements(final Long bifId, final LocalDate diaryDate) {
+        award(bifId, AchievementType.FIRST_DIARY);
+
+        final int streakCount = diaryDayBitmapService.currentStreak(bifId, diaryDate);
+        if (streakCount >= 3) {
+            award(bifId, AchievementType.DIARY_STREAK_3);
+        }
+        if (streakCount >= 7) {
+            award(bifId, AchievementType.DIARY_STREAK_7);
+        }
+        if (streakCount >= 30) {
+            award(bifId, AchievementType.DIARY_STREAK_30);
+        }
 
-            if (streakCount >= 3) {
-                int points = ACHIEVEMENT_POINTS.get(ACHIEVEMENT_DIARY_STREAK_3);
-                achievements.add(createAchievement(ACHIEVEMENT_DIARY_STREAK_3, "3일 연속 기록", 
-                    "3일 연속으로 일기를 작성했습니다!", points));
-                totalPoints += points;
-            }
+        final long emotionVariety = emotionCounterService.getCounts(bifId, diaryDate.atStartOfDay()).values().stream()
+                .filter(count -> count > 0)
+                .count();
+        if (emotionVariety >= AchievementHistory.EMOTION_VARIETY_THRESHOLD) {
+            award(bifId, AchievementType.EMOTION_VARIETY);
+        }
 
-            if (streakCount >= 7) {
-                int points = ACHIEVEMENT_POINTS.get(ACHIEVEMENT_DIARY_STREAK_7);
-                achievements.add(createAchievement(ACHIEVEMENT_DIARY_STREAK_7, "일주일 연속 기록", 
-                    "7일 연속으로 일기를 작성했습니다!", points));
-                totalPoints += points;
-            }
+        final YearMonth yearMonth = YearMonth.from(diaryDate);
+        if (diaryDayBitmapService.countDaysInMonth(bifId, yearMonth) == yearMonth.lengthOfMonth()) {
+            award(bifId, AchievementType.MONTHLY_COMPLETE);
+        }
+    }
 
-            if (streakCount >= 30) {
-                int points = ACHIEVEMENT_POINTS.get(ACHIEVEMENT_DIARY_STREAK_30);
-                achievements.add(createAchievement(ACHIEVEMENT_DIARY_STREAK_30, "한 달 연속 기록", 
-                    "30일 연속으로 일기를 작성했습니다!", points));
-                totalPoints += points;
-            }
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordKeywordAchievements(final Long bifId, final LocalDateTime yearMonth) {
+        if (statsKeywordRepository.countByBifIdAndYearMonth(bifId, yearMonth) >= AchievementHistory.KEYWORD_MASTER_THRESHOLD) {
+            award(bifId, AchievementType.KEYWORD_MASTER);
+        }
+    }
 
-            if (emotions.size() >= 4) {
-                int points = ACHIEVEMENT_POINTS.get(ACHIEVEMENT_EMOTION_VARIETY);
-                achievements.add(createAchievement(ACHIEVEMENT_EMOTION_VARIETY, "감정 다양성", 
-                    "다양한 감정을 표현했습니다!", points));
-                totalPoints += points;
-            }
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordGuardianConnection(final Long bifId) {
+        award(bifId, AchievementType.GUARDIAN_CONNECTION);
+    }
 
-            if (keywords.size() >= 5) {
-                int points = ACHIEVEMENT_POINTS.get(ACHIEVEMENT_KEYWORD_MASTER);
-                achievements.add(createAchievement(ACHIEVEMENT_KEYWORD_MASTER, "키워드 마스터", 
-                    "많은 키워드를 사용했습니다!", points));
-                totalPoints += points;
+    // 원장 도입 이전 이력을 일기/비트맵/키워드/보호자 기록에서 다시 계산해 실제 달성 시각으로 적립한다.
+    // INSERT IGNORE로 적립하므로 몇 번을 실행해도 같은 결과이며, 먼저 실시간으로 적립된 업적은 달성 시각만 앞당긴다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int backfill(final Long bifId) {
+        final List<DiaryEmotionView> diaries = diaryRepository.findEmotionsByUserId(bifId);
+        diaries.stream()
+                .map(diary -> diary.getCreatedAt().getYear())
+                .distinct()
+                .forEach(year -> diaryDayBitmapService.seedIfAbsent(bifId, year));
+
+        final Map<AchievementType, LocalDateTime> earned = AchievementHistory.fromDiaries(diaries);
+
+        statsKeywordRepository.findYearMonthsWithKeywordsAtLeast(bifId, AchievementHistory.KEYWORD_MASTER_THRESHOLD).stream()
+                .map(yearMonth -> AchievementHistory.lastDiaryInMonth(diaries, YearMonth.from(yearMonth)))
+                .flatMap(Optional::stream)
+                .findFirst()
+                .ifPresent(earnedAt -> earned.put(AchievementType.KEYWORD_MASTER, earnedAt));
+
+        guardianRepository.findByBif_BifId(bifId).stream()
+                .map(Guardian::getCreatedAt)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .ifPresent(earnedAt -> earned.put(AchievementType.GUARDIAN_CONNECTION, earnedAt));
+
+        int awarded = 0;
+        for (Map.Entry<AchievementType, LocalDateTime> entry : earned.entrySet()) {
+            final AchievementType type = entry.getKey();
+            if (achievementLedgerRepository.insertIfAbsentAt(bifId, type.name(), type.getPoints(), entry.getValue()) == 0) {
+                achievementLedgerRepository.backdate(bifId, type, entry.getValue());
+                continue;
             }
+            applyPoints(bifId, type);
+            awarded++;
+        }
 
-            int currentLevel = calculateLevel(totalPoints);
-            String levelTitle = LEVEL_TITLES.getOrDefault(currentLevel, LEVEL_TITLE_EMOTION_EXPLORER);
-            String nextMilestone = calculateNextMilestone(totalPoints);
-
-            return AchievementResult.builder()
-                    .totalPoints(totalPoints)
-                    .currentLevel(currentLevel)
-                    .levelTitle(levelTitle)
-                    .recentAchievements(achievements)
-                    .streakCount(streakCount)
-                    .nextMilestone(nextMilestone)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("업적 계산 중 오류 발생 - bifId: {}", bifId, e);
-            return createDefaultAchievementResult();
+        if (awarded > 0) {
+            log.info("BIF ID {} 업적 백필 완료 - 신규 적립: {}건", bifId, awarded);
         }
+        return awarded;
     }
 
-    private Achievement createAchievement(String code, String name, String description, int points) {
-        return Achievement.builder()
-                .name(name)
-                .description(description)
-                .points(points)
-                .icon(getAchievementIcon(code))
-                .earnedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+    @Transactional(readOnly = true)
+    public AchievementResult getAchievements(final Long bifId, final int streakCount) {
+        final Optional<AchievementTotal> total = achievementTotalRepository.findById(bifId);
+        if (total.isEmpty()) {
+            return createDefaultAchievementResult(streakCount);
+        }
+
+        final int totalPoints = total.get().getTotalPoints();
+        final int currentLevel = total.get().getCurrentLevel();
+        final List<Achievement> recentAchievements = achievementLedgerRepository.findTop5ByBifIdOrderByEarnedAtDesc(bifId).stream()
+                .map(this::toAchievement)
+                .toList();
+
+        return AchievementResult.builder()
+                .totalPoints(totalPoints)
+                .currentLevel(currentLevel)
+                .levelTitle(LEVEL_TITLES.getOrDefault(currentLevel, LEVEL_TITLE_EMOTION_EXPLORER))
+                .recentAchievements(recentAchievements)
+                .streakCount(streakCount)
+                .nextMilestone(calculateNextMilestone(totalPoints))
                 .build();
     }
 
-    private String getAchievementIcon(String code) {
-        return switch (code) {
-            case ACHIEVEMENT_FIRST_DIARY -> "📝";
-            case ACHIEVEMENT_DIARY_STREAK_3 -> "🔥";
-            case ACHIEVEMENT_DIARY_STREAK_7 -> "🌟";
-            case ACHIEVEMENT_DIARY_STREAK_30 -> "🏆";
-            case ACHIEVEMENT_EMOTION_VARIETY -> "🌈";
-            case ACHIEVEMENT_KEYWORD_MASTER -> "🔑";
-            case ACHIEVEMENT_GUARDIAN_CONNECTION -> "👥";
-            case ACHIEVEMENT_MONTHLY_COMPLETE -> "📅";
-            default -> "🎯";
-        };
+    private void award(final Long bifId, final AchievementType type) {
+        if (achievementLedgerRepository.insertIfAbsent(bifId, type.name(), type.getPoints()) == 0) {
+            return;
+        }
+
+        applyPoints(bifId, type);
+    }
+
+    private void applyPoints(final Long bifId, final AchievementType type) {
+        achievementTotalRepository.addPoints(bifId, type.getPoints());
+        achievementTotalRepository.findById(bifId)
+                .ifPresent(total -> achievementTotalRepository.updateLevel(bifId, calculateLevel(total.getTotalPoints())));
+        statsResponseCache.evictAll(bifId);
+        log.info("BIF ID {} 업적 획득 - {} (+{}점)", bifId, type, type.getPoints());
+    }
+
+    private Achievement toAchievement(final AchievementLedger ledger) {
+        final AchievementType type = ledger.getAchievement();
+        return Achievement.builder()
+                .name(type.getKoreanName())
+                .description(type.getDescription())
+                .points(ledger.getPoints())
+                .icon(type.getIcon())
+                .earnedAt(ledger.getEarnedAt().format(EARNED_AT_FORMATTER))
+                .build();
     }
 
-    private int calculateLevel(int totalPoints) {
+    static int calculateLevel(int totalPoints) {
         if (totalPoints >= 500) return 5;
         if (totalPoints >= 300) return 4;
         if (totalPoints >= 150) return 3;
@@ -152,13 +199,13 @@ public class AchievementService {
         return "모든 레벨을 달성했습니다! 🎉";
     }
 
-    private AchievementResult createDefaultAchievementResult() {
+    private AchievementResult createDefaultAchievementResult(final int streakCount) {
         return AchievementResult.builder()
                 .totalPoints(0)
                 .currentLevel(1)
                 .levelTitle(LEVEL_TITLE_EMOTION_EXPLORER)
                 .recentAchievements(new ArrayList<>())
-                .streakCount(0)
+                .streakCount(streakCount)
                 .nextMilestone("10점 달성하여 첫 업적 획득")
                 .build();
     }
@@ -1,86 +1,277 @@
 package com.sage.bif.stats.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sage.bif.common.client.ai.AiServiceClient;
 import com.sage.bif.common.client.ai.AiSettings;
 import com.sage.bif.common.client.ai.dto.AiRequest;
+import com.sage.bif.common.client.ai.dto.AiResponse;
+import com.sage.bif.stats.entity.DiaryAnalysisCache;
 import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.StatsTextCache;
+import com.sage.bif.stats.repository.DiaryAnalysisCacheRepository;
+import com.sage.bif.stats.util.ContentHasher;
+import com.sage.bif.stats.util.EmotionDistributionBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiEmotionAnalysisService {
 
+    private static final double MAX_EMOTION_SCORE = 2.0;
+
     private final AiServiceClient aiClient;
+    private final KeywordDictionary keywordDictionary;
+    private final LocalKeywordExtractor localKeywordExtractor;
+    private final MeterRegistry meterRegistry;
+    private final DiaryAnalysisCacheRepository diaryAnalysisCacheRepository;
+    private final ObjectMapper objectMapper;
+    private final StatsTextCacheService statsTextCacheService;
+    private final ContentHasher contentHasher;
+
+    @Value("${stats.keyword.extraction-mode:SHADOW}")
+    private KeywordExtractionMode keywordExtractionMode;
+
+    @Value("${stats.keyword.local-confidence-threshold:0.6}")
+    private double localConfidenceThreshold;
 
-    public EmotionAnalysisResult analyzeEmotionFromText(String diaryContent) {
+    public EmotionAnalysisResult analyzeEmotionFromText(Long bifId, String diaryContent) {
         try {
+            final String contentHash = contentHasher.hash(diaryContent);
+
+            final Optional<DiaryAnalysisCache> cached = findCurrentAnalysis(bifId, contentHash);
+            if (cached.isPresent()) {
+                meterRegistry.counter("stats.analysis.cache", "result", "hit").increment();
+                return toAnalysisResult(cached.get());
+            }
+            meterRegistry.counter("stats.analysis.cache", "result", "miss").increment();
+
             log.info("AI 감정 분석 시작: {}", diaryContent.substring(0, Math.min(50, diaryContent.length())));
 
             double emotionScore = calculateEmotionScore(diaryContent);
             EmotionType dominantEmotion = EmotionType.fromScore(emotionScore);
-            List<String> extractedKeywords = extractKeywordsWithAI(diaryContent);
+            KeywordExtraction extraction = extractKeywords(diaryContent);
 
-            return EmotionAnalysisResult.builder()
+            final EmotionAnalysisResult result = EmotionAnalysisResult.builder()
                     .emotionScore(emotionScore)
                     .dominantEmotion(dominantEmotion)
-                    .keywords(extractedKeywords)
+                    .keywords(extraction.getKeywords())
                     .confidence(0.85)
                     .build();
 
+            if (extraction.isCacheable()) {
+                storeAnalysis(bifId, contentHash, analysisVersion(ScoreSource.DICTIONARY), result);
+            }
+            return result;
+
         } catch (Exception e) {
             log.error("AI 감정 분석 중 오류 발생", e);
             return createDefaultAnalysisResult();
         }
     }
 
+    // 일기 피드백과 함께 받은 키워드·점수를 분석 캐시에 기록해, 이후 통계 갱신이 같은 일기로 AI를 다시 호출하지 않게 한다.
+    public void recordPrecomputedAnalysis(Long bifId, String diaryContent, List<String> aiKeywords, double aiEmotionScore) {
+        try {
+            final String contentHash = contentHasher.hash(diaryContent);
+            final String analysisVersion = analysisVersion(ScoreSource.AI);
+            if (diaryAnalysisCacheRepository.findByBifIdAndContentHashAndAnalysisVersion(bifId, contentHash, analysisVersion).isPresent()) {
+                return;
+            }
+
+            final double emotionScore = Math.max(-MAX_EMOTION_SCORE, Math.min(MAX_EMOTION_SCORE, aiEmotionScore));
+            final KeywordExtraction extraction = extractKeywords(diaryContent, () -> {
+                recordKeywordSource("combined");
+                return new KeywordExtraction(validateAiKeywords(aiKeywords, diaryContent), true);
+            });
+
+            storeAnalysis(bifId, contentHash, analysisVersion, EmotionAnalysisResult.builder()
+                    .emotionScore(emotionScore)
+                    .dominantEmotion(EmotionType.fromScore(emotionScore))
+                    .keywords(extraction.getKeywords())
+                    .confidence(0.85)
+                    .build());
+
+        } catch (Exception e) {
+            log.warn("일기 피드백 분석 결과 기록 실패 - 통계 갱신 시 다시 분석합니다.", e);
+        }
+    }
+
+    public Optional<List<String>> findAnalyzedKeywords(Long bifId, String contentHash) {
+        try {
+            final Optional<DiaryAnalysisCache> cached = findCurrentAnalysis(bifId, contentHash)
+                    .or(() -> diaryAnalysisCacheRepository.findFirstByBifIdAndContentHashOrderByIdDesc(bifId, contentHash));
+            if (cached.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached.get().getKeywords(), new TypeReference<List<String>>() {}));
+        } catch (Exception e) {
+            log.error("저장된 감정 분석 키워드 조회 실패 - hash: {}", contentHash, e);
+            return Optional.empty();
+        }
+    }
+
+    public void deleteAnalysis(Long bifId, String contentHash) {
+        final int deleted = diaryAnalysisCacheRepository.deleteByBifIdAndContentHash(bifId, contentHash);
+        log.debug("BIF ID {}의 삭제된 일기 분석 결과 {}건 제거", bifId, deleted);
+    }
+
+    // 수정 전 내용의 분석 결과는 차분 반영에 쓴 뒤 지운다. 내용이 그대로면 현재 분석 결과이므로 남긴다.
+    public void deleteReplacedAnalysis(Long bifId, String previousContentHash, String diaryContent) {
+        if (!previousContentHash.equals(contentHasher.hash(diaryContent))) {
+            deleteAnalysis(bifId, previousContentHash);
+        }
+    }
+
+    public void deleteAnalyses(Long bifId) {
+        final int deleted = diaryAnalysisCacheRepository.deleteByBifId(bifId);
+        log.info("BIF ID {}의 일기 분석 결과 {}건 제거", bifId, deleted);
+    }
+
+    // 피드백과 함께 받은 AI 점수가 있으면 그것을, 없으면 사전 점수를 쓴다. 키워드 차분도 같은 순서로 조회한다.
+    private Optional<DiaryAnalysisCache> findCurrentAnalysis(Long bifId, String contentHash) {
+        return diaryAnalysisCacheRepository.findByBifIdAndContentHashAndAnalysisVersion(bifId, contentHash, analysisVersion(ScoreSource.AI))
+                .or(() -> diaryAnalysisCacheRepository.findByBifIdAndContentHashAndAnalysisVersion(
+                        bifId, contentHash, analysisVersion(ScoreSource.DICTIONARY)));
+    }
+
+    private String analysisVersion(ScoreSource scoreSource) {
+        return AiSettings.STATS_KEYWORD_EXTRACTION.getPromptVersion()
+                + ":" + keywordExtractionMode.name()
+                + ":dict-" + keywordDictionary.getVersion()
+                + ":score-" + scoreSource.getKey();
+    }
+
+    private void storeAnalysis(Long bifId, String contentHash, String analysisVersion, EmotionAnalysisResult result) {
+        try {
+            diaryAnalysisCacheRepository.insertIfAbsent(bifId, contentHash, analysisVersion,
+                    objectMapper.writeValueAsString(result.getKeywords()), result.getEmotionScore(),
+                    result.getDominantEmotion().name(), result.getConfidence());
+        } catch (Exception e) {
+            log.warn("감정 분석 결과 저장 실패 - 다음 요청 시 다시 분석합니다. hash: {}", contentHash, e);
+        }
+    }
+
+    private EmotionAnalysisResult toAnalysisResult(DiaryAnalysisCache cached) throws JsonProcessingException {
+        return EmotionAnalysisResult.builder()
+                .emotionScore(cached.getEmotionScore())
+                .dominantEmotion(cached.getDominantEmotion())
+                .keywords(objectMapper.readValue(cached.getKeywords(), new TypeReference<List<String>>() {}))
+                .confidence(cached.getConfidence())
+                .build();
+    }
+
     public String generateStatisticsTextWithAI(Map<EmotionType, Integer> emotionCounts) {
+        return generateStatisticsTextAsync(emotionCounts).join();
+    }
+
+    public CompletableFuture<String> generateStatisticsTextAsync(Map<EmotionType, Integer> emotionCounts) {
+        return tryGenerateStatisticsTextAsync(emotionCounts)
+                .thenApply(text -> text.orElseGet(() -> generateStatisticsTextFallback(emotionCounts)));
+    }
+
+    // AI 생성에 실패하면 기본 문구 대신 빈 값을 돌려준다. 기본 문구인지 구분해 저장해야 하는 호출자가 쓴다.
+    public CompletableFuture<Optional<String>> tryGenerateStatisticsTextAsync(Map<EmotionType, Integer> emotionCounts) {
+        final EmotionDistributionBucket bucket;
         try {
-            String prompt = createStatisticsPrompt(emotionCounts);
-            AiRequest request = new AiRequest(prompt);
-            String response = aiClient.generate(request, AiSettings.STATS_EMOTION_ANALYSIS).getContent();
-            
-            log.info("AI 통계 텍스트 생성 완료: {}", response.substring(0, Math.min(100, response.length())));
-            return response;
-            
+            bucket = EmotionDistributionBucket.of(emotionCounts);
         } catch (Exception e) {
             log.error("AI 통계 텍스트 생성 실패", e);
-            return generateStatisticsTextFallback(emotionCounts);
+            return CompletableFuture.completedFuture(Optional.empty());
         }
+
+        return statsTextCacheService.getOrGenerate(StatsTextCache.Kind.STATISTICS, bucket,
+                        AiSettings.STATS_EMOTION_ANALYSIS.getPromptVersion(),
+                        () -> aiClient.generateAsync(new AiRequest(createStatisticsPrompt(bucket)), AiSettings.STATS_EMOTION_ANALYSIS)
+                                .thenApply(AiResponse::getContent))
+                .thenApply(text -> {
+                    log.info("AI 통계 텍스트 생성 완료: {}", text.substring(0, Math.min(100, text.length())));
+                    return Optional.of(text);
+                })
+                .exceptionally(e -> {
+                    log.error("AI 통계 텍스트 생성 실패", e);
+                    return Optional.empty();
+                });
     }
 
     public String generateGuardianAdviceWithAI(Map<EmotionType, Integer> emotionCounts) {
+        return generateGuardianAdviceAsync(emotionCounts).join();
+    }
+
+    public CompletableFuture<String> generateGuardianAdviceAsync(Map<EmotionType, Integer> emotionCounts) {
+        return tryGenerateGuardianAdviceAsync(emotionCounts)
+                .thenApply(text -> text.orElseGet(() -> generateGuardianAdviceFallback(emotionCounts)));
+    }
+
+    public CompletableFuture<Optional<String>> tryGenerateGuardianAdviceAsync(Map<EmotionType, Integer> emotionCounts) {
+        final EmotionDistributionBucket bucket;
         try {
-            String prompt = createGuardianAdvicePrompt(emotionCounts);
-            AiRequest request = new AiRequest(prompt);
-            String response = aiClient.generate(request, AiSettings.STATS_GUARDIAN_ADVICE).getContent();
-            
-            log.info("AI 보호자 조언 생성 완료: {}", response.substring(0, Math.min(100, response.length())));
-            return response;
-            
+            bucket = EmotionDistributionBucket.of(emotionCounts);
         } catch (Exception e) {
             log.error("AI 보호자 조언 생성 실패", e);
-            return generateGuardianAdviceFallback(emotionCounts);
+            return CompletableFuture.completedFuture(Optional.empty());
         }
+
+        return statsTextCacheService.getOrGenerate(StatsTextCache.Kind.GUARDIAN_ADVICE, bucket,
+                        AiSettings.STATS_GUARDIAN_ADVICE.getPromptVersion(),
+                        () -> aiClient.generateAsync(new AiRequest(createGuardianAdvicePrompt(bucket)), AiSettings.STATS_GUARDIAN_ADVICE)
+                                .thenApply(AiResponse::getContent))
+                .thenApply(text -> {
+                    log.info("AI 보호자 조언 생성 완료: {}", text.substring(0, Math.min(100, text.length())));
+                    return Optional.of(text);
+                })
+                .exceptionally(e -> {
+                    log.error("AI 보호자 조언 생성 실패", e);
+                    return Optional.empty();
+                });
     }
 
-    private String createStatisticsPrompt(Map<EmotionType, Integer> emotionCounts) {
-        int total = emotionCounts.values().stream().mapToInt(Integer::intValue).sum();
-        if (total == 0) {
+    // 두 문구 중 하나라도 기본 문구로 대체되면 aiGenerated는 false다.
+    public CompletableFuture<StatsTexts> generateStatsTextsAsync(Map<EmotionType, Integer> emotionCounts) {
+        final CompletableFuture<Optional<String>> statisticsText = tryGenerateStatisticsTextAsync(emotionCounts);
+        final CompletableFuture<Optional<String>> adviceText = tryGenerateGuardianAdviceAsync(emotionCounts);
+        return statisticsText.thenCombine(adviceText, (statistics, advice) -> new StatsTexts(
+                statistics.orElseGet(() -> generateStatisticsTextFallback(emotionCounts)),
+                advice.orElseGet(() -> generateGuardianAdviceFallback(emotionCounts)),
+                statistics.isPresent() && advice.isPresent()));
+    }
+
+    public boolean isTextCached(EmotionDistributionBucket bucket) {
+        return statsTextCacheService.isCached(StatsTextCache.Kind.STATISTICS, bucket, AiSettings.STATS_EMOTION_ANALYSIS.getPromptVersion())
+                && statsTextCacheService.isCached(StatsTextCache.Kind.GUARDIAN_ADVICE, bucket, AiSettings.STATS_GUARDIAN_ADVICE.getPromptVersion());
+    }
+
+    public void prefetchTexts(Map<EmotionType, Integer> emotionCounts) {
+        CompletableFuture.allOf(generateStatisticsTextAsync(emotionCounts), generateGuardianAdviceAsync(emotionCounts)).join();
+    }
+
+    private String createStatisticsPrompt(EmotionDistributionBucket bucket) {
+        if (bucket.isEmpty()) {
             return "이번 달에는 작성된 일기가 없습니다. 첫 번째 일기를 작성해보세요!";
         }
 
         StringBuilder prompt = new StringBuilder();
         prompt.append("다음은 사용자의 월별 감정 통계입니다. ");
-        prompt.append("감정별 개수와 비율을 바탕으로 간단하고 격려가 되는 요약을 작성해주세요.%n%n");
+        prompt.append("감정별 비율을 바탕으로 간단하고 격려가 되는 요약을 작성해주세요.%n%n");
         
-        appendEmotionStatistics(prompt, emotionCounts, total);
+        appendEmotionStatistics(prompt, bucket);
         
         prompt.append("%n요구사항:%n");
         prompt.append("1. 감정 상태를 정확하게 분석하여 요약%n");
@@ -89,16 +280,15 @@ public class AiEmotionAnalysisService {
         prompt.append("4. 따뜻하고 격려가 되는 톤으로 작성%n");
         prompt.append("5. 예시 일기문이나 구체적인 제안은 하지 말 것%n");
         prompt.append("6. 감정일기 피드백처럼 공감적이고 건설적인 내용으로 작성%n");
-        prompt.append("7. 월 초반(1-3일)에는 '이번 달의 시작'을 언급하고, 일기 작성 습관을 격려하는 내용 포함%n");
+        prompt.append("7. 일기 개수나 날짜는 언급하지 말고 감정 비율만으로 작성%n");
         prompt.append("8. 구체적인 예시나 질문은 절대 제외하고, 일반적이고 격려적인 메시지로 작성%n");
         prompt.append("9. '예시를 써드릴게요', '도와드릴게요', '어떨까요?' 같은 표현 금지");
 
         return prompt.toString();
     }
 
-    private String createGuardianAdvicePrompt(Map<EmotionType, Integer> emotionCounts) {
-        int total = emotionCounts.values().stream().mapToInt(Integer::intValue).sum();
-        if (total == 0) {
+    private String createGuardianAdvicePrompt(EmotionDistributionBucket bucket) {
+        if (bucket.isEmpty()) {
             return "사용자의 감정 데이터가 없어 조언을 제공할 수 없습니다.";
         }
 
@@ -106,7 +296,7 @@ public class AiEmotionAnalysisService {
         prompt.append("다음은 사용자의 월별 감정 통계입니다. ");
         prompt.append("보호자 입장에서 간단한 조언을 제공해주세요.%n%n");
         
-        appendEmotionStatistics(prompt, emotionCounts, total);
+        appendEmotionStatistics(prompt, bucket);
         
         prompt.append("%n요구사항:%n");
         prompt.append("1. 사용자의 감정 상태를 정확하게 분석%n");
@@ -121,24 +311,88 @@ public class AiEmotionAnalysisService {
         return prompt.toString();
     }
 
-    private void appendEmotionStatistics(StringBuilder prompt, Map<EmotionType, Integer> emotionCounts, int total) {
-        prompt.append("감정 통계:%n");
-        for (Map.Entry<EmotionType, Integer> entry : emotionCounts.entrySet()) {
-            if (entry.getValue() > 0) {
-                double percentage = (double) entry.getValue() / total * 100;
-                prompt.append(String.format("- %s: %d회 (%.1f%%)%n", 
-                    entry.getKey().getKoreanName(), entry.getValue(), percentage));
+    private void appendEmotionStatistics(StringBuilder prompt, EmotionDistributionBucket bucket) {
+        prompt.append("감정 비율:%n");
+        for (EmotionType emotion : EmotionType.values()) {
+            final int percentage = bucket.getPercentage(emotion);
+            if (percentage > 0) {
+                prompt.append(String.format("- %s: 약 %d%%%n", emotion.getKoreanName(), percentage));
             }
         }
     }
 
+    private KeywordExtraction extractKeywords(String content) {
+        return extractKeywords(content, () -> extractKeywordsWithAITimed(content));
+    }
+
+    private KeywordExtraction extractKeywords(String content, Supplier<KeywordExtraction> aiExtraction) {
+        if (content == null || content.trim().isEmpty()) {
+            return new KeywordExtraction(new ArrayList<>(), true);
+        }
+
+        if (keywordExtractionMode == KeywordExtractionMode.AI_ONLY) {
+            return aiExtraction.get();
+        }
+
+        final Timer.Sample localSample = Timer.start(meterRegistry);
+        final LocalKeywordExtractor.Result local = localKeywordExtractor.extract(content);
+        localSample.stop(meterRegistry.timer("stats.keyword.extraction", "source", "local"));
+
+        switch (keywordExtractionMode) {
+            case LOCAL_ONLY:
+                recordKeywordSource("local");
+                return new KeywordExtraction(new ArrayList<>(local.getKeywords()), true);
+            case LOCAL_FIRST:
+                if (!local.getKeywords().isEmpty() && local.getConfidence() >= localConfidenceThreshold) {
+                    recordKeywordSource("local");
+                    return new KeywordExtraction(new ArrayList<>(local.getKeywords()), true);
+                }
+                log.debug("로컬 키워드 신뢰도 부족({}) - AI 추출로 전환", local.getConfidence());
+                return aiExtraction.get();
+            default:
+                final KeywordExtraction ai = aiExtraction.get();
+                recordKeywordAgreement(local.getKeywords(), ai.getKeywords());
+                return ai;
+        }
+    }
+
+    private KeywordExtraction extractKeywordsWithAITimed(String content) {
+        recordKeywordSource("ai");
+        final Timer.Sample aiSample = Timer.start(meterRegistry);
+        try {
+            return new KeywordExtraction(extractKeywordsWithAI(content), true);
+        } catch (Exception e) {
+            log.error("AI 키워드 추출 실패", e);
+            return new KeywordExtraction(extractKeywordsFallback(content), false);
+        } finally {
+            aiSample.stop(meterRegistry.timer("stats.keyword.extraction", "source", "ai"));
+        }
+    }
+
+    private void recordKeywordSource(String source) {
+        meterRegistry.counter("stats.keyword.extraction.requests", "mode", keywordExtractionMode.name(), "source", source).increment();
+    }
+
+    private void recordKeywordAgreement(List<String> localKeywords, List<String> aiKeywords) {
+        final Set<String> union = new HashSet<>(localKeywords);
+        union.addAll(aiKeywords);
+        if (union.isEmpty()) {
+            return;
+        }
+
+        final Set<String> intersection = new HashSet<>(localKeywords);
+        intersection.retainAll(aiKeywords);
+        final double agreement = (double) intersection.size() / union.size();
+        meterRegistry.summary("stats.keyword.extraction.agreement").record(agreement);
+        log.debug("키워드 추출 비교 - 로컬: {}, AI: {}, 일치율: {}", localKeywords, aiKeywords, agreement);
+    }
+
     private List<String> extractKeywordsWithAI(String content) {
         if (content == null || content.trim().isEmpty()) {
             return new ArrayList<>();
         }
 
-        try {
-            String prompt = String.format(
+        String prompt = String.format(
                 "다음 감정일기 내용에서 개인의 감정과 경험을 나타내는 의미있는 키워드만 추출해주세요.\n\n" +
                 "일기 내용에 직접적으로 언급되지 않은 단어는 추출하지 마세요.\n\n" +
                 "일기 내용: %s\n\n" +
@@ -159,56 +413,54 @@ public class AiEmotionAnalysisService {
                 "- '친구와 카페에서 커피를 마셨다. 정말 기분이 좋았다' → 친구, 카페, 커피, 기쁨\n" +
                 "- '오늘 뱃지 게이미피케이션 관련된거 완성된 것 같아서 너무 좋다. 지금 시간은 03시 50분 깃허브에 올리고 드디어 잘 수 있겠어' → 만족감, 완성감, 안도감",
                 content.substring(0, Math.min(500, content.length()))
-            );
-
-            AiRequest request = new AiRequest(prompt);
-            String response = aiClient.generate(request, AiSettings.STATS_KEYWORD_EXTRACTION).getContent();
-            
-            log.info("AI 키워드 추출 원본 응답: {}", response);
-            
-            String[] keywords = response.split(",");
-            List<String> extractedKeywords = new java.util.ArrayList<>();
-            String lowerContent = content.toLowerCase();
-            
-            for (String keyword : keywords) {
-                String trimmed = keyword.trim();
-                if (!trimmed.isEmpty() && trimmed.length() <= 10) {
-                    boolean isValid = false;
-                    
-                    if (lowerContent.contains(trimmed.toLowerCase())) {
-                        isValid = true;
-                    }
-                    
-                    if (!isValid && trimmed.length() >= 2) {
-                        String[] words = lowerContent.split("\\s+");
-                        for (String word : words) {
-                            if (word.contains(trimmed.toLowerCase()) || trimmed.toLowerCase().contains(word)) {
-                                isValid = true;
-                                break;
-                            }
+        );
+
+        AiRequest request = new AiRequest(prompt);
+        String response = aiClient.generate(request, AiSettings.STATS_KEYWORD_EXTRACTION).getContent();
+        
+        log.info("AI 키워드 추출 원본 응답: {}", response);
+        
+        return validateAiKeywords(Arrays.asList(response.split(",")), content);
+    }
+
+    private List<String> validateAiKeywords(List<String> keywords, String content) {
+        List<String> extractedKeywords = new java.util.ArrayList<>();
+        String lowerContent = content.toLowerCase();
+        
+        for (String keyword : keywords) {
+            String trimmed = keyword.trim();
+            if (!trimmed.isEmpty() && trimmed.length() <= 10) {
+                boolean isValid = false;
+                
+                if (lowerContent.contains(trimmed.toLowerCase())) {
+                    isValid = true;
+                }
+                
+                if (!isValid && trimmed.length() >= 2) {
+                    String[] words = lowerContent.split("\\s+");
+                    for (String word : words) {
+                        if (word.contains(trimmed.toLowerCase()) || trimmed.toLowerCase().contains(word)) {
+                            isValid = true;
+                            break;
                         }
                     }
-                    
-                    if (isValid) {
-                        extractedKeywords.add(trimmed);
-                        log.info("키워드 검증 통과: {} (일기 내용: {})", trimmed, content.substring(0, Math.min(100, content.length())));
-                    } else {
-                        log.warn("키워드 검증 실패 - 일기 내용에 없음: {} (일기 내용: {})", trimmed, content.substring(0, Math.min(100, content.length())));
-                    }
+                }
+                
+                if (isValid) {
+                    extractedKeywords.add(trimmed);
+                    log.info("키워드 검증 통과: {} (일기 내용: {})", trimmed, content.substring(0, Math.min(100, content.length())));
+                } else {
+                    log.warn("키워드 검증 실패 - 일기 내용에 없음: {} (일기 내용: {})", trimmed, content.substring(0, Math.min(100, content.length())));
                 }
             }
-            
-            if (extractedKeywords.isEmpty()) {
-                log.info("AI 키워드 추출 결과가 비어있음 - fallback 사용");
-                return extractKeywordsFallback(content);
-            }
-            
-            return extractedKeywords.subList(0, Math.min(5, extractedKeywords.size()));
-            
-        } catch (Exception e) {
-            log.error("AI 키워드 추출 실패", e);
+        }
+        
+        if (extractedKeywords.isEmpty()) {
+            log.info("AI 키워드 추출 결과가 비어있음 - fallback 사용");
             return extractKeywordsFallback(content);
         }
+        
+        return extractedKeywords.subList(0, Math.min(5, extractedKeywords.size()));
     }
 
 
@@ -217,28 +469,11 @@ public class AiEmotionAnalysisService {
             return new ArrayList<>();
         }
 
-        String[] commonKeywords = {
-                "가족", "친구", "직장", "학교", "공부", "일", "취미", "운동", "음식",
-                "여행", "영화", "음악", "책", "게임", "쇼핑", "요리", "정리", "청소"
-        };
-
-        List<String> foundKeywords = new java.util.ArrayList<>();
-        String lowerContent = content.toLowerCase();
-
-        for (String keyword : commonKeywords) {
-            if (lowerContent.contains(keyword)) {
-                foundKeywords.add(keyword);
-            }
-        }
-
-        if (foundKeywords.isEmpty()) {
-            return new ArrayList<>();
-        }
-
+        final List<String> foundKeywords = keywordDictionary.scan(content).terms(KeywordDictionary.Category.COMMON);
         return foundKeywords.subList(0, Math.min(5, foundKeywords.size()));
     }
 
-    private String generateStatisticsTextFallback(Map<EmotionType, Integer> emotionCounts) {
+    public String generateStatisticsTextFallback(Map<EmotionType, Integer> emotionCounts) {
         final int total = emotionCounts.values().stream().mapToInt(Integer::intValue).sum();
         
         if (total == 0) {
@@ -271,7 +506,7 @@ public class AiEmotionAnalysisService {
         }
     }
 
-    private String generateGuardianAdviceFallback(Map<EmotionType, Integer> emotionCounts) {
+    public String generateGuardianAdviceFallback(Map<EmotionType, Integer> emotionCounts) {
         final int total = emotionCounts.values().stream().mapToInt(Integer::intValue).sum();
         
         if (total == 0) {
@@ -303,42 +538,7 @@ public class AiEmotionAnalysisService {
             return 0.0;
         }
 
-        double score = 0.0;
-        String lowerContent = content.toLowerCase();
-
-        Map<String, Double> positiveWords = Map.of(
-                "행복", 2.0, "기쁨", 2.0, "즐거움", 1.5, "좋음", 1.0, "만족", 1.5,
-                "감사", 1.5, "사랑", 2.0, "희망", 1.5, "성공", 1.0, "축하", 1.5
-        );
-
-        Map<String, Double> negativeWords = Map.of(
-                "슬픔", -2.0, "화남", -2.0, "짜증", -1.5, "불만", -1.0, "걱정", -1.5,
-                "스트레스", -1.5, "실패", -1.0, "우울", -2.0, "불안", -1.5, "지루함", -0.5
-        );
-
-        Map<String, Double> neutralWords = Map.of(
-                "보통", 0.0, "평범", 0.0, "일반", 0.0, "그냥", 0.0
-        );
-
-        for (Map.Entry<String, Double> entry : positiveWords.entrySet()) {
-            if (lowerContent.contains(entry.getKey())) {
-                score += entry.getValue();
-            }
-        }
-
-        for (Map.Entry<String, Double> entry : negativeWords.entrySet()) {
-            if (lowerContent.contains(entry.getKey())) {
-                score += entry.getValue();
-            }
-        }
-
-        for (Map.Entry<String, Double> entry : neutralWords.entrySet()) {
-            if (lowerContent.contains(entry.getKey())) {
-                score += entry.getValue();
-            }
-        }
-
-        return Math.max(-2.0, Math.min(2.0, score));
+        return keywordDictionary.scan(content).emotionScore();
     }
 
 
@@ -351,6 +551,31 @@ public class AiEmotionAnalysisService {
                 .build();
     }
 
+    // 분석 캐시 버전 키에 포함되어 같은 일기의 AI 점수와 사전 점수가 서로를 덮어쓰지 않게 한다
+    @lombok.Getter
+    @lombok.RequiredArgsConstructor
+    private enum ScoreSource {
+        DICTIONARY("dict"),
+        AI("ai");
+
+        private final String key;
+    }
+
+    @lombok.Getter
+    @lombok.RequiredArgsConstructor
+    private static class KeywordExtraction {
+        private final List<String> keywords;
+        private final boolean cacheable;
+    }
+
+    @lombok.Getter
+    @lombok.RequiredArgsConstructor
+    public static class StatsTexts {
+        private final String statisticsText;
+        private final String adviceText;
+        private final boolean aiGenerated;
+    }
+
     @lombok.Getter
     public static class EmotionAnalysisResult {
         private double emotionScore;
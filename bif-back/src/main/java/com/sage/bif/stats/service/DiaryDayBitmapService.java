@@ -0,0 +1,122 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.repository.DiaryRepository;
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import com.sage.bif.stats.entity.DiaryDayBitmap;
+import com.sage.bif.stats.repository.DiaryDayBitmapRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.BitSet;
+
+// 연도별 366비트(일기 작성일) 비트맵. 하루 한 편만 작성 가능하므로 popcount가 곧 일기 수다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DiaryDayBitmapService {
+
+    private final DiaryDayBitmapRepository diaryDayBitmapRepository;
+    private final DiaryRepository diaryRepository;
+
+    public void markDay(final Long bifId, final LocalDateTime diaryCreatedAt) {
+        final int year = diaryCreatedAt.getYear();
+        seedIfAbsent(bifId, year);
+        diaryDayBitmapRepository.setDays(bifId, year, toBytes(singleDay(diaryCreatedAt.toLocalDate())));
+    }
+
+    public void clearDay(final Long bifId, final LocalDateTime diaryCreatedAt) {
+        final int year = diaryCreatedAt.getYear();
+        if (seedIfAbsent(bifId, year)) {
+            return;
+        }
+
+        final BitSet keep = new BitSet(DiaryDayBitmap.BITMAP_BYTES * Byte.SIZE);
+        keep.set(0, DiaryDayBitmap.BITMAP_BYTES * Byte.SIZE);
+        keep.andNot(singleDay(diaryCreatedAt.toLocalDate()));
+        diaryDayBitmapRepository.keepDays(bifId, year, toBytes(keep));
+    }
+
+    public boolean seedIfAbsent(final Long bifId, final int year) {
+        if (diaryDayBitmapRepository.existsByBifIdAndYear(bifId, year)) {
+            return false;
+        }
+
+        final BitSet days = loadFromDiaries(bifId, year);
+        diaryDayBitmapRepository.setDays(bifId, year, toBytes(days));
+        log.info("BIF ID {}의 {}년 일기 작성일 비트맵 초기화 완료 - 작성일 수: {}", bifId, year, days.cardinality());
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public int countDays(final Long bifId, final int year) {
+        return loadDays(bifId, year).cardinality();
+    }
+
+    @Transactional(readOnly = true)
+    public int countDaysInMonth(final Long bifId, final YearMonth yearMonth) {
+        final int from = dayIndex(yearMonth.atDay(1));
+        return loadDays(bifId, yearMonth.getYear()).get(from, from + yearMonth.lengthOfMonth()).cardinality();
+    }
+
+    @Transactional(readOnly = true)
+    public int currentStreak(final Long bifId, final LocalDate today) {
+        BitSet days = loadDays(bifId, today.getYear());
+        LocalDate day = today;
+        if (!days.get(dayIndex(today))) {
+            day = today.minusDays(1);
+            if (day.getYear() != today.getYear()) {
+                days = loadDays(bifId, day.getYear());
+            }
+        }
+
+        int streak = 0;
+        while (true) {
+            final int index = dayIndex(day);
+            final int gap = days.previousClearBit(index);
+            streak += index - gap;
+            if (gap >= 0) {
+                return streak;
+            }
+
+            day = LocalDate.of(day.getYear() - 1, 12, 31);
+            days = loadDays(bifId, day.getYear());
+        }
+    }
+
+    private BitSet loadDays(final Long bifId, final int year) {
+        return diaryDayBitmapRepository.findByBifIdAndYear(bifId, year)
+                .map(bitmap -> BitSet.valueOf(bitmap.getDays()))
+                .orElseGet(() -> loadFromDiaries(bifId, year));
+    }
+
+    private BitSet loadFromDiaries(final Long bifId, final int year) {
+        final LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0, 0);
+        final BitSet days = new BitSet(DiaryDayBitmap.BITMAP_BYTES * Byte.SIZE);
+        for (DiaryEmotionView entry : diaryRepository.findEmotionsByUserIdAndDateBetween(bifId, startOfYear, startOfYear.plusYears(1))) {
+            days.set(dayIndex(entry.getCreatedAt().toLocalDate()));
+        }
+        return days;
+    }
+
+    private BitSet singleDay(final LocalDate date) {
+        final BitSet day = new BitSet(DiaryDayBitmap.BITMAP_BYTES * Byte.SIZE);
+        day.set(dayIndex(date));
+        return day;
+    }
+
+    private int dayIndex(final LocalDate date) {
+        return date.getDayOfYear() - 1;
+    }
+
+    private byte[] toBytes(final BitSet days) {
+        return Arrays.copyOf(days.toByteArray(), DiaryDayBitmap.BITMAP_BYTES);
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.model.Emotion;
+import com.sage.bif.diary.repository.DiaryRepository;
+import com.sage.bif.diary.repository.projection.EmotionCountView;
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.StatsEmotionCount;
+import com.sage.bif.stats.repository.StatsEmotionCountRepository;
+import com.sage.bif.stats.util.EmotionMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmotionCounterService {
+
+    private final StatsEmotionCountRepository statsEmotionCountRepository;
+    private final DiaryRepository diaryRepository;
+
+    @Transactional(readOnly = true)
+    public Map<EmotionType, Integer> getCounts(final Long bifId, final LocalDateTime yearMonth) {
+        final LocalDateTime monthKey = toYearMonth(yearMonth);
+        final List<StatsEmotionCount> counters = statsEmotionCountRepository.findByBifIdAndYearMonth(bifId, monthKey);
+
+        if (counters.isEmpty()) {
+            return countFromDiaries(bifId, monthKey);
+        }
+
+        final Map<EmotionType, Integer> counts = initializeEmotionCounts();
+        for (StatsEmotionCount counter : counters) {
+            counts.put(counter.getEmotion(), counter.getCount());
+        }
+        return counts;
+    }
+
+    public void increment(final Long bifId, final LocalDateTime diaryCreatedAt, final Emotion emotion) {
+        applyDelta(bifId, diaryCreatedAt, emotion, 1);
+    }
+
+    public void decrement(final Long bifId, final LocalDateTime diaryCreatedAt, final Emotion emotion) {
+        applyDelta(bifId, diaryCreatedAt, emotion, -1);
+    }
+
+    public void move(final Long bifId, final LocalDateTime diaryCreatedAt, final Emotion from, final Emotion to) {
+        if (from == null || to == null) {
+            return;
+        }
+
+        final EmotionType fromType = EmotionMapper.mapDiaryEmotionToStats(from);
+        final EmotionType toType = EmotionMapper.mapDiaryEmotionToStats(to);
+        if (fromType == toType) {
+            return;
+        }
+
+        final LocalDateTime monthKey = toYearMonth(diaryCreatedAt);
+        if (seedIfAbsent(bifId, monthKey)) {
+            return;
+        }
+
+        statsEmotionCountRepository.applyDelta(bifId, monthKey, fromType.name(), -1);
+        statsEmotionCountRepository.applyDelta(bifId, monthKey, toType.name(), 1);
+        log.debug("BIF ID {}의 감정 카운터 이동 - {} -> {}", bifId, fromType, toType);
+    }
+
+    public static LocalDateTime toYearMonth(final LocalDateTime dateTime) {
+        return LocalDateTime.of(dateTime.getYear(), dateTime.getMonth(), 1, 0, 0, 0);
+    }
+
+    private void applyDelta(final Long bifId, final LocalDateTime diaryCreatedAt, final Emotion emotion, final int delta) {
+        if (emotion == null) {
+            return;
+        }
+
+        final LocalDateTime monthKey = toYearMonth(diaryCreatedAt);
+        if (seedIfAbsent(bifId, monthKey)) {
+            return;
+        }
+
+        final EmotionType emotionType = EmotionMapper.mapDiaryEmotionToStats(emotion);
+        statsEmotionCountRepository.applyDelta(bifId, monthKey, emotionType.name(), delta);
+        log.debug("BIF ID {}의 감정 카운터 갱신 - 감정: {}, 변화량: {}", bifId, emotionType, delta);
+    }
+
+    private boolean seedIfAbsent(final Long bifId, final LocalDateTime monthKey) {
+        if (statsEmotionCountRepository.existsByBifIdAndYearMonth(bifId, monthKey)) {
+            return false;
+        }
+
+        final Map<EmotionType, Integer> counts = countFromDiaries(bifId, monthKey);
+        for (Map.Entry<EmotionType, Integer> entry : counts.entrySet()) {
+            statsEmotionCountRepository.upsertCount(bifId, monthKey, entry.getKey().name(), entry.getValue());
+        }
+
+        log.info("BIF ID {}의 {}년 {}월 감정 카운터 초기화 완료 - {}", bifId, monthKey.getYear(), monthKey.getMonthValue(), counts);
+        return true;
+    }
+
+    private Map<EmotionType, Integer> countFromDiaries(final Long bifId, final LocalDateTime monthKey) {
+        final Map<EmotionType, Integer> counts = initializeEmotionCounts();
+        final List<EmotionCountView> rows = diaryRepository.countEmotionsByUserIdAndDateBetween(bifId, monthKey, monthKey.plusMonths(1));
+
+        for (EmotionCountView row : rows) {
+            final EmotionType emotionType = EmotionMapper.mapDiaryEmotionToStats(row.getEmotion());
+            counts.merge(emotionType, row.getCount().intValue(), Integer::sum);
+        }
+        return counts;
+    }
+
+    private Map<EmotionType, Integer> initializeEmotionCounts() {
+        final Map<EmotionType, Integer> counts = new EnumMap<>(EmotionType.class);
+        for (EmotionType emotion : EmotionType.values()) {
+            counts.put(emotion, 0);
+        }
+        return counts;
+    }
+
+}
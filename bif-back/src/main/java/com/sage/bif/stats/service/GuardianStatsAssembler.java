@@ -0,0 +1,66 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.stats.dto.GuardianStatsResponse;
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.Stats;
+import com.sage.bif.stats.repository.StatsRepository;
+import com.sage.bif.stats.util.EmotionComparisonCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuardianStatsAssembler {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final StatsRepository statsRepository;
+    private final EmotionCounterService emotionCounterService;
+    private final AiEmotionAnalysisService aiEmotionAnalysisService;
+    private final StatsTextRegenerationService statsTextRegenerationService;
+    private final StatsResponseCache statsResponseCache;
+
+    public GuardianStatsResponse assemble(final Long bifId, final String bifNickname, final LocalDateTime guardianJoinedAt) {
+        final LocalDateTime currentYearMonth = EmotionCounterService.toYearMonth(LocalDateTime.now());
+        final GuardianStatsResponse bifStats = statsResponseCache.getGuardianStats(bifId, currentYearMonth,
+                () -> assembleBifStats(bifId, bifNickname, currentYearMonth));
+
+        return GuardianStatsResponse.builder()
+                .bifNickname(bifStats.getBifNickname())
+                .advice(bifStats.getAdvice())
+                .guardianJoinDate(guardianJoinedAt != null ? guardianJoinedAt.format(DATE_FORMATTER) : "")
+                .emotionRatio(bifStats.getEmotionRatio())
+                .monthlyChange(bifStats.getMonthlyChange())
+                .build();
+    }
+
+    private GuardianStatsResponse assembleBifStats(final Long bifId, final String bifNickname, final LocalDateTime yearMonth) {
+        final Map<EmotionType, Integer> emotionCounts = emotionCounterService.getCounts(bifId, yearMonth);
+        final Map<EmotionType, Integer> previousCounts = emotionCounterService.getCounts(bifId, yearMonth.minusMonths(1));
+        final Optional<Stats> stats = statsRepository.findByBifIdAndYearMonth(bifId, yearMonth);
+
+        final String advice;
+        if (stats.isPresent() && stats.get().getGuardianAdviceText() != null) {
+            advice = stats.get().getGuardianAdviceText();
+        } else {
+            log.info("BIF ID {}의 통계 데이터가 없어 보호자 조언을 기본 문구로 제공합니다.", bifId);
+            advice = aiEmotionAnalysisService.generateGuardianAdviceFallback(emotionCounts);
+            statsTextRegenerationService.requestRegeneration(bifId, yearMonth);
+        }
+
+        return GuardianStatsResponse.builder()
+                .bifNickname(bifNickname)
+                .advice(advice)
+                .emotionRatio(EmotionComparisonCalculator.calculateEmotionRatio(emotionCounts))
+                .monthlyChange(EmotionComparisonCalculator.calculateMonthlyChange(emotionCounts, previousCounts))
+                .build();
+    }
+
+}
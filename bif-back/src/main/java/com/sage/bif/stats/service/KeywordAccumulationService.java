@@ -3,10 +3,13 @@ package com.sage.bif.stats.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sage.bif.stats.entity.Stats;
+import com.sage.bif.stats.entity.StatsKeyword;
+import com.sage.bif.stats.repository.StatsKeywordRepository;
 import com.sage.bif.stats.repository.StatsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -15,183 +18,207 @@ import java.util.*;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class KeywordAccumulationService {
 
     private final StatsRepository statsRepository;
+    private final StatsKeywordRepository statsKeywordRepository;
     private final ObjectMapper objectMapper;
+    private final StatsResponseCache statsResponseCache;
+    private final KeywordDictionary keywordDictionary;
 
+    // 키워드 쓰기는 호출자 트랜잭션과 분리한다. 실패는 호출자에게 전파되어 호출자 쪽에서 로그를 남긴다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateKeywordsWithNewContent(Long bifId, List<String> newKeywords) {
-        try {
-            log.info("BIF ID {}의 키워드 누적 업데이트 시작 - 새 키워드: {}", bifId, newKeywords);
-            
-            final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
-            
-            if (existingStats.isPresent()) {
-                final Stats stats = existingStats.get();
-                final Map<String, Integer> currentKeywords = parseKeywordsFromStats(stats.getTopKeywords());
-                
-                final Map<String, Integer> updatedKeywords = mergeKeywords(currentKeywords, newKeywords);
-                
-                final List<String> top5Keywords = extractTop5Keywords(updatedKeywords);
-                
-                stats.setTopKeywords(objectMapper.writeValueAsString(updatedKeywords));
-                statsRepository.save(stats);
-                
-                log.info("BIF ID {}의 키워드 누적 업데이트 완료. Top5: {}", bifId, top5Keywords);
-            } else {
-                final Map<String, Integer> initialKeywords = new HashMap<>();
-                for (String keyword : newKeywords) {
-                    if (keyword != null && !keyword.trim().isEmpty() && isValidKeyword(keyword.trim())) {
-                        initialKeywords.put(keyword.trim(), 1);
-                    }
-                }
-                
-                final Stats newStats = Stats.builder()
-                        .bifId(bifId)
-                        .yearMonth(currentYearMonth)
-                        .topKeywords(objectMapper.writeValueAsString(initialKeywords))
-                        .build();
-                
-                statsRepository.save(newStats);
-                log.info("BIF ID {}의 새로운 통계 및 키워드 생성 완료", bifId);
+        log.info("BIF ID {}의 키워드 누적 업데이트 시작 - 새 키워드: {}", bifId, newKeywords);
+
+        final LocalDateTime currentYearMonth = getCurrentYearMonth();
+        final Set<String> uniqueNewKeywords = new LinkedHashSet<>();
+        for (String keyword : newKeywords) {
+            if (keyword != null && !keyword.trim().isEmpty() && isValidKeyword(keyword.trim())) {
+                uniqueNewKeywords.add(keyword.trim());
             }
-            
-        } catch (Exception e) {
-            log.error("키워드 누적 업데이트 중 오류 발생 - bifId: {}", bifId, e);
         }
+
+        incrementKeywords(bifId, currentYearMonth, uniqueNewKeywords);
+        log.info("BIF ID {}의 키워드 누적 업데이트 완료 - 반영 키워드: {}", bifId, uniqueNewKeywords);
     }
-    
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateKeywordsWithNewContent(Long bifId, List<String> newKeywords, String diaryContent) {
-        try {
-            log.info("BIF ID {}의 키워드 누적 업데이트 시작 - 새 키워드: {}, 일기 내용: {}", bifId, newKeywords, diaryContent != null ? diaryContent.substring(0, Math.min(50, diaryContent.length())) : "null");
-            
-            final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
-            
-            if (existingStats.isPresent()) {
-                final Stats stats = existingStats.get();
-                final Map<String, Integer> currentKeywords = parseKeywordsFromStats(stats.getTopKeywords());
-                
-                final Map<String, Integer> updatedKeywords = mergeKeywordsWithValidation(currentKeywords, newKeywords, diaryContent);
-                
-                final List<String> top5Keywords = extractTop5Keywords(updatedKeywords);
-                
-                stats.setTopKeywords(objectMapper.writeValueAsString(updatedKeywords));
-                statsRepository.save(stats);
-                
-                log.info("BIF ID {}의 키워드 누적 업데이트 완료. Top5: {}", bifId, top5Keywords);
+        updateKeywordsWithNewContent(bifId, getCurrentYearMonth(), newKeywords, diaryContent);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateKeywordsWithNewContent(Long bifId, LocalDateTime yearMonth, List<String> newKeywords, String diaryContent) {
+        log.info("BIF ID {}의 키워드 누적 업데이트 시작 - 새 키워드: {}, 일기 내용: {}", bifId, newKeywords, diaryContent != null ? diaryContent.substring(0, Math.min(50, diaryContent.length())) : "null");
+
+        final Set<String> uniqueNewKeywords = new LinkedHashSet<>();
+        for (String keyword : newKeywords) {
+            if (keyword != null && !keyword.trim().isEmpty() && isValidKeyword(keyword.trim()) && isKeywordInContent(keyword.trim(), diaryContent)) {
+                uniqueNewKeywords.add(keyword.trim());
+                log.info("키워드 검증 통과: {}", keyword.trim());
             } else {
-                final Map<String, Integer> initialKeywords = new HashMap<>();
-                for (String keyword : newKeywords) {
-                    if (keyword != null && !keyword.trim().isEmpty() && isValidKeyword(keyword.trim()) && isKeywordInContent(keyword.trim(), diaryContent)) {
-                        initialKeywords.put(keyword.trim(), 1);
-                        log.info("새 키워드 추가: {}", keyword.trim());
-                    } else {
-                        log.warn("키워드 검증 실패 - 키워드: {}, 일기 내용: {}", keyword, diaryContent != null ? diaryContent.substring(0, Math.min(50, diaryContent.length())) : "null");
-                    }
-                }
-                
-                final Stats newStats = Stats.builder()
-                        .bifId(bifId)
-                        .yearMonth(currentYearMonth)
-                        .topKeywords(objectMapper.writeValueAsString(initialKeywords))
-                        .build();
-                
-                statsRepository.save(newStats);
-                log.info("BIF ID {}의 새로운 통계 및 키워드 생성 완료", bifId);
+                log.warn("키워드 검증 실패 - 키워드: {}, 일기 내용: {}", keyword, diaryContent != null ? diaryContent.substring(0, Math.min(50, diaryContent.length())) : "null");
             }
-            
-        } catch (Exception e) {
-            log.error("키워드 누적 업데이트 중 오류 발생 - bifId: {}", bifId, e);
         }
+
+        incrementKeywords(bifId, yearMonth, uniqueNewKeywords);
+        log.info("BIF ID {}의 키워드 누적 업데이트 완료 - 반영 키워드: {}", bifId, uniqueNewKeywords);
     }
-    
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void replaceKeywords(Long bifId, LocalDateTime yearMonth, List<String> previousKeywords,
+                                List<String> newKeywords, String diaryContent) {
+        final Set<String> previous = validKeywords(previousKeywords, null);
+        final Set<String> current = validKeywords(newKeywords, diaryContent);
+
+        final Set<String> removed = new LinkedHashSet<>(previous);
+        removed.removeAll(current);
+        final Set<String> added = new LinkedHashSet<>(current);
+        added.removeAll(previous);
+
+        if (removed.isEmpty() && added.isEmpty()) {
+            log.info("BIF ID {}의 일기 수정으로 인한 키워드 변화 없음", bifId);
+            return;
+        }
+
+        decrementKeywords(bifId, yearMonth, removed);
+        incrementKeywords(bifId, yearMonth, added);
+        log.info("BIF ID {}의 일기 수정 키워드 반영 완료 - 제거: {}, 추가: {}", bifId, removed, added);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void initializeKeywords(Long bifId, Map<String, Integer> initialKeywords) {
-        try {
-            log.info("BIF ID {}의 키워드 초기화 시작 - 초기 키워드: {}", bifId, initialKeywords);
-            
-            final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
-            
-            if (existingStats.isPresent()) {
-                final Stats stats = existingStats.get();
-                stats.setTopKeywords(objectMapper.writeValueAsString(initialKeywords));
-                statsRepository.save(stats);
-                log.info("BIF ID {}의 키워드 초기화 완료", bifId);
-            } else {
-                final Stats newStats = Stats.builder()
-                        .bifId(bifId)
-                        .yearMonth(currentYearMonth)
-                        .topKeywords(objectMapper.writeValueAsString(initialKeywords))
-                        .build();
-                
-                statsRepository.save(newStats);
-                log.info("BIF ID {}의 새로운 통계 및 키워드 초기화 완료", bifId);
+        log.info("BIF ID {}의 키워드 초기화 시작 - 초기 키워드: {}", bifId, initialKeywords);
+
+        final LocalDateTime currentYearMonth = getCurrentYearMonth();
+        for (Map.Entry<String, Integer> entry : initialKeywords.entrySet()) {
+            if (fitsColumn(entry.getKey())) {
+                statsKeywordRepository.upsertCount(bifId, currentYearMonth, entry.getKey(), entry.getValue());
             }
-            
-        } catch (Exception e) {
-            log.error("키워드 초기화 중 오류 발생 - bifId: {}", bifId, e);
         }
+        statsResponseCache.evict(bifId, currentYearMonth);
+        log.info("BIF ID {}의 키워드 초기화 완료", bifId);
     }
 
+    @Transactional(readOnly = true)
     public Map<String, Integer> getKeywordFrequency(Long bifId, LocalDateTime yearMonth) {
-        try {
-            final Optional<Stats> stats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, yearMonth);
-            
-            if (stats.isPresent() && stats.get().getTopKeywords() != null) {
-                final Map<String, Integer> keywordCounts = parseKeywordsFromStats(stats.get().getTopKeywords());
-                log.info("BIF ID {}의 누적 키워드 빈도수: {}", bifId, keywordCounts);
-                return keywordCounts;
+        final List<StatsKeyword> rows = statsKeywordRepository.findByBifIdAndYearMonth(bifId, yearMonth);
+        if (!rows.isEmpty()) {
+            final Map<String, Integer> keywordCounts = new HashMap<>();
+            for (StatsKeyword row : rows) {
+                keywordCounts.put(row.getKeyword(), row.getCount());
             }
-            
+            return keywordCounts;
+        }
+
+        final Map<String, Integer> legacyKeywords = loadLegacyKeywords(bifId, yearMonth);
+        if (legacyKeywords.isEmpty()) {
             log.info("BIF ID {}의 누적 키워드가 없음", bifId);
-            return new HashMap<>();
-            
-        } catch (Exception e) {
-            log.error("키워드 빈도수 조회 중 오류 발생 - bifId: {}", bifId, e);
-            return new HashMap<>();
         }
+        return legacyKeywords;
     }
 
-    private Map<String, Integer> mergeKeywords(Map<String, Integer> existingKeywords, List<String> newKeywords) {
-        final Map<String, Integer> mergedKeywords = new HashMap<>(existingKeywords);
-        
-        final Set<String> uniqueNewKeywords = new HashSet<>();
-        for (String keyword : newKeywords) {
-            if (keyword != null && !keyword.trim().isEmpty() && isValidKeyword(keyword.trim())) {
-                uniqueNewKeywords.add(keyword.trim());
-            }
+    @Transactional(readOnly = true)
+    public List<StatsKeyword> getTopKeywords(Long bifId, LocalDateTime yearMonth) {
+        final List<StatsKeyword> topKeywords = statsKeywordRepository.findTop5ByBifIdAndYearMonthOrderByCountDescKeywordAsc(bifId, yearMonth);
+        if (!topKeywords.isEmpty()) {
+            return topKeywords;
         }
-        
-        for (String normalizedKeyword : uniqueNewKeywords) {
-            mergedKeywords.merge(normalizedKeyword, 1, Integer::sum);
-            log.info("키워드 '{}' 누적: {}회", normalizedKeyword, mergedKeywords.get(normalizedKeyword));
+
+        return loadLegacyKeywords(bifId, yearMonth).entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(5)
+                .map(entry -> StatsKeyword.builder()
+                        .bifId(bifId)
+                        .yearMonth(yearMonth)
+                        .keyword(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void removeKeywords(Long bifId, LocalDateTime yearMonth, List<String> keywords) {
+        if (keywords.isEmpty()) {
+            return;
         }
-        
-        return mergedKeywords;
+        final int removed = statsKeywordRepository.deleteKeywords(bifId, yearMonth, keywords);
+        statsResponseCache.evict(bifId, yearMonth);
+        log.info("BIF ID {}의 키워드 {}건 제거: {}", bifId, removed, keywords);
     }
-    
-    private Map<String, Integer> mergeKeywordsWithValidation(Map<String, Integer> existingKeywords, List<String> newKeywords, String diaryContent) {
-        final Map<String, Integer> mergedKeywords = new HashMap<>(existingKeywords);
-        
-        final Set<String> uniqueNewKeywords = new HashSet<>();
-        for (String keyword : newKeywords) {
-            if (keyword != null && !keyword.trim().isEmpty() && isValidKeyword(keyword.trim()) && isKeywordInContent(keyword.trim(), diaryContent)) {
-                uniqueNewKeywords.add(keyword.trim());
-                log.info("키워드 검증 통과: {}", keyword.trim());
-            } else {
-                log.warn("키워드 검증 실패 - 키워드: {}, 일기 내용: {}", keyword, diaryContent != null ? diaryContent.substring(0, Math.min(50, diaryContent.length())) : "null");
+
+    private void incrementKeywords(Long bifId, LocalDateTime yearMonth, Set<String> keywords) {
+        if (keywords.isEmpty()) {
+            return;
+        }
+
+        migrateLegacyKeywordsIfNeeded(bifId, yearMonth);
+        for (String keyword : keywords) {
+            statsKeywordRepository.increment(bifId, yearMonth, keyword);
+        }
+        statsResponseCache.evict(bifId, yearMonth);
+    }
+
+    private void decrementKeywords(Long bifId, LocalDateTime yearMonth, Set<String> keywords) {
+        if (keywords.isEmpty()) {
+            return;
+        }
+
+        migrateLegacyKeywordsIfNeeded(bifId, yearMonth);
+        statsKeywordRepository.decrement(bifId, yearMonth, keywords);
+        statsKeywordRepository.deleteExhausted(bifId, yearMonth);
+        statsResponseCache.evict(bifId, yearMonth);
+    }
+
+    private Set<String> validKeywords(List<String> keywords, String diaryContent) {
+        final Set<String> valid = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.trim().isEmpty()) {
+                continue;
+            }
+            final String trimmed = keyword.trim();
+            if (isValidKeyword(trimmed) && (diaryContent == null || isKeywordInContent(trimmed, diaryContent))) {
+                valid.add(trimmed);
             }
         }
-        
-        for (String normalizedKeyword : uniqueNewKeywords) {
-            mergedKeywords.merge(normalizedKeyword, 1, Integer::sum);
-            log.info("키워드 '{}' 누적: {}회", normalizedKeyword, mergedKeywords.get(normalizedKeyword));
+        return valid;
+    }
+
+    private void migrateLegacyKeywordsIfNeeded(Long bifId, LocalDateTime yearMonth) {
+        if (statsKeywordRepository.existsByBifIdAndYearMonth(bifId, yearMonth)) {
+            return;
         }
-        
-        return mergedKeywords;
+
+        final Map<String, Integer> legacyKeywords = loadLegacyKeywords(bifId, yearMonth);
+        if (legacyKeywords.isEmpty()) {
+            return;
+        }
+
+        // JSON 컬럼을 비우는 UPDATE가 행 잠금을 잡으므로 동시에 이전을 시도해도 한 쪽만 반영된다
+        if (statsRepository.clearTopKeywords(bifId, yearMonth) == 0) {
+            log.info("BIF ID {}의 기존 JSON 키워드는 이미 다른 요청에서 이전됨", bifId);
+            return;
+        }
+
+        int migrated = 0;
+        for (Map.Entry<String, Integer> entry : legacyKeywords.entrySet()) {
+            final String keyword = entry.getKey() == null ? "" : entry.getKey().trim();
+            if (!keyword.isEmpty() && isValidKeyword(keyword) && entry.getValue() != null && entry.getValue() > 0) {
+                statsKeywordRepository.addCount(bifId, yearMonth, keyword, entry.getValue());
+                migrated++;
+            }
+        }
+
+        log.info("BIF ID {}의 기존 JSON 키워드 {}건 중 {}건을 키워드 테이블로 이전", bifId, legacyKeywords.size(), migrated);
+    }
+
+    private Map<String, Integer> loadLegacyKeywords(Long bifId, LocalDateTime yearMonth) {
+        return statsRepository.findByBifIdAndYearMonth(bifId, yearMonth)
+                .map(Stats::getTopKeywords)
+                .map(this::parseKeywordsFromStats)
+                .orElseGet(HashMap::new);
     }
     
     private boolean isKeywordInContent(String keyword, String content) {
@@ -219,96 +246,15 @@ public class KeywordAccumulationService {
     }
     
     private boolean isValidKeyword(String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return false;
-        }
-        
-        String trimmedKeyword = keyword.trim();
-        
-        if (trimmedKeyword.length() < 1 || trimmedKeyword.length() > 10) {
-            return false;
-        }
-        
-        if (trimmedKeyword.matches("^[0-9\\s\\-_.,!?]+$")) {
-            return false;
-        }
-        
-        String[] invalidCategories = {
-            "개발", "프로그래밍", "코딩", "기술", "소프트웨어", "하드웨어", "앱", "웹", "모바일",
-            "업무", "회의", "프로젝트", "과제", "시험", "학습", "공부", "교육", "훈련",
-            "도구", "장비", "기계", "컴퓨터", "스마트폰", "태블릿", "프로그램", "시스템"
-        };
-        
-        if (isPersonName(trimmedKeyword)) {
-            return false;
-        }
-        
-        for (String category : invalidCategories) {
-            if (trimmedKeyword.contains(category)) {
-                return false;
-            }
-        }
-        
-        String[] tooGeneric = {
-            "일상", "생각", "느낌", "시간", "하루", "오늘", "내일", "어제", "그냥", "정말", "참", "너무"
-        };
-        
-        for (String generic : tooGeneric) {
-            if (trimmedKeyword.equals(generic)) {
-                return false;
-            }
-        }
-        
-        return true;
+        return fitsColumn(keyword) && keywordDictionary.isValidKeyword(keyword);
     }
-    
-    private boolean isPersonName(String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) {
+
+    private boolean fitsColumn(String keyword) {
+        if (keyword != null && keyword.length() > StatsKeyword.MAX_KEYWORD_LENGTH) {
+            log.warn("키워드 길이 초과로 제외 - 길이: {}", keyword.length());
             return false;
         }
-        
-        String trimmed = keyword.trim();
-        
-        if (trimmed.matches("^[가-힣]{2,4}$")) {
-            String[] commonSurnames = {
-                "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "전", "고"
-            };
-            
-            for (String surname : commonSurnames) {
-                if (trimmed.startsWith(surname)) {
-                    return true;
-                }
-            }
-        }
-        
-        if (trimmed.matches("^[A-Za-z]{2,20}$")) {
-            if (Character.isUpperCase(trimmed.charAt(0)) &&
-                trimmed.substring(1).chars().allMatch(Character::isLowerCase)) {
-                return true;
-            }
-        }
- 
-        String[] commonNames = {
-            "민수", "지영", "현우", "서연", "준호", "미영", "성민", "예진", "동현", "수진",
-            "John", "Jane", "Mike", "Sarah", "David", "Lisa", "Tom", "Amy", "Chris", "Emma"
-        };
-        
-        for (String name : commonNames) {
-            if (trimmed.equalsIgnoreCase(name)) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-
-    private List<String> extractTop5Keywords(Map<String, Integer> keywordCounts) {
-        return keywordCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
-                        .thenComparing(Map.Entry.comparingByKey()))
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .toList();
+        return keyword != null;
     }
 
     private Map<String, Integer> parseKeywordsFromStats(String keywordsJson) {
@@ -343,25 +289,17 @@ public class KeywordAccumulationService {
         return LocalDateTime.of(now.getYear(), now.getMonth(), 1, 0, 0, 0);
     }
     
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void resetKeywords(Long bifId) {
-        try {
-            log.info("BIF ID {}의 키워드 데이터 초기화 시작", bifId);
-            
-            final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
-            
-            if (existingStats.isPresent()) {
-                final Stats stats = existingStats.get();
-                stats.setTopKeywords("{}");
-                statsRepository.save(stats);
-                log.info("BIF ID {}의 키워드 데이터 초기화 완료", bifId);
-            } else {
-                log.info("BIF ID {}의 키워드 데이터가 없음", bifId);
-            }
-            
-        } catch (Exception e) {
-            log.error("키워드 데이터 초기화 중 오류 발생 - bifId: {}", bifId, e);
-        }
+        log.info("BIF ID {}의 키워드 데이터 초기화 시작", bifId);
+
+        final LocalDateTime currentYearMonth = getCurrentYearMonth();
+        final int removed = statsKeywordRepository.deleteByBifIdAndYearMonth(bifId, currentYearMonth);
+
+        statsRepository.clearTopKeywords(bifId, currentYearMonth);
+        statsResponseCache.evict(bifId, currentYearMonth);
+
+        log.info("BIF ID {}의 키워드 데이터 초기화 완료 - 삭제된 키워드: {}", bifId, removed);
     }
 
 }
@@ -0,0 +1,254 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.stats.util.AhoCorasickMatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class KeywordDictionary {
+
+    private static final String DICTIONARY_PATH = "stats/keyword-dictionary.txt";
+    private static final int MAX_KEYWORD_LENGTH = 10;
+    private static final double MAX_EMOTION_SCORE = 2.0;
+
+    public enum Category {
+        BLOCKED_TOPIC,
+        GENERIC,
+        INVALID_FRAGMENT,
+        SURNAME,
+        PERSON_NAME,
+        TOPIC,
+        TOPIC_ALIAS,
+        COMMON,
+        EMOTION
+    }
+
+    private record Term(Category category, String text, String value) {}
+
+    private final List<Term> terms;
+    private final AhoCorasickMatcher matcher;
+    private final Set<String> genericWords;
+    private final Set<String> personNames;
+    private final Set<String> nouns;
+    private final Set<Character> surnames;
+    private final double[] emotionWeights;
+    private final String version;
+
+    public KeywordDictionary() {
+        this.terms = List.copyOf(load(DICTIONARY_PATH));
+        this.matcher = new AhoCorasickMatcher(terms.stream().map(Term::text).toList());
+
+        final Set<String> generic = new HashSet<>();
+        final Set<String> names = new HashSet<>();
+        final Set<Character> surnameChars = new HashSet<>();
+        final Set<String> nounTerms = new HashSet<>();
+        this.emotionWeights = new double[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            final Term term = terms.get(i);
+            switch (term.category()) {
+                case GENERIC -> generic.add(term.text());
+                case PERSON_NAME -> names.add(term.text());
+                case SURNAME -> surnameChars.add(term.text().charAt(0));
+                case EMOTION -> {
+                    emotionWeights[i] = Double.parseDouble(term.value());
+                    nounTerms.add(term.text());
+                }
+                case TOPIC, TOPIC_ALIAS, COMMON -> nounTerms.add(term.text());
+                default -> { }
+            }
+        }
+        this.genericWords = Set.copyOf(generic);
+        this.personNames = Set.copyOf(names);
+        this.nouns = Set.copyOf(nounTerms);
+        this.surnames = Set.copyOf(surnameChars);
+        this.version = fingerprint(terms);
+
+        log.info("키워드 사전 로드 완료 - 단어 수: {}, 버전: {}", terms.size(), version);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Match scan(final String text) {
+        if (text == null || text.isEmpty()) {
+            return new Match(new BitSet());
+        }
+        return new Match(matcher.match(text.toLowerCase(Locale.ROOT)));
+    }
+
+    public boolean isValidKeyword(final String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return false;
+        }
+
+        final String trimmed = keyword.trim();
+        if (trimmed.length() > MAX_KEYWORD_LENGTH || isSymbolOrNumber(trimmed)) {
+            return false;
+        }
+
+        if (isPersonName(trimmed)) {
+            return false;
+        }
+
+        final Match match = scan(trimmed);
+        if (!match.terms(Category.BLOCKED_TOPIC).isEmpty() || !match.terms(Category.INVALID_FRAGMENT).isEmpty()) {
+            return false;
+        }
+
+        return !genericWords.contains(trimmed);
+    }
+
+    // 주제/일반/감정 사전에 그대로 등록된 명사인지 확인한다 (조사 분리 판단용)
+    public boolean isKnownNoun(final String word) {
+        return word != null && nouns.contains(word.toLowerCase(Locale.ROOT));
+    }
+
+    public boolean isPersonName(final String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return false;
+        }
+
+        final String trimmed = keyword.trim();
+        if (isHangulWord(trimmed) && surnames.contains(trimmed.charAt(0))) {
+            return true;
+        }
+
+        if (isCapitalizedLatinWord(trimmed)) {
+            return true;
+        }
+
+        return personNames.contains(trimmed.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean isSymbolOrNumber(final String keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            final char c = keyword.charAt(i);
+            if (!Character.isDigit(c) && !Character.isWhitespace(c) && "-_.,!?".indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isHangulWord(final String keyword) {
+        if (keyword.length() < 2 || keyword.length() > 4) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            final char c = keyword.charAt(i);
+            if (c < '가' || c > '힣') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isCapitalizedLatinWord(final String keyword) {
+        if (keyword.length() < 2 || keyword.length() > 20) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            final char c = keyword.charAt(i);
+            final boolean expected = i == 0 ? c >= 'A' && c <= 'Z' : c >= 'a' && c <= 'z';
+            if (!expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String fingerprint(final List<Term> terms) {
+        int hash = 1;
+        for (Term term : terms) {
+            hash = 31 * hash + (term.category().name() + '|' + term.text() + '|' + term.value()).hashCode();
+        }
+        return Integer.toHexString(hash);
+    }
+
+    private static List<Term> load(final String resourcePath) {
+        final List<Term> loaded = new ArrayList<>();
+        final Map<String, Category> sections = new HashMap<>();
+        for (final Category category : Category.values()) {
+            sections.put(category.name().toLowerCase(Locale.ROOT), category);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(resourcePath).getInputStream(), StandardCharsets.UTF_8))) {
+            Category category = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+                    category = sections.get(trimmed.substring(1, trimmed.length() - 1));
+                    if (category == null) {
+                        throw new IllegalStateException("알 수 없는 키워드 사전 섹션: " + trimmed);
+                    }
+                    continue;
+                }
+                if (category == null) {
+                    throw new IllegalStateException("섹션 없이 등록된 키워드 사전 항목: " + trimmed);
+                }
+
+                final int separator = trimmed.indexOf('=');
+                final String text = separator < 0 ? trimmed : trimmed.substring(0, separator).trim();
+                final String value = separator < 0 ? text : trimmed.substring(separator + 1).trim();
+                loaded.add(new Term(category, text.toLowerCase(Locale.ROOT), value));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("키워드 사전 로드 실패: " + resourcePath, e);
+        }
+
+        return loaded;
+    }
+
+    public final class Match {
+
+        private final BitSet hits;
+
+        private Match(final BitSet hits) {
+            this.hits = hits;
+        }
+
+        public List<String> terms(final Category category) {
+            final Set<String> found = new LinkedHashSet<>();
+            for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+                final Term term = KeywordDictionary.this.terms.get(i);
+                if (term.category() == category) {
+                    found.add(term.value());
+                }
+            }
+            return new ArrayList<>(found);
+        }
+
+        public double emotionScore() {
+            double score = 0.0;
+            for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+                score += emotionWeights[i];
+            }
+            return Math.max(-MAX_EMOTION_SCORE, Math.min(MAX_EMOTION_SCORE, score));
+        }
+
+    }
+
+}
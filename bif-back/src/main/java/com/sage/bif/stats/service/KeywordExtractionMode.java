@@ -0,0 +1,10 @@
+package com.sage.bif.stats.service;
+
+public enum KeywordExtractionMode {
+
+    LOCAL_ONLY,
+    AI_ONLY,
+    LOCAL_FIRST,
+    SHADOW
+
+}
@@ -0,0 +1,222 @@
+package com.sage.bif.stats.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class LocalKeywordExtractor {
+
+    private static final int MAX_KEYWORDS = 5;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final double DICTIONARY_BONUS = 1.0;
+    private static final double EMOTION_BONUS = 0.5;
+    private static final double CONFIDENT_SCORE = 6.0;
+    private static final int RIEUL_FINAL = 8;
+    private static final int BIEUP_FINAL = 17;
+    private static final int SSANGSIOS_FINAL = 20;
+
+    // 긴 조사부터 검사한다. 한 글자 조사는 명사 끝 글자와 겹칠 수 있어(고양이, 사랑) 받침 조건과 어간 길이를 함께 확인한다.
+    private static final String[] PARTICLES = {
+        "에서는", "에게서", "으로는", "이랑은", "에서", "에게", "한테", "까지", "부터", "으로", "처럼", "보다",
+        "하고", "이랑", "이나", "이라", "은", "는", "이", "가", "을", "를", "의", "에", "도", "만", "와", "과",
+        "로", "랑", "나"
+    };
+
+    private static final Set<String> AFTER_CONSONANT_PARTICLES = Set.of("은", "이", "을", "과");
+    private static final Set<String> AFTER_VOWEL_PARTICLES = Set.of("는", "가", "를", "와", "랑", "나");
+    // 받침 조건만으로는 명사 끝 글자와 구분되지 않는 조사 (고양이, 바나나)
+    private static final Set<String> AMBIGUOUS_PARTICLES = Set.of("이", "나");
+
+    // 한 글자 어미(다, 요)는 바다, 요리 같은 명사까지 걸러내므로 두 글자 이상 어미만 사용한다
+    private static final String[] PREDICATE_ENDINGS = {
+        "습니다", "했다", "했어", "했는데", "하다", "한다", "해서", "하고", "하는", "했던", "였다", "었다", "았다",
+        "겠다", "있다", "없다", "좋다", "싫다", "싶다", "같다", "이다", "된다", "됐다", "쁘다", "프다", "르다", "리다",
+        "어요", "아요", "에요", "예요", "해요", "네요", "세요", "는데", "지만", "니까", "면서"
+    };
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "그리고", "그래서", "그런데", "하지만", "그러나", "그래도", "그냥", "정말", "진짜", "너무", "아주", "조금",
+        "많이", "오늘", "어제", "내일", "하루", "지금", "나는", "내가", "우리", "저는", "제가", "이번", "다시",
+        "같이", "모두", "아직", "벌써", "계속", "그것", "이것", "저것", "무엇", "어떤", "것", "수", "때", "좀"
+    );
+
+    private final KeywordDictionary keywordDictionary;
+
+    public Result extract(final String content) {
+        if (content == null || content.isBlank()) {
+            return new Result(List.of(), 0.0);
+        }
+
+        final List<String> tokens = tokenize(content);
+        final Set<String> confirmedStems = confirmedStems(tokens);
+        final Map<String, Double> scores = new HashMap<>();
+        for (final String token : tokens) {
+            final String noun = stripParticle(token, confirmedStems);
+            if (noun.length() < MIN_TOKEN_LENGTH || STOPWORDS.contains(noun) || (noun.equals(token) && isPredicate(token))) {
+                continue;
+            }
+            scores.merge(noun, 1.0, Double::sum);
+        }
+
+        final KeywordDictionary.Match match = keywordDictionary.scan(content);
+        for (final String term : match.terms(KeywordDictionary.Category.COMMON)) {
+            scores.merge(term, DICTIONARY_BONUS, Double::sum);
+        }
+        for (final String term : match.terms(KeywordDictionary.Category.TOPIC)) {
+            scores.merge(term, DICTIONARY_BONUS, Double::sum);
+        }
+        for (final String term : match.terms(KeywordDictionary.Category.EMOTION)) {
+            scores.merge(term, EMOTION_BONUS, Double::sum);
+        }
+
+        final Map<String, Double> ranked = new LinkedHashMap<>();
+        scores.entrySet().stream()
+                .filter(entry -> keywordDictionary.isValidKeyword(entry.getKey()))
+                .filter(entry -> content.contains(entry.getKey()))
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_KEYWORDS)
+                .forEach(entry -> ranked.put(entry.getKey(), entry.getValue()));
+
+        final double total = ranked.values().stream().mapToDouble(Double::doubleValue).sum();
+        return new Result(new ArrayList<>(ranked.keySet()), Math.min(1.0, total / CONFIDENT_SCORE));
+    }
+
+    private List<String> tokenize(final String content) {
+        final List<String> tokens = new ArrayList<>();
+        final StringBuilder current = new StringBuilder();
+        for (int i = 0; i < content.length(); i++) {
+            final char c = content.charAt(i);
+            if (isHangul(c) || Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private String stripParticle(final String token, final Set<String> confirmedStems) {
+        final String particle = findParticle(token);
+        if (particle == null) {
+            return token;
+        }
+
+        final String stem = token.substring(0, token.length() - particle.length());
+        if (particle.length() > 1 || confirmedStems.contains(stem) || keywordDictionary.isKnownNoun(stem)) {
+            return stem;
+        }
+        if (!AMBIGUOUS_PARTICLES.contains(particle) && isPlausibleSingleParticle(stem, particle)) {
+            return stem;
+        }
+        return token;
+    }
+
+    // 어간이 같은 일기에서 조사 없이 쓰였거나, 두 글자 이상 조사 또는 받침이 맞는 조사와 쓰였거나, 서로 다른 조사 두 개 이상과 쓰였으면 명사로 본다
+    private Set<String> confirmedStems(final List<String> tokens) {
+        final Set<String> bareTokens = new HashSet<>(tokens);
+        final Set<String> confirmed = new HashSet<>();
+        final Map<String, Set<String>> singleParticles = new HashMap<>();
+
+        for (final String token : tokens) {
+            final String particle = findParticle(token);
+            if (particle == null) {
+                continue;
+            }
+            final String stem = token.substring(0, token.length() - particle.length());
+            if (particle.length() > 1 || (!AMBIGUOUS_PARTICLES.contains(particle) && isPlausibleSingleParticle(stem, particle))) {
+                confirmed.add(stem);
+            } else {
+                singleParticles.computeIfAbsent(stem, key -> new HashSet<>()).add(particle);
+            }
+        }
+
+        for (final Map.Entry<String, Set<String>> entry : singleParticles.entrySet()) {
+            if (entry.getValue().size() > 1 || bareTokens.contains(entry.getKey())) {
+                confirmed.add(entry.getKey());
+            }
+        }
+        return confirmed;
+    }
+
+    private boolean isPlausibleSingleParticle(final String stem, final String particle) {
+        if (stem.length() < MIN_TOKEN_LENGTH) {
+            return false;
+        }
+
+        final char last = stem.charAt(stem.length() - 1);
+        if (!isHangul(last)) {
+            return true;
+        }
+
+        final int finalConsonant = (last - '가') % 28;
+        if (AFTER_CONSONANT_PARTICLES.contains(particle)) {
+            return finalConsonant != 0;
+        }
+        if (AFTER_VOWEL_PARTICLES.contains(particle)) {
+            return finalConsonant == 0;
+        }
+        if ("로".equals(particle)) {
+            return finalConsonant == 0 || finalConsonant == RIEUL_FINAL;
+        }
+        return true;
+    }
+
+    private String findParticle(final String token) {
+        for (final String particle : PARTICLES) {
+            if (token.length() > particle.length() && token.endsWith(particle)) {
+                return particle;
+            }
+        }
+        return null;
+    }
+
+    private boolean isPredicate(final String token) {
+        for (final String ending : PREDICATE_ENDINGS) {
+            if (token.length() >= ending.length() && token.endsWith(ending)) {
+                return true;
+            }
+        }
+        return endsWithConjugatedDa(token);
+    }
+
+    // 갔다, 만났다, 귀엽다처럼 '다' 앞 글자에 ㅆ/ㅂ 받침이 있으면 용언으로 본다. 바다처럼 받침이 없으면 명사로 남긴다.
+    private boolean endsWithConjugatedDa(final String token) {
+        if (token.length() < 2 || token.charAt(token.length() - 1) != '다') {
+            return false;
+        }
+
+        final char previous = token.charAt(token.length() - 2);
+        if (!isHangul(previous)) {
+            return false;
+        }
+        final int finalConsonant = (previous - '가') % 28;
+        return finalConsonant == SSANGSIOS_FINAL || finalConsonant == BIEUP_FINAL;
+    }
+
+    private boolean isHangul(final char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final List<String> keywords;
+        private final double confidence;
+    }
+
+}
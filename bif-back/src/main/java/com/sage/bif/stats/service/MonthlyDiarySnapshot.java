@@ -0,0 +1,27 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import com.sage.bif.stats.entity.EmotionType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class MonthlyDiarySnapshot {
+
+    private final Long bifId;
+    private final LocalDateTime yearMonth;
+    private final List<DiaryEmotionView> entries;
+    private final Map<EmotionType, Integer> emotionCounts;
+    private final Map<EmotionType, Integer> previousMonthCounts;
+    private final int yearlyDiaryCount;
+
+    public int getDiaryCount() {
+        return entries.size();
+    }
+
+}
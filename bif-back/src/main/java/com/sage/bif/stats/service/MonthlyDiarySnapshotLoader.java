@@ -0,0 +1,42 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.repository.DiaryRepository;
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MonthlyDiarySnapshotLoader {
+
+    private final DiaryRepository diaryRepository;
+    private final EmotionCounterService emotionCounterService;
+    private final DiaryDayBitmapService diaryDayBitmapService;
+
+    public MonthlyDiarySnapshot load(final Long bifId, final LocalDateTime yearMonth) {
+        final LocalDateTime startOfMonth = EmotionCounterService.toYearMonth(yearMonth);
+
+        final List<DiaryEmotionView> entries = diaryRepository.findEmotionsByUserIdAndDateBetween(
+                bifId, startOfMonth, startOfMonth.plusMonths(1));
+        final int yearlyDiaryCount = diaryDayBitmapService.countDays(bifId, startOfMonth.getYear());
+
+        log.debug("BIF ID {}의 {}년 {}월 일기 스냅샷 로드 - 일기 수: {}", bifId, startOfMonth.getYear(), startOfMonth.getMonthValue(), entries.size());
+
+        return MonthlyDiarySnapshot.builder()
+                .bifId(bifId)
+                .yearMonth(startOfMonth)
+                .entries(entries)
+                .emotionCounts(emotionCounterService.getCounts(bifId, startOfMonth))
+                .previousMonthCounts(emotionCounterService.getCounts(bifId, startOfMonth.minusMonths(1)))
+                .yearlyDiaryCount(yearlyDiaryCount)
+                .build();
+    }
+
+}
@@ -0,0 +1,325 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.common.exception.BaseException;
+import com.sage.bif.common.exception.ErrorCode;
+import com.sage.bif.stats.dto.StatsJobResponse;
+import com.sage.bif.stats.entity.StatsMaintenanceJob;
+import com.sage.bif.stats.repository.StatsMaintenanceJobRepository;
+import com.sage.bif.user.repository.BifRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+// 통계 유지보수 작업(재생성/키워드 정리/초기화/업적 백필)을 단일 백그라운드 스레드에서 BIF ID 순으로 처리한다.
+// 진행 상황은 페이지 단위로 저장되므로 재시작 시 마지막 BIF ID 이후부터 이어서 실행된다.
+// 여러 노드 중 임대를 잡은 한 노드만 작업을 실행한다.
+@Slf4j
+@Service
+public class StatsMaintenanceJobService {
+
+    private static final int PAGE_SIZE = 100;
+    private static final Duration JOB_LEASE = Duration.ofMinutes(5);
+    private static final List<StatsMaintenanceJob.Status> ACTIVE_STATUSES =
+            List.of(StatsMaintenanceJob.Status.QUEUED, StatsMaintenanceJob.Status.RUNNING);
+    private static final List<StatsMaintenanceJob.Status> ONCE_STATUSES = List.of(StatsMaintenanceJob.Status.QUEUED,
+            StatsMaintenanceJob.Status.RUNNING, StatsMaintenanceJob.Status.COMPLETED);
+
+    private final StatsMaintenanceJobRepository jobRepository;
+    private final BifRepository bifRepository;
+    private final StatsService statsService;
+    private final AchievementService achievementService;
+    private final Executor statsMaintenanceTaskExecutor;
+    private final Set<Long> dispatchedJobIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${stats.maintenance.throttle-ms:50}")
+    private long throttleMillis;
+
+    @Value("${stats.maintenance.all-users-enabled:false}")
+    private boolean allUsersEnabled;
+
+    // 전체 사용자 작업을 등록하고 모든 작업을 조회/취소할 수 있는 운영자 소셜 ID 목록
+    @Value("${stats.maintenance.operator-social-ids:}")
+    private Set<Long> operatorSocialIds;
+
+    public StatsMaintenanceJobService(StatsMaintenanceJobRepository jobRepository,
+                                      BifRepository bifRepository,
+                                      StatsService statsService,
+                                      AchievementService achievementService,
+                                      @Qualifier("statsMaintenanceTaskExecutor") Executor statsMaintenanceTaskExecutor) {
+        this.jobRepository = jobRepository;
+        this.bifRepository = bifRepository;
+        this.statsService = statsService;
+        this.achievementService = achievementService;
+        this.statsMaintenanceTaskExecutor = statsMaintenanceTaskExecutor;
+    }
+
+    public StatsJobResponse submit(final StatsMaintenanceJob.Type type, final Long targetBifId, final Long requestedBy,
+                                   final Long requesterBifId) {
+        if (targetBifId != null && !targetBifId.equals(requesterBifId) && !isOperator(requestedBy)) {
+            throw new BaseException(ErrorCode.COMMON_FORBIDDEN, "다른 사용자의 통계 작업은 운영자만 등록할 수 있습니다. bifId: " + targetBifId);
+        }
+        if (targetBifId == null) {
+            if (!isOperator(requestedBy)) {
+                throw new BaseException(ErrorCode.AUTH_ADMIN_REQUIRED, "전체 사용자 대상 통계 작업은 운영자만 등록할 수 있습니다.");
+            }
+            if (!allUsersEnabled) {
+                throw new BaseException(ErrorCode.COMMON_FORBIDDEN, "전체 사용자 대상 통계 작업이 비활성화되어 있습니다.");
+            }
+            if (jobRepository.existsByTypeAndTargetBifIdIsNullAndStatusIn(type, ACTIVE_STATUSES)) {
+                throw new BaseException(ErrorCode.COMMON_CONFLICT, "같은 유형의 전체 사용자 작업이 이미 진행 중입니다.");
+            }
+        }
+
+        return enqueue(type, targetBifId, requestedBy);
+    }
+
+    // 배포 후 한 번만 실행되어야 하는 시스템 작업용. 진행 중이거나 완료된 적이 있으면 다시 등록하지 않는다.
+    public void submitOnce(final StatsMaintenanceJob.Type type) {
+        if (jobRepository.existsByTypeAndTargetBifIdIsNullAndStatusIn(type, ONCE_STATUSES)) {
+            return;
+        }
+        enqueue(type, null, null);
+    }
+
+    public StatsJobResponse getJob(final Long jobId, final Long socialId, final Long bifId) {
+        return toResponse(findAccessibleJob(jobId, socialId, bifId));
+    }
+
+    public StatsJobResponse cancel(final Long jobId, final Long socialId, final Long bifId) {
+        final StatsMaintenanceJob job = findAccessibleJob(jobId, socialId, bifId);
+        if (job.isFinished()) {
+            return toResponse(job);
+        }
+
+        jobRepository.requestCancel(jobId, LocalDateTime.now());
+        jobRepository.transition(jobId, List.of(StatsMaintenanceJob.Status.QUEUED),
+                StatsMaintenanceJob.Status.CANCELLED, LocalDateTime.now());
+        log.info("통계 유지보수 작업 취소 요청 - jobId: {}", jobId);
+        return toResponse(findJob(jobId));
+    }
+
+    // 모든 노드가 주기적으로 확인하지만 임대가 비었거나 만료된 작업만 이어서 실행한다.
+    @Scheduled(fixedDelayString = "${stats.maintenance.resume-interval-ms:60000}",
+            initialDelayString = "${stats.maintenance.resume-initial-delay-ms:30000}")
+    public void resumeUnfinishedJobs() {
+        try {
+            final LocalDateTime now = LocalDateTime.now();
+            for (StatsMaintenanceJob job : jobRepository.findByStatusInOrderByIdAsc(ACTIVE_STATUSES)) {
+                if (dispatchedJobIds.contains(job.getId())
+                        || (job.getLeaseExpiresAt() != null && job.getLeaseExpiresAt().isAfter(now))) {
+                    continue;
+                }
+                log.info("미완료 통계 유지보수 작업 재개 - jobId: {}, 마지막 처리 BIF ID: {}", job.getId(), job.getLastBifId());
+                dispatch(job.getId());
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("통계 유지보수 작업 대기열이 가득 차 다음 주기에 재개합니다.");
+        } catch (Exception e) {
+            log.error("미완료 통계 유지보수 작업 재개 중 오류 발생", e);
+        }
+    }
+
+    private StatsJobResponse enqueue(final StatsMaintenanceJob.Type type, final Long targetBifId, final Long requestedBy) {
+        final StatsMaintenanceJob job = jobRepository.save(StatsMaintenanceJob.builder()
+                .type(type)
+                .targetBifId(targetBifId)
+                .requestedBy(requestedBy)
+                .status(StatsMaintenanceJob.Status.QUEUED)
+                .totalCount(targetBifId != null ? 1 : bifRepository.count())
+                .lastBifId(0L)
+                .build());
+
+        try {
+            dispatch(job.getId());
+        } catch (RejectedExecutionException e) {
+            jobRepository.transition(job.getId(), ACTIVE_STATUSES, StatsMaintenanceJob.Status.FAILED, LocalDateTime.now());
+            throw new BaseException(ErrorCode.COMMON_ASYNC_QUEUE_FULL, e);
+        }
+        log.info("통계 유지보수 작업 등록 - jobId: {}, type: {}, 대상: {}", job.getId(), type,
+                targetBifId != null ? targetBifId : "전체 사용자");
+        return toResponse(job);
+    }
+
+    // 같은 노드의 대기열에 한 작업이 두 번 들어가지 않게 한다.
+    private void dispatch(final Long jobId) {
+        if (!dispatchedJobIds.add(jobId)) {
+            return;
+        }
+        try {
+            statsMaintenanceTaskExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    dispatchedJobIds.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dispatchedJobIds.remove(jobId);
+            throw e;
+        }
+    }
+
+    private void run(final Long jobId) {
+        final LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.claimLease(jobId, ACTIVE_STATUSES, now, now.plus(JOB_LEASE)) == 0) {
+            log.info("다른 노드가 실행 중이거나 종료된 통계 유지보수 작업 - jobId: {}", jobId);
+            return;
+        }
+
+        StatsMaintenanceJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.isFinished()) {
+            return;
+        }
+
+        job.setStatus(StatsMaintenanceJob.Status.RUNNING);
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(LocalDateTime.now());
+        }
+        job = jobRepository.save(job);
+
+        try {
+            if (job.isAllUsers()) {
+                job = runAllUsers(job);
+            } else if (!isCancelRequested(jobId)) {
+                runUser(job, job.getTargetBifId());
+            }
+
+            finish(job, isCancelRequested(jobId) ? StatsMaintenanceJob.Status.CANCELLED : StatsMaintenanceJob.Status.COMPLETED);
+            log.info("통계 유지보수 작업 종료 - jobId: {}, 상태: {}, 처리: {}건, 실패: {}건",
+                    jobId, job.getStatus(), job.getProcessedCount(), job.getFailedCount());
+        } catch (Exception e) {
+            log.error("통계 유지보수 작업 실행 중 오류 발생 - jobId: {}", jobId, e);
+            finish(job, StatsMaintenanceJob.Status.FAILED);
+        }
+    }
+
+    private StatsMaintenanceJob runAllUsers(StatsMaintenanceJob job) {
+        LocalDateTime leaseRenewAt = LocalDateTime.now().plus(JOB_LEASE.dividedBy(2));
+        while (!isCancelRequested(job.getId())) {
+            final List<Long> bifIds = bifRepository.findIdsAfter(job.getLastBifId(), PageRequest.of(0, PAGE_SIZE));
+            if (bifIds.isEmpty()) {
+                break;
+            }
+
+            for (Long bifId : bifIds) {
+                if (isCancelRequested(job.getId())) {
+                    break;
+                }
+                runUser(job, bifId);
+                leaseRenewAt = renewLeaseIfDue(job.getId(), leaseRenewAt);
+                throttle();
+            }
+            job = jobRepository.save(job);
+        }
+        return job;
+    }
+
+    private void runUser(final StatsMaintenanceJob job, final Long bifId) {
+        try {
+            switch (job.getType()) {
+                case FORCE_REGENERATE -> statsService.forceRegenerateStats(bifId);
+                case CLEANUP_KEYWORDS -> statsService.cleanupInvalidKeywords(bifId);
+                case RESET_KEYWORDS -> statsService.resetKeywords(bifId);
+                case BACKFILL_ACHIEVEMENTS -> achievementService.backfill(bifId);
+            }
+        } catch (Exception e) {
+            log.error("통계 유지보수 작업 처리 실패 - jobId: {}, bifId: {}", job.getId(), bifId, e);
+            job.setFailedCount(job.getFailedCount() + 1);
+        }
+        job.setProcessedCount(job.getProcessedCount() + 1);
+        job.setLastBifId(bifId);
+    }
+
+    // 임대의 절반이 지나면 연장해 긴 작업이 다른 노드에 넘어가지 않게 한다.
+    private LocalDateTime renewLeaseIfDue(final Long jobId, final LocalDateTime leaseRenewAt) {
+        final LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(leaseRenewAt)) {
+            return leaseRenewAt;
+        }
+        jobRepository.renewLease(jobId, now.plus(JOB_LEASE));
+        return now.plus(JOB_LEASE.dividedBy(2));
+    }
+
+    private void throttle() {
+        if (throttleMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(throttleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("통계 유지보수 작업이 중단되었습니다.", e);
+        }
+    }
+
+    private void finish(final StatsMaintenanceJob job, final StatsMaintenanceJob.Status status) {
+        job.setStatus(status);
+        job.setCompletedAt(LocalDateTime.now());
+        jobRepository.save(job);
+        jobRepository.releaseLease(job.getId());
+    }
+
+    private boolean isCancelRequested(final Long jobId) {
+        return jobRepository.isCancelRequested(jobId);
+    }
+
+    private boolean isOperator(final Long socialId) {
+        return socialId != null && operatorSocialIds.contains(socialId);
+    }
+
+    // 운영자가 아니면 자신이 등록했거나 자신을 대상으로 한 작업만 접근할 수 있다.
+    private StatsMaintenanceJob findAccessibleJob(final Long jobId, final Long socialId, final Long bifId) {
+        final StatsMaintenanceJob job = findJob(jobId);
+        final boolean owner = (socialId != null && socialId.equals(job.getRequestedBy()))
+                || (bifId != null && bifId.equals(job.getTargetBifId()));
+        if (!owner && !isOperator(socialId)) {
+            throw new BaseException(ErrorCode.COMMON_FORBIDDEN, "통계 작업에 접근할 권한이 없습니다. jobId: " + jobId);
+        }
+        return job;
+    }
+
+    private StatsMaintenanceJob findJob(final Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new BaseException(ErrorCode.COMMON_NOT_FOUND, "통계 작업을 찾을 수 없습니다. jobId: " + jobId));
+    }
+
+    private StatsJobResponse toResponse(final StatsMaintenanceJob job) {
+        final long total = job.getTotalCount();
+        final long processed = job.getProcessedCount();
+        final double progressPercent = total > 0
+                ? Math.min(100.0, Math.round(processed * 1000.0 / total) / 10.0)
+                : (job.isFinished() ? 100.0 : 0.0);
+
+        Long etaSeconds = null;
+        if (!job.isFinished() && job.getStartedAt() != null && processed > 0) {
+            final long elapsedSeconds = Duration.between(job.getStartedAt(), LocalDateTime.now()).getSeconds();
+            etaSeconds = Math.max(0, total - processed) * elapsedSeconds / processed;
+        }
+
+        return StatsJobResponse.builder()
+                .jobId(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .targetBifId(job.getTargetBifId())
+                .totalCount(total)
+                .processedCount(processed)
+                .failedCount(job.getFailedCount())
+                .progressPercent(progressPercent)
+                .etaSeconds(etaSeconds)
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+}
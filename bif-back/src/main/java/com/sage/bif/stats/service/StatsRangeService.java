@@ -0,0 +1,115 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.common.exception.BaseException;
+import com.sage.bif.common.exception.ErrorCode;
+import com.sage.bif.diary.repository.DiaryRepository;
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import com.sage.bif.stats.dto.StatsRangeResponse;
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.StatsEmotionCount;
+import com.sage.bif.stats.repository.StatsEmotionCountRepository;
+import com.sage.bif.stats.util.EmotionMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatsRangeService {
+
+    private static final int MAX_RANGE_MONTHS = 24;
+    private static final EmotionType[] EMOTIONS = EmotionType.values();
+
+    private final StatsEmotionCountRepository statsEmotionCountRepository;
+    private final DiaryRepository diaryRepository;
+
+    public StatsRangeResponse getRange(final Long bifId, final YearMonth from, final YearMonth to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BaseException(ErrorCode.COMMON_BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+
+        final int months = (int) ChronoUnit.MONTHS.between(from, to) + 1;
+        if (months > MAX_RANGE_MONTHS) {
+            throw new BaseException(ErrorCode.COMMON_BAD_REQUEST, "최대 " + MAX_RANGE_MONTHS + "개월까지 조회할 수 있습니다.");
+        }
+
+        final YearMonth base = from.minusMonths(1);
+        final int[][] counts = new int[months + 1][EMOTIONS.length];
+        final boolean[] covered = new boolean[months + 1];
+
+        for (StatsEmotionCount row : statsEmotionCountRepository.findByBifIdAndYearMonthBetween(
+                bifId, toDateTime(base), toDateTime(to))) {
+            final int index = monthIndex(base, row.getYearMonth());
+            counts[index][row.getEmotion().ordinal()] = row.getCount();
+            covered[index] = true;
+        }
+
+        fillUncoveredMonths(bifId, base, counts, covered);
+
+        final List<StatsRangeResponse.MonthEntry> entries = new ArrayList<>(months);
+        for (int i = 1; i <= months; i++) {
+            final int[] deltas = new int[EMOTIONS.length];
+            int total = 0;
+            for (int e = 0; e < EMOTIONS.length; e++) {
+                deltas[e] = counts[i][e] - counts[i - 1][e];
+                total += counts[i][e];
+            }
+            entries.add(StatsRangeResponse.MonthEntry.builder()
+                    .month(base.plusMonths(i).toString())
+                    .total(total)
+                    .counts(counts[i])
+                    .deltas(deltas)
+                    .build());
+        }
+
+        return StatsRangeResponse.builder()
+                .bifId(bifId)
+                .from(from.toString())
+                .to(to.toString())
+                .emotions(List.of(EMOTIONS))
+                .months(entries)
+                .build();
+    }
+
+    private void fillUncoveredMonths(final Long bifId, final YearMonth base, final int[][] counts, final boolean[] covered) {
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < covered.length; i++) {
+            if (!covered[i]) {
+                first = first < 0 ? i : first;
+                last = i;
+            }
+        }
+        if (first < 0) {
+            return;
+        }
+
+        log.debug("BIF ID {}의 감정 카운터가 없는 월을 일기에서 집계합니다 - {} ~ {}", bifId, base.plusMonths(first), base.plusMonths(last));
+        final List<DiaryEmotionView> diaries = diaryRepository.findEmotionsByUserIdAndDateBetween(
+                bifId, toDateTime(base.plusMonths(first)), toDateTime(base.plusMonths(last + 1L)));
+        for (DiaryEmotionView diary : diaries) {
+            final int index = monthIndex(base, diary.getCreatedAt());
+            if (!covered[index]) {
+                counts[index][EmotionMapper.mapDiaryEmotionToStats(diary.getEmotion()).ordinal()]++;
+            }
+        }
+    }
+
+    private int monthIndex(final YearMonth base, final LocalDateTime dateTime) {
+        return (int) ChronoUnit.MONTHS.between(base, YearMonth.from(dateTime));
+    }
+
+    private LocalDateTime toDateTime(final YearMonth yearMonth) {
+        return yearMonth.atDay(1).atStartOfDay();
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.config.CacheConfig;
+import com.sage.bif.stats.dto.GuardianStatsResponse;
+import com.sage.bif.stats.dto.StatsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsResponseCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CacheManager cacheManager;
+    // BIF ID 단위 무효화 세대. 로드 전후 세대가 다르면 그 사이에 무효화가 있었던 것이므로 캐시에 넣지 않는다.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public StatsResponse getMonthlyStats(final Long bifId, final LocalDateTime yearMonth, final Supplier<StatsResponse> loader) {
+        return getOrLoad(CacheConfig.MONTHLY_STATS_CACHE, bifId, cacheKey(bifId, yearMonth), StatsResponse.class, loader);
+    }
+
+    public GuardianStatsResponse getGuardianStats(final Long bifId, final LocalDateTime yearMonth, final Supplier<GuardianStatsResponse> loader) {
+        return getOrLoad(CacheConfig.GUARDIAN_STATS_CACHE, bifId, cacheKey(bifId, yearMonth), GuardianStatsResponse.class, loader);
+    }
+
+    public void evict(final Long bifId, final LocalDateTime yearMonth) {
+        final String key = cacheKey(bifId, yearMonth);
+        invalidate(bifId, () -> evictNow(key));
+    }
+
+    // 보호자 연결/해제, 업적 획득처럼 모든 월의 응답에 영향을 주는 변경에 사용한다
+    public void evictAll(final Long bifId) {
+        invalidate(bifId, () -> evictAllNow(bifId));
+    }
+
+    // 즉시 한 번, 커밋 후 한 번 더 무효화한다. 트랜잭션 중에 이전 데이터를 읽은 요청이 다시 채운 값을 커밋 시점에 지운다.
+    private void invalidate(final Long bifId, final Runnable eviction) {
+        bumpGeneration(bifId);
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        bumpGeneration(bifId);
+                        eviction.run();
+                    }
+                }
+            });
+        }
+    }
+
+    private <T> T getOrLoad(final String cacheName, final Long bifId, final String key, final Class<T> type, final Supplier<T> loader) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        final T cached = cache.get(key, type);
+        if (cached != null) {
+            return cached;
+        }
+
+        final long generation = generation(bifId);
+        final T loaded = loader.get();
+        if (loaded == null || generation(bifId) != generation) {
+            return loaded;
+        }
+
+        cache.put(key, loaded);
+        // put 직후 무효화가 끼어들었다면 방금 넣은 값은 이전 데이터일 수 있으므로 직접 지운다
+        if (generation(bifId) != generation) {
+            cache.evict(key);
+        }
+        return loaded;
+    }
+
+    private long generation(final Long bifId) {
+        return generations.get(stripe(bifId));
+    }
+
+    private void bumpGeneration(final Long bifId) {
+        generations.incrementAndGet(stripe(bifId));
+    }
+
+    private int stripe(final Long bifId) {
+        return Long.hashCode(bifId) & (GENERATION_STRIPES - 1);
+    }
+
+    private void evictNow(final String key) {
+        evictFrom(CacheConfig.MONTHLY_STATS_CACHE, key);
+        evictFrom(CacheConfig.GUARDIAN_STATS_CACHE, key);
+        log.debug("통계 캐시 무효화 - key: {}", key);
+    }
+
+    private void evictAllNow(final Long bifId) {
+        final String prefix = bifId + ":";
+        evictAllFrom(CacheConfig.MONTHLY_STATS_CACHE, prefix);
+        evictAllFrom(CacheConfig.GUARDIAN_STATS_CACHE, prefix);
+        log.debug("통계 캐시 전체 월 무효화 - bifId: {}", bifId);
+    }
+
+    private void evictAllFrom(final String cacheName, final String prefix) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(key -> key.toString().startsWith(prefix));
+        }
+    }
+
+    private void evictFrom(final String cacheName, final String key) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private String cacheKey(final Long bifId, final LocalDateTime yearMonth) {
+        return bifId + ":" + yearMonth.getYear() + "-" + yearMonth.getMonthValue();
+    }
+
+}
@@ -23,6 +23,8 @@ public class StatsResponseOptimizer {
                     .connectionCode(originalResponse.getConnectionCode())
                     .statisticsText(originalResponse.getStatisticsText())
                     .guardianAdviceText(originalResponse.getGuardianAdviceText())
+                    .textStale(originalResponse.getTextStale())
+                    .textGeneratedAt(originalResponse.getTextGeneratedAt())
                     .emotionRatio(optimizeEmotionRatio(originalResponse.getEmotionRatio()))
                     .topKeywords(optimizeKeywordData(originalResponse.getTopKeywords()))
                     .monthlyChange(optimizeMonthlyChange(originalResponse.getMonthlyChange()))
@@ -0,0 +1,331 @@
+package com.sage.bif.stats.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sage.bif.diary.repository.DiaryRepository;
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.Stats;
+import com.sage.bif.stats.entity.StatsRolloverCheckpoint;
+import com.sage.bif.stats.exception.StatsProcessingException;
+import com.sage.bif.stats.repository.StatsRepository;
+import com.sage.bif.stats.repository.StatsRolloverCheckpointRepository;
+import com.sage.bif.stats.util.EmotionMapper;
+import com.sage.bif.user.repository.BifRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class StatsRolloverService {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int AI_CONCURRENCY = 2;
+    private static final Duration CHECKPOINT_LEASE = Duration.ofMinutes(30);
+    private static final int RETRY_PASSES = 2;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final BifRepository bifRepository;
+    private final DiaryRepository diaryRepository;
+    private final StatsRepository statsRepository;
+    private final StatsWriter statsWriter;
+    private final StatsRolloverCheckpointRepository checkpointRepository;
+    private final EmotionCounterService emotionCounterService;
+    private final AiEmotionAnalysisService aiEmotionAnalysisService;
+    private final StatsTextRegenerationService statsTextRegenerationService;
+    private final DiaryDayBitmapService diaryDayBitmapService;
+    private final ObjectProvider<StatsService> statsServiceProvider;
+    private final ObjectMapper objectMapper;
+    private final Executor statsRolloverTaskExecutor;
+
+    private final Semaphore aiPermits = new Semaphore(AI_CONCURRENCY);
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public StatsRolloverService(BifRepository bifRepository,
+                                DiaryRepository diaryRepository,
+                                StatsRepository statsRepository,
+                                StatsWriter statsWriter,
+                                StatsRolloverCheckpointRepository checkpointRepository,
+                                EmotionCounterService emotionCounterService,
+                                AiEmotionAnalysisService aiEmotionAnalysisService,
+                                StatsTextRegenerationService statsTextRegenerationService,
+                                DiaryDayBitmapService diaryDayBitmapService,
+                                ObjectProvider<StatsService> statsServiceProvider,
+                                ObjectMapper objectMapper,
+                                @Qualifier("statsRolloverTaskExecutor") Executor statsRolloverTaskExecutor) {
+        this.bifRepository = bifRepository;
+        this.diaryRepository = diaryRepository;
+        this.statsRepository = statsRepository;
+        this.statsWriter = statsWriter;
+        this.checkpointRepository = checkpointRepository;
+        this.emotionCounterService = emotionCounterService;
+        this.aiEmotionAnalysisService = aiEmotionAnalysisService;
+        this.statsTextRegenerationService = statsTextRegenerationService;
+        this.diaryDayBitmapService = diaryDayBitmapService;
+        this.statsServiceProvider = statsServiceProvider;
+        this.objectMapper = objectMapper;
+        this.statsRolloverTaskExecutor = statsRolloverTaskExecutor;
+    }
+
+    public void rollover(final LocalDateTime now) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("월별 통계 롤오버가 이미 실행 중입니다.");
+            return;
+        }
+
+        final LocalDateTime targetYearMonth = EmotionCounterService.toYearMonth(now);
+        try {
+            if (!claimCheckpoint(targetYearMonth)) {
+                return;
+            }
+
+            try {
+                runRollover(targetYearMonth);
+            } finally {
+                checkpointRepository.releaseLease(targetYearMonth);
+            }
+        } catch (Exception e) {
+            log.error("월별 통계 롤오버 중 오류 발생", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 체크포인트 행을 먼저 만들고 조건부 UPDATE로 임대를 잡는다. 다른 인스턴스가 진행 중이면 건너뛴다.
+    private boolean claimCheckpoint(final LocalDateTime targetYearMonth) {
+        checkpointRepository.insertIfAbsent(targetYearMonth);
+
+        final LocalDateTime now = LocalDateTime.now();
+        if (checkpointRepository.claimLease(targetYearMonth, now, now.plus(CHECKPOINT_LEASE)) == 0) {
+            log.info("{}년 {}월 통계 롤오버는 완료되었거나 다른 인스턴스에서 진행 중입니다.",
+                    targetYearMonth.getYear(), targetYearMonth.getMonthValue());
+            return false;
+        }
+        return true;
+    }
+
+    private void runRollover(final LocalDateTime targetYearMonth) {
+        StatsRolloverCheckpoint checkpoint = checkpointRepository.findByYearMonth(targetYearMonth)
+                .orElseThrow(() -> new StatsProcessingException("통계 롤오버 체크포인트를 찾을 수 없습니다."));
+
+        if (checkpoint.getStatus() == StatsRolloverCheckpoint.Status.COMPLETED) {
+            return;
+        }
+
+        log.info("=== {}년 {}월 통계 롤오버 시작 - 마지막 처리 BIF ID: {} ===",
+                targetYearMonth.getYear(), targetYearMonth.getMonthValue(), checkpoint.getLastBifId());
+
+        final LocalDateTime previousYearMonth = targetYearMonth.minusMonths(1);
+        while (true) {
+            final List<Long> bifIds = bifRepository.findIdsAfter(checkpoint.getLastBifId(), PageRequest.of(0, PAGE_SIZE));
+            if (bifIds.isEmpty()) {
+                break;
+            }
+
+            final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (final Long bifId : bifIds) {
+                futures.add(submitRollover(bifId, previousYearMonth, targetYearMonth));
+            }
+
+            final List<Long> retryIds = parseIds(checkpoint.getRetryBifIds());
+            for (int i = 0; i < futures.size(); i++) {
+                if (!Boolean.TRUE.equals(futures.get(i).join())) {
+                    retryIds.add(bifIds.get(i));
+                }
+            }
+
+            checkpoint.setLastBifId(bifIds.get(bifIds.size() - 1));
+            checkpoint.setProcessedCount(checkpoint.getProcessedCount() + bifIds.size());
+            checkpoint = saveRetryIds(checkpoint, retryIds);
+        }
+
+        checkpoint = retryFailed(checkpoint, previousYearMonth, targetYearMonth);
+
+        checkpoint.setStatus(StatsRolloverCheckpoint.Status.COMPLETED);
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        checkpoint.setLeaseExpiresAt(null);
+        checkpointRepository.save(checkpoint);
+
+        log.info("=== {}년 {}월 통계 롤오버 완료 - 처리: {}명, 실패: {}명 ===",
+                targetYearMonth.getYear(), targetYearMonth.getMonthValue(),
+                checkpoint.getProcessedCount(), checkpoint.getFailedCount());
+    }
+
+    // 실패한 사용자는 완료 처리 전에 실행기를 거치지 않고 한 명씩 다시 시도한다. 그래도 실패하면 첫 조회 시 생성 경로에 맡긴다.
+    private StatsRolloverCheckpoint retryFailed(StatsRolloverCheckpoint checkpoint, final LocalDateTime previousYearMonth,
+                                                final LocalDateTime targetYearMonth) {
+        List<Long> retryIds = parseIds(checkpoint.getRetryBifIds());
+        for (int pass = 1; pass <= RETRY_PASSES && !retryIds.isEmpty(); pass++) {
+            log.info("통계 롤오버 실패 사용자 재시도 {}/{} - 대상: {}명", pass, RETRY_PASSES, retryIds.size());
+            pause(RETRY_DELAY);
+
+            final List<Long> stillFailed = new ArrayList<>();
+            for (final Long bifId : retryIds) {
+                if (!rolloverUser(bifId, previousYearMonth, targetYearMonth)) {
+                    stillFailed.add(bifId);
+                }
+            }
+            retryIds = stillFailed;
+            checkpoint = saveRetryIds(checkpoint, retryIds);
+        }
+
+        if (!retryIds.isEmpty()) {
+            log.warn("통계 롤오버 재시도 후에도 실패한 사용자: {}", retryIds);
+        }
+        return checkpoint;
+    }
+
+    private StatsRolloverCheckpoint saveRetryIds(final StatsRolloverCheckpoint checkpoint, final List<Long> retryIds) {
+        checkpoint.setRetryBifIds(retryIds.isEmpty() ? null : retryIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        checkpoint.setFailedCount(retryIds.size());
+        checkpoint.setLeaseExpiresAt(LocalDateTime.now().plus(CHECKPOINT_LEASE));
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private static List<Long> parseIds(final String ids) {
+        final List<Long> parsed = new ArrayList<>();
+        if (ids == null || ids.isBlank()) {
+            return parsed;
+        }
+        for (String id : ids.split(",")) {
+            parsed.add(Long.valueOf(id.trim()));
+        }
+        return parsed;
+    }
+
+    private void pause(final Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StatsProcessingException("통계 롤오버 재시도 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private CompletableFuture<Boolean> submitRollover(final Long bifId, final LocalDateTime previousYearMonth,
+                                                      final LocalDateTime targetYearMonth) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> rolloverUser(bifId, previousYearMonth, targetYearMonth), statsRolloverTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            log.error("BIF ID {}의 통계 롤오버 작업이 실행기 포화로 거절됨", bifId);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    private boolean rolloverUser(final Long bifId, final LocalDateTime previousYearMonth, final LocalDateTime targetYearMonth) {
+        try {
+            closePreviousMonth(bifId, previousYearMonth, targetYearMonth);
+            prepareMonth(bifId, targetYearMonth);
+            return true;
+        } catch (Exception e) {
+            log.error("BIF ID {}의 통계 롤오버 중 오류 발생", bifId, e);
+            return false;
+        }
+    }
+
+    private void closePreviousMonth(final Long bifId, final LocalDateTime previousYearMonth, final LocalDateTime targetYearMonth) {
+        final Optional<Stats> previousStats = statsRepository.findByBifIdAndYearMonth(bifId, previousYearMonth);
+
+        if (previousStats.isPresent()) {
+            final Map<EmotionType, Integer> emotionCounts = emotionCounterService.getCounts(bifId, previousYearMonth);
+            if (!emotionCounts.equals(parseEmotionCounts(previousStats.get().getEmotionCounts()))) {
+                withAiPermit(() -> statsTextRegenerationService.regenerate(bifId, previousYearMonth));
+            }
+            return;
+        }
+
+        if (diaryRepository.countByUserIdAndDateBetween(bifId, previousYearMonth, targetYearMonth) > 0) {
+            withAiPermit(() -> statsServiceProvider.getObject().generateMonthlyStats(bifId, previousYearMonth));
+        }
+    }
+
+    private void prepareMonth(final Long bifId, final LocalDateTime targetYearMonth) throws Exception {
+        diaryDayBitmapService.seedIfAbsent(bifId, targetYearMonth.getYear());
+
+        if (statsRepository.findByBifIdAndYearMonth(bifId, targetYearMonth).isPresent()) {
+            return;
+        }
+
+        final Map<EmotionType, Integer> emotionCounts = emotionCounterService.getCounts(bifId, targetYearMonth);
+        final int total = emotionCounts.values().stream().mapToInt(Integer::intValue).sum();
+        if (total > 0) {
+            withAiPermit(() -> statsServiceProvider.getObject().generateMonthlyStats(bifId, targetYearMonth));
+            return;
+        }
+
+        statsWriter.insertIfAbsent(bifId, targetYearMonth,
+                aiEmotionAnalysisService.generateStatisticsTextFallback(emotionCounts),
+                aiEmotionAnalysisService.generateGuardianAdviceFallback(emotionCounts),
+                objectMapper.writeValueAsString(emotionCounts),
+                0.0);
+    }
+
+    private void withAiPermit(final Runnable task) {
+        try {
+            aiPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StatsProcessingException("AI 작업 대기 중 인터럽트 발생", e);
+        }
+
+        try {
+            task.run();
+        } finally {
+            aiPermits.release();
+        }
+    }
+
+    private Map<EmotionType, Integer> parseEmotionCounts(final String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+
+        final Map<String, Integer> rawCounts;
+        try {
+            rawCounts = objectMapper.readValue(unwrapIfQuoted(json.trim()), new TypeReference<Map<String, Integer>>() {});
+        } catch (Exception e) {
+            log.warn("감정 카운트 JSON 파싱 실패 - 텍스트를 재생성합니다: {}", json);
+            return Map.of();
+        }
+
+        final Map<EmotionType, Integer> emotionCounts = new EnumMap<>(EmotionType.class);
+        for (EmotionType emotionType : EmotionType.values()) {
+            emotionCounts.put(emotionType, 0);
+        }
+        for (Map.Entry<String, Integer> entry : rawCounts.entrySet()) {
+            final EmotionType emotionType = EmotionMapper.mapStoredEmotionKey(entry.getKey());
+            if (emotionType == null || entry.getValue() == null) {
+                log.warn("알 수 없는 감정 카운트 키 무시: {}", entry.getKey());
+                continue;
+            }
+            emotionCounts.merge(emotionType, entry.getValue(), Integer::sum);
+        }
+        return emotionCounts;
+    }
+
+    // 초기 데이터 중 JSON 문자열이 한 번 더 따옴표로 감싸져 저장된 행이 있다
+    private String unwrapIfQuoted(final String json) {
+        if (json.length() >= 2 && json.startsWith("\"") && json.endsWith("\"")) {
+            return json.substring(1, json.length() - 1).replace("\\\"", "\"");
+        }
+        return json;
+    }
+
+}
@@ -11,12 +11,20 @@ public interface StatsService {
 
     GuardianStatsResponse getGuardianStats(Long bifId);
 
+    GuardianStatsResponse getGuardianStats(Long bifId, String bifNickname, LocalDateTime guardianJoinedAt);
+
     void generateMonthlyStats(Long bifId, LocalDateTime yearMonth);
 
     void generateMonthlyStatsAsync(Long bifId, LocalDateTime yearMonth);
 
     void updateStatsWithKeywords(Long bifId, String diaryContent);
 
+    void applyDiaryContent(Long bifId, String diaryContent);
+
+    void applyDiaryEdit(Long bifId, LocalDateTime diaryCreatedAt, String previousContentHash, String diaryContent);
+
+    void applyDiaryDeletion(Long bifId, LocalDateTime diaryCreatedAt, String previousContentHash);
+
     void updateRealTimeStats(Long bifId);
 
     void forceRegenerateStats(Long bifId);
@@ -6,25 +6,32 @@ import com.sage.bif.stats.dto.GuardianStatsResponse;
 import com.sage.bif.stats.dto.StatsResponse;
 import com.sage.bif.stats.entity.EmotionType;
 import com.sage.bif.stats.entity.Stats;
+import com.sage.bif.stats.entity.StatsKeyword;
 import com.sage.bif.stats.exception.StatsProcessingException;
+import com.sage.bif.stats.repository.StatsKeywordRepository;
 import com.sage.bif.stats.repository.StatsRepository;
 import com.sage.bif.diary.repository.DiaryRepository;
 import com.sage.bif.diary.model.Emotion;
 import com.sage.bif.stats.util.EmotionMapper;
+import com.sage.bif.stats.util.EmotionComparisonCalculator;
+import com.sage.bif.stats.util.EmotionTrendBucketer;
 import com.sage.bif.diary.entity.Diary;
 import com.sage.bif.user.repository.BifRepository;
 import com.sage.bif.user.entity.Bif;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationContext;
 import jakarta.persistence.EntityManager;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -38,19 +45,23 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
     private static final String NO_ADVICE_MSG = "BIF의 감정 데이터가 없어 조언을 제공할 수 없습니다.";
     private static final int MAX_KEYWORDS = 5;
     private static final int MAX_KEYWORD_DISPLAY_LENGTH = 100;
-    private static final double CHANGE_THRESHOLD = 20.0;
     private static final int DEFAULT_LEVEL = 1;
     private static final int DEFAULT_POINTS = 0;
-    private static final int HOUR_23 = 23;
-    private static final int MINUTE_59 = 59;
-    private static final int SECOND_59 = 59;
 
     private final StatsRepository statsRepository;
+    private final StatsWriter statsWriter;
     private final DiaryRepository diaryRepository;
     private final BifRepository bifRepository;
     private final AiEmotionAnalysisService aiEmotionAnalysisService;
     private final AchievementService achievementService;
     private final KeywordAccumulationService keywordAccumulationService;
+    private final StatsKeywordRepository statsKeywordRepository;
+    private final StatsTextRegenerationService statsTextRegenerationService;
+    private final MonthlyDiarySnapshotLoader monthlyDiarySnapshotLoader;
+    private final StatsResponseCache statsResponseCache;
+    private final KeywordDictionary keywordDictionary;
+    private final DiaryDayBitmapService diaryDayBitmapService;
+    private final GuardianStatsAssembler guardianStatsAssembler;
     private final ObjectMapper objectMapper;
     private ApplicationContext applicationContext;
     
@@ -59,65 +70,56 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         this.applicationContext = applicationContext;
     }
     
-    private static final String KEYWORD_KEY = "keyword";
-    private static final String NORMALIZED_VALUE_KEY = "normalizedValue";
-    private static final String COUNT_KEY = "count";
-    private static final String RANK_KEY = "rank";
     private final EntityManager entityManager;
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StatsResponse getMonthlyStats(final Long bifId) {
         try {
             log.info("BIF ID {}의 월별 통계 조회 시작", bifId);
-            
-        final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
-
-            if (existingStats.isEmpty()) {
-                log.info("BIF ID {}의 통계 데이터가 없어 새로 생성합니다.", bifId);
-                return generateAndSaveMonthlyStats(bifId, currentYearMonth);
-            }
-
-            final Map<EmotionType, Integer> realTimeEmotionCounts = calculateEmotionCounts(bifId, currentYearMonth);
-            final Stats stats = existingStats.get();
-            
-            final Map<EmotionType, Integer> storedEmotionCounts = parseEmotionCountsJson(stats.getEmotionCounts());
-            if (!realTimeEmotionCounts.equals(storedEmotionCounts)) {
-                log.info("BIF ID {}의 감정 카운트 변경 감지 - 실시간 업데이트", bifId);
-                stats.setEmotionCounts(objectMapper.writeValueAsString(realTimeEmotionCounts));
-                stats.setEmotionStatisticsText(generateStatisticsText(realTimeEmotionCounts));
-                stats.setGuardianAdviceText(generateGuardianAdvice(realTimeEmotionCounts));
-                statsRepository.save(stats);
-            }
-
-            return buildStatsResponseWithRealTimeData(stats, bifId, currentYearMonth);
-            
+            return getCachedMonthlyStats(bifId, getCurrentYearMonth());
         } catch (Exception e) {
             log.error("월별 통계 조회 중 오류 발생 - bifId: {}", bifId, e);
             return createEmptyStatsResponse(bifId);
         }
     }
 
-    @Override
     @Transactional(readOnly = true)
+    public StatsResponse loadMonthlyStats(final Long bifId, final LocalDateTime currentYearMonth) {
+        final Optional<Stats> existingStats = statsRepository.findByBifIdAndYearMonth(bifId, currentYearMonth);
+
+        final MonthlyDiarySnapshot snapshot = monthlyDiarySnapshotLoader.load(bifId, currentYearMonth);
+        final Map<EmotionType, Integer> emotionCounts = snapshot.getEmotionCounts();
+
+        if (existingStats.isEmpty()) {
+            log.info("BIF ID {}의 통계 데이터가 없어 백그라운드 생성을 요청합니다.", bifId);
+            statsTextRegenerationService.requestRegeneration(bifId, currentYearMonth);
+            return buildStatsResponse(createPlaceholderStats(bifId, currentYearMonth, emotionCounts), snapshot, true);
+        }
+
+        final Stats stats = existingStats.get();
+        final boolean textStale = !emotionCounts.equals(parseEmotionCountsJson(stats.getEmotionCounts()));
+        if (textStale) {
+            log.info("BIF ID {}의 감정 카운트 변경 감지 - 통계 텍스트 재생성 요청", bifId);
+            statsTextRegenerationService.requestRegeneration(bifId, currentYearMonth);
+        }
+
+        return buildStatsResponse(stats, snapshot, textStale);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public GuardianStatsResponse getGuardianStats(final Long bifId) {
+        return getGuardianStats(bifId, getBifNickname(bifId), findFirstGuardianJoinedAt(bifId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GuardianStatsResponse getGuardianStats(final Long bifId, final String bifNickname, final LocalDateTime guardianJoinedAt) {
         log.info("보호자가 BIF ID {}의 통계를 조회합니다.", bifId);
 
         try {
-
-            final StatsResponse bifStats = applicationContext.getBean(StatsServiceImpl.class).getMonthlyStats(bifId);
-            final String bifNickname = getBifNickname(bifId);
-            final String advice = bifStats.getGuardianAdviceText();
-            final String guardianJoinDate = getGuardianJoinDateByBifId(bifId);
-
-            return GuardianStatsResponse.builder()
-                    .bifNickname(bifNickname)
-                    .advice(advice)
-                    .guardianJoinDate(guardianJoinDate)
-                    .emotionRatio(bifStats.getEmotionRatio())
-                    .monthlyChange(bifStats.getMonthlyChange())
-                    .build();
+            return guardianStatsAssembler.assemble(bifId, bifNickname, guardianJoinedAt);
 
         } catch (Exception e) {
             log.error("보호자 통계 조회 중 오류 발생 - BIF ID: {}", bifId, e);
@@ -125,6 +127,11 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         }
     }
 
+    private StatsResponse getCachedMonthlyStats(final Long bifId, final LocalDateTime yearMonth) {
+        return statsResponseCache.getMonthlyStats(bifId, yearMonth,
+                () -> applicationContext.getBean(StatsServiceImpl.class).loadMonthlyStats(bifId, yearMonth));
+    }
+
     @Override
     @Transactional
     public void generateMonthlyStats(final Long bifId, final LocalDateTime yearMonth) {
@@ -140,35 +147,74 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
 
     @Override
     public void updateStatsWithKeywords(final Long bifId, final String diaryContent) {
+        applyDiaryContent(bifId, diaryContent);
+        statsTextRegenerationService.requestRegeneration(bifId, getCurrentYearMonth());
+    }
+
+    @Override
+    public void applyDiaryContent(final Long bifId, final String diaryContent) {
         log.info("BIF ID {}의 키워드 기반 통계 업데이트 시작", bifId);
         
         try {
-        final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
+            final LocalDateTime currentYearMonth = getCurrentYearMonth();
+            if (statsRepository.findByBifIdAndYearMonth(bifId, currentYearMonth).isEmpty()) {
+                log.info("BIF ID {}의 통계 데이터가 없어 키워드 반영은 백그라운드 생성에 맡깁니다.", bifId);
+                return;
+            }
+
+            final AiEmotionAnalysisService.EmotionAnalysisResult analysis = aiEmotionAnalysisService.analyzeEmotionFromText(bifId, diaryContent);
             
-            if (existingStats.isPresent()) {
-                final Stats stats = existingStats.get();
-                
-                final Map<EmotionType, Integer> emotionCounts = calculateEmotionCounts(bifId, currentYearMonth);
-                stats.setEmotionCounts(objectMapper.writeValueAsString(emotionCounts));
-                
-                final AiEmotionAnalysisService.EmotionAnalysisResult analysis = aiEmotionAnalysisService.analyzeEmotionFromText(diaryContent);
-                stats.setAiEmotionScore(analysis.getEmotionScore());
-                
-                keywordAccumulationService.updateKeywordsWithNewContent(bifId, analysis.getKeywords(), diaryContent);
-                
-                stats.setEmotionStatisticsText(generateStatisticsText(emotionCounts));
-                stats.setGuardianAdviceText(generateGuardianAdvice(emotionCounts));
-                
-                statsRepository.save(stats);
+            keywordAccumulationService.updateKeywordsWithNewContent(bifId, analysis.getKeywords(), diaryContent);
+            
+            statsWriter.updateAiEmotionScore(bifId, currentYearMonth, analysis.getEmotionScore());
+
+            log.info("BIF ID {}의 실시간 통계 업데이트 완료", bifId);
+        } catch (Exception e) {
+            log.error("키워드 기반 통계 업데이트 중 오류 발생 - bifId: {}", bifId, e);
+        }
+    }
 
-                log.info("BIF ID {}의 실시간 통계 업데이트 완료 - 감정 카운트: {}", bifId, emotionCounts);
+    @Override
+    public void applyDiaryEdit(final Long bifId, final LocalDateTime diaryCreatedAt,
+                               final String previousContentHash, final String diaryContent) {
+        log.info("BIF ID {}의 일기 수정 차분 반영 시작", bifId);
+
+        try {
+            final LocalDateTime yearMonth = EmotionCounterService.toYearMonth(diaryCreatedAt);
+            final Optional<List<String>> previousKeywords = aiEmotionAnalysisService.findAnalyzedKeywords(bifId, previousContentHash);
+            final AiEmotionAnalysisService.EmotionAnalysisResult analysis = aiEmotionAnalysisService.analyzeEmotionFromText(bifId, diaryContent);
+
+            if (previousKeywords.isPresent()) {
+                keywordAccumulationService.replaceKeywords(bifId, yearMonth, previousKeywords.get(), analysis.getKeywords(), diaryContent);
             } else {
-                log.info("BIF ID {}의 통계 데이터가 없어 새로 생성합니다.", bifId);
-                generateAndSaveMonthlyStats(bifId, currentYearMonth);
+                log.warn("BIF ID {}의 수정 전 일기 분석 결과가 없어 새 키워드만 반영합니다.", bifId);
+                keywordAccumulationService.updateKeywordsWithNewContent(bifId, yearMonth, analysis.getKeywords(), diaryContent);
             }
+
+            statsWriter.updateAiEmotionScore(bifId, yearMonth, analysis.getEmotionScore());
+            aiEmotionAnalysisService.deleteReplacedAnalysis(bifId, previousContentHash, diaryContent);
+
         } catch (Exception e) {
-            log.error("키워드 기반 통계 업데이트 중 오류 발생 - bifId: {}", bifId, e);
+            log.error("일기 수정 차분 반영 중 오류 발생 - bifId: {}", bifId, e);
+        }
+    }
+
+    @Override
+    public void applyDiaryDeletion(final Long bifId, final LocalDateTime diaryCreatedAt, final String previousContentHash) {
+        log.info("BIF ID {}의 일기 삭제 차분 반영 시작", bifId);
+
+        try {
+            final LocalDateTime yearMonth = EmotionCounterService.toYearMonth(diaryCreatedAt);
+            final Optional<List<String>> previousKeywords = aiEmotionAnalysisService.findAnalyzedKeywords(bifId, previousContentHash);
+            if (previousKeywords.isPresent()) {
+                keywordAccumulationService.replaceKeywords(bifId, yearMonth, previousKeywords.get(), List.of(), null);
+            } else {
+                log.warn("BIF ID {}의 삭제된 일기 분석 결과가 없어 키워드를 차감하지 않습니다.", bifId);
+            }
+            aiEmotionAnalysisService.deleteAnalysis(bifId, previousContentHash);
+
+        } catch (Exception e) {
+            log.error("일기 삭제 차분 반영 중 오류 발생 - bifId: {}", bifId, e);
         }
     }
 
@@ -179,8 +225,7 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         
         try {
             final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Map<EmotionType, Integer> emotionCounts = calculateEmotionCounts(bifId, currentYearMonth);
-            saveEmotionCountsToStats(bifId, currentYearMonth, emotionCounts);
+            statsTextRegenerationService.requestRegeneration(bifId, currentYearMonth);
             log.debug("BIF ID {}의 실시간 통계 갱신 완료", bifId);
         } catch (Exception e) {
             log.error("실시간 통계 갱신 중 오류 발생 - bifId: {}", bifId, e);
@@ -198,47 +243,30 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
 
 
     
-    private StatsResponse generateAndSaveMonthlyStats(Long bifId, LocalDateTime yearMonth) {
+    private void generateAndSaveMonthlyStats(Long bifId, LocalDateTime yearMonth) {
         try {
             final MonthlyDiaryData monthlyData = loadMonthlyDiaryData(bifId, yearMonth);
             
             final Map<EmotionType, Integer> emotionCounts = calculateEmotionCounts(monthlyData);
 
-            final Map<String, Integer> keywordFrequency = buildKeywordFrequencyMap(monthlyData);
+            buildKeywordFrequencyMap(monthlyData);
 
-            final AiEmotionAnalysisService.EmotionAnalysisResult aiAnalysis = 
-                    aiEmotionAnalysisService.analyzeEmotionFromText("");
+            final CompletableFuture<AiEmotionAnalysisService.StatsTexts> texts = aiEmotionAnalysisService.generateStatsTextsAsync(emotionCounts);
 
-            final Stats stats = Stats.builder()
-                    .bifId(bifId)
-                    .yearMonth(yearMonth)
-                    .emotionStatisticsText(generateStatisticsText(emotionCounts))
-                    .guardianAdviceText(generateGuardianAdvice(emotionCounts))
-                    .emotionCounts(objectMapper.writeValueAsString(emotionCounts))
-                    .topKeywords(objectMapper.writeValueAsString(keywordFrequency))
-                    .aiEmotionScore(aiAnalysis.getEmotionScore())
-                    .build();
+            final AiEmotionAnalysisService.EmotionAnalysisResult aiAnalysis = 
+                    aiEmotionAnalysisService.analyzeEmotionFromText(bifId, "");
 
-            final Stats savedStats = statsRepository.save(stats);
+            statsWriter.upsertGeneratedTexts(bifId, yearMonth,
+                    texts.join(),
+                    objectMapper.writeValueAsString(emotionCounts),
+                    aiAnalysis.getEmotionScore());
             log.info("BIF ID {}의 통계 데이터 저장 완료", bifId);
-
-            return buildStatsResponseWithRealTimeData(savedStats, monthlyData);
             
         } catch (Exception e) {
             log.error("통계 데이터 생성 및 저장 중 오류 발생 - bifId: {}", bifId, e);
-            return createEmptyStatsResponse(bifId);
         }
     }
 
-    private Map<EmotionType, Integer> calculateEmotionCounts(Long bifId, LocalDateTime yearMonth) {
-        final LocalDateTime startOfMonth = yearMonth.withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-        final LocalDateTime endOfMonth = yearMonth.withDayOfMonth(yearMonth.toLocalDate().lengthOfMonth())
-                .withHour(HOUR_23).withMinute(MINUTE_59).withSecond(SECOND_59);
-
-        final List<Diary> monthlyDiaries = diaryRepository.findByUserIdAndDateBetween(bifId, startOfMonth, endOfMonth);
-        return calculateEmotionCountsFromDiaries(monthlyDiaries);
-    }
-
     private Map<EmotionType, Integer> calculateEmotionCounts(MonthlyDiaryData monthlyData) {
         return calculateEmotionCountsFromDiaries(monthlyData.getDiaries());
     }
@@ -283,33 +311,13 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
 
 
     private void extractKeywordsFromContent(String content, Set<String> fallbackKeywords) {
-        final String[] meaningfulKeywords = {
-            "회의", "미팅", "프로젝트", "업무", "일", "직장", "회사",
-            "가족", "친구", "동료", "사람",
-            "학교", "대학교", "수업", "공부", "시험", "과제",
-            "운동", "헬스", "등산", "조깅", "수영",
-            "음식", "요리", "맛집", "카페", "레스토랑",
-            "여행", "휴가", "출장", "여행지", "관광",
-            "영화", "드라마", "음악", "책", "독서", "게임",
-            "취미", "관심사", "새로운", "도전"
-        };
-        
-        for (String keyword : meaningfulKeywords) {
-            if (content.contains(keyword)) {
-                fallbackKeywords.add(keyword);
-                break;
-            }
-        }
-        
-        if (content.contains("역") || content.contains("역사")) {
-            fallbackKeywords.add("교통");
-        }
-        if (content.contains("집") || content.contains("집에")) {
-            fallbackKeywords.add("집");
-        }
-        if (content.contains("회사") || content.contains("직장")) {
-            fallbackKeywords.add("직장");
+        final KeywordDictionary.Match match = keywordDictionary.scan(content);
+
+        final List<String> topicKeywords = match.terms(KeywordDictionary.Category.TOPIC);
+        if (!topicKeywords.isEmpty()) {
+            fallbackKeywords.add(topicKeywords.get(0));
         }
+        fallbackKeywords.addAll(match.terms(KeywordDictionary.Category.TOPIC_ALIAS));
     }
 
     private List<String> extractFallbackKeywords(List<Diary> diaries) {
@@ -391,7 +399,7 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         List<String> extractedKeywords = new ArrayList<>();
         try {
             final AiEmotionAnalysisService.EmotionAnalysisResult analysis = 
-                    aiEmotionAnalysisService.analyzeEmotionFromText(content);
+                    aiEmotionAnalysisService.analyzeEmotionFromText(diary.getUser().getBifId(), content);
             
             if (analysis.getKeywords() != null && !analysis.getKeywords().isEmpty()) {
                 final List<String> validatedKeywords = validateKeywords(content, analysis.getKeywords());
@@ -438,48 +446,13 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         }
     }
 
-    private int calculateStreakCount(Long bifId) {
-        try {
-            final LocalDateTime now = LocalDateTime.now();
-            final LocalDateTime startOfMonth = now.withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-            
-            final List<Diary> monthlyDiaries = diaryRepository.findByUserIdAndDateBetween(bifId, startOfMonth, now);
-            
-            if (monthlyDiaries.isEmpty()) return 0;
-            
-            return monthlyDiaries.size();
-
-        } catch (Exception e) {
-            log.error("연속 기록 수 계산 중 오류 발생", e);
-            return 0;
-        }
-    }
-
-    private String generateStatisticsText(Map<EmotionType, Integer> emotionCounts) {
-        return aiEmotionAnalysisService.generateStatisticsTextWithAI(emotionCounts);
-    }
-
-    private String generateGuardianAdvice(Map<EmotionType, Integer> emotionCounts) {
-        return aiEmotionAnalysisService.generateGuardianAdviceWithAI(emotionCounts);
-    }
-
-    private void saveEmotionCountsToStats(Long bifId, LocalDateTime yearMonth, Map<EmotionType, Integer> emotionCounts) {
-        try {
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, yearMonth);
-            final Stats stats = existingStats.orElseGet(() -> Stats.builder()
-                    .bifId(bifId)
-                    .yearMonth(yearMonth)
-                    .emotionStatisticsText("")
-                    .guardianAdviceText("")
-                    .build());
-
-            final String emotionCountsJson = objectMapper.writeValueAsString(emotionCounts);
-            stats.setEmotionCounts(emotionCountsJson);
-            statsRepository.save(stats);
-
-        } catch (Exception e) {
-            log.error("감정 카운트 저장 중 오류 발생", e);
-        }
+    private Stats createPlaceholderStats(Long bifId, LocalDateTime yearMonth, Map<EmotionType, Integer> emotionCounts) {
+        return Stats.builder()
+                .bifId(bifId)
+                .yearMonth(yearMonth)
+                .emotionStatisticsText(aiEmotionAnalysisService.generateStatisticsTextFallback(emotionCounts))
+                .guardianAdviceText(aiEmotionAnalysisService.generateGuardianAdviceFallback(emotionCounts))
+                .build();
     }
 
     private StatsResponse createEmptyStatsResponse(Long bifId) {
@@ -535,21 +508,20 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
     private record ProfileMeta(String nickname, String joinDate, String connectionCode, int totalDiaryCount) {}
 
     private ProfileMeta loadProfileMeta(Long bifId) {
+        return loadProfileMeta(bifId, calculateTotalDiaryCount(bifId));
+    }
+
+    private ProfileMeta loadProfileMeta(Long bifId, int totalDiaryCount) {
         final var bifOpt = bifRepository.findById(bifId);
         final String nickname = bifOpt.map(Bif::getNickname).orElse("BIF");
         final String joinDate = bifOpt.map(bif -> bif.getCreatedAt().format(DateTimeFormatter.ofPattern(DATE_FORMAT))).orElse("");
         final String connectionCode = bifOpt.map(Bif::getConnectionCode).orElse("");
-        final int totalDiaryCount = calculateTotalDiaryCount(bifId);
         return new ProfileMeta(nickname, joinDate, connectionCode, totalDiaryCount);
     }
 
     private int calculateTotalDiaryCount(Long bifId) {
         try {
-            final LocalDateTime startOfYear = LocalDateTime.now().withMonth(1).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-            final LocalDateTime endOfYear = LocalDateTime.now().withMonth(12).withDayOfMonth(31).withHour(23).withMinute(59).withSecond(59);
-            
-            final List<Diary> yearlyDiaries = diaryRepository.findByUserIdAndDateBetween(bifId, startOfYear, endOfYear);
-            return yearlyDiaries.size();
+            return diaryDayBitmapService.countDays(bifId, getCurrentYearMonth().getYear());
         } catch (Exception e) {
             log.error("총 일기 수 계산 실패 - bifId: {}", bifId, e);
             return 0;
@@ -575,7 +547,7 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         }
     }
 
-    private String getGuardianJoinDateByBifId(Long bifId) {
+    private LocalDateTime findFirstGuardianJoinedAt(Long bifId) {
         try {
             final List<LocalDateTime> results = entityManager.createQuery(
                     "select g.createdAt from com.sage.bif.user.entity.Guardian g where g.bif.bifId = :bifId order by g.createdAt asc",
@@ -584,14 +556,10 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
                     .setMaxResults(1)
                     .getResultList();
 
-            if (results.isEmpty()) {
-                return "";
-            }
-
-            return results.get(0).format(DateTimeFormatter.ofPattern(DATE_FORMAT));
+            return results.isEmpty() ? null : results.get(0);
         } catch (Exception e) {
             log.warn("가디언 가입일 조회 실패 - bifId: {}", bifId, e);
-            return "";
+            return null;
         }
     }
 
@@ -600,58 +568,26 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         return LocalDateTime.of(now.getYear(), now.getMonth(), 1, 0, 0, 0);
     }
 
-    private StatsResponse buildStatsResponseWithRealTimeData(Stats statsData, Long bifId, LocalDateTime yearMonth) {
+    private StatsResponse buildStatsResponse(Stats statsData, MonthlyDiarySnapshot snapshot, boolean textStale) {
         try {
-            final Map<EmotionType, Integer> emotionCounts = parseEmotionCountsJson(statsData.getEmotionCounts());
-            final List<StatsResponse.EmotionRatio> emotionRatio = calculateEmotionRatio(emotionCounts);
-            final List<StatsResponse.KeywordData> topKeywords = createKeywordDataList(parseTopKeywordsJson(statsData.getTopKeywords()));
-            final List<StatsResponse.MonthlyChange> monthlyChange = getMonthlyChange(bifId, yearMonth);
-            final ProfileMeta meta = loadProfileMeta(bifId);
+            final Long bifId = snapshot.getBifId();
+            final Map<EmotionType, Integer> emotionCounts = snapshot.getEmotionCounts();
+            final List<StatsResponse.EmotionRatio> emotionRatio = EmotionComparisonCalculator.calculateEmotionRatio(emotionCounts);
+            final List<StatsResponse.KeywordData> topKeywords = createKeywordDataList(
+                    keywordAccumulationService.getTopKeywords(bifId, snapshot.getYearMonth()));
+            final List<StatsResponse.MonthlyChange> monthlyChange = EmotionComparisonCalculator.calculateMonthlyChange(
+                    snapshot.getEmotionCounts(), snapshot.getPreviousMonthCounts());
+            final ProfileMeta meta = loadProfileMeta(bifId, snapshot.getYearlyDiaryCount());
 
             final StatsResponse.CharacterInfo characterInfo = createCharacterInfo();
-            final StatsResponse.AchievementInfo achievementInfo = createAchievementInfo(bifId, emotionCounts, topKeywords);
-            final List<StatsResponse.EmotionTrend> emotionTrends = createEmotionTrends(bifId, yearMonth);
-
-            return StatsResponse.builder()
-                    .statisticsText(statsData.getEmotionStatisticsText())
-                    .guardianAdviceText(statsData.getGuardianAdviceText())
-                    .emotionRatio(emotionRatio)
-                    .topKeywords(topKeywords)
-                    .monthlyChange(monthlyChange)
-                        .bifId(bifId)
-                    .nickname(meta.nickname)
-                    .joinDate(meta.joinDate)
-                    .totalDiaryCount(meta.totalDiaryCount)
-                    .connectionCode(meta.connectionCode)
-                    .characterInfo(characterInfo)
-                    .achievementInfo(achievementInfo)
-                    .emotionTrends(emotionTrends)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("통계 응답 생성 중 오류 발생", e);
-            throw new StatsProcessingException("통계 응답 생성 실패", e);
-        }
-    }
-
-    private StatsResponse buildStatsResponseWithRealTimeData(Stats statsData, MonthlyDiaryData monthlyData) {
-        try {
-            final Long bifId = monthlyData.getBifId();
-            final LocalDateTime yearMonth = monthlyData.getYearMonth();
-            
-            final Map<EmotionType, Integer> emotionCounts = parseEmotionCountsJson(statsData.getEmotionCounts());
-            final List<StatsResponse.EmotionRatio> emotionRatio = calculateEmotionRatio(emotionCounts);
-            final List<StatsResponse.KeywordData> topKeywords = createKeywordDataList(parseTopKeywordsJson(statsData.getTopKeywords()));
-            final List<StatsResponse.MonthlyChange> monthlyChange = getMonthlyChange(bifId, yearMonth);
-            final ProfileMeta meta = loadProfileMeta(bifId);
-
-            final StatsResponse.CharacterInfo characterInfo = createCharacterInfo();
-            final StatsResponse.AchievementInfo achievementInfo = createAchievementInfo(bifId, emotionCounts, topKeywords);
-            final List<StatsResponse.EmotionTrend> emotionTrends = createEmotionTrends(monthlyData);
+            final StatsResponse.AchievementInfo achievementInfo = createAchievementInfo(snapshot);
+            final List<StatsResponse.EmotionTrend> emotionTrends = createEmotionTrends(snapshot);
 
             return StatsResponse.builder()
                     .statisticsText(statsData.getEmotionStatisticsText())
                     .guardianAdviceText(statsData.getGuardianAdviceText())
+                    .textStale(textStale)
+                    .textGeneratedAt(statsData.getTextGeneratedAt())
                     .emotionRatio(emotionRatio)
                     .topKeywords(topKeywords)
                     .monthlyChange(monthlyChange)
@@ -681,21 +617,13 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
                 .build();
     }
 
-    private StatsResponse.AchievementInfo createAchievementInfo(Long bifId, Map<EmotionType, Integer> emotionCounts,
-                                                               List<StatsResponse.KeywordData> topKeywords) {
+    private StatsResponse.AchievementInfo createAchievementInfo(MonthlyDiarySnapshot snapshot) {
         try {
-            final int diaryCount = emotionCounts.values().stream().mapToInt(Integer::intValue).sum();
-            final int streakCount = calculateStreakCount(bifId);
-            final List<String> emotions = emotionCounts.entrySet().stream()
-                    .filter(entry -> entry.getValue() > 0)
-                    .map(entry -> entry.getKey().name())
-                    .toList();
-            final List<String> keywords = topKeywords.stream()
-                    .map(StatsResponse.KeywordData::getKeyword)
-                    .toList();
-
-            final AchievementService.AchievementResult achievementResult = 
-                    achievementService.calculateAchievements(bifId, diaryCount, streakCount, emotions, keywords);
+            final Long bifId = snapshot.getBifId();
+            final int streakCount = diaryDayBitmapService.currentStreak(bifId, LocalDate.now());
+
+            final AchievementService.AchievementResult achievementResult =
+                    achievementService.getAchievements(bifId, streakCount);
 
             return StatsResponse.AchievementInfo.builder()
                     .totalPoints(achievementResult.getTotalPoints())
@@ -724,128 +652,15 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
                 .toList();
     }
 
-    private List<StatsResponse.EmotionTrend> createEmotionTrends(Long bifId, LocalDateTime yearMonth) {
+    private List<StatsResponse.EmotionTrend> createEmotionTrends(MonthlyDiarySnapshot snapshot) {
         try {
-            final LocalDateTime startOfMonth = yearMonth.withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-            final LocalDateTime endOfMonth = yearMonth.withDayOfMonth(yearMonth.toLocalDate().lengthOfMonth())
-                    .withHour(HOUR_23).withMinute(MINUTE_59).withSecond(SECOND_59);
-
-            final List<Diary> monthlyDiaries = diaryRepository.findByUserIdAndDateBetween(bifId, startOfMonth, endOfMonth);
-            return createEmotionTrendsFromDiaries(monthlyDiaries, yearMonth);
-
+            return EmotionTrendBucketer.bucketMonth(snapshot.getEntries(), snapshot.getYearMonth().toLocalDate());
         } catch (Exception e) {
             log.error("감정 트렌드 생성 중 오류 발생", e);
             return Collections.emptyList();
         }
     }
 
-    private List<StatsResponse.EmotionTrend> createEmotionTrends(MonthlyDiaryData monthlyData) {
-        try {
-            return createEmotionTrendsFromDiaries(monthlyData.getDiaries(), monthlyData.getYearMonth());
-        } catch (Exception e) {
-            log.error("감정 트렌드 생성 중 오류 발생", e);
-            return Collections.emptyList();
-        }
-    }
-
-    private List<StatsResponse.EmotionTrend> createEmotionTrendsFromDiaries(List<Diary> monthlyDiaries, LocalDateTime yearMonth) {
-        final List<StatsResponse.EmotionTrend> trends = new ArrayList<>();
-
-        if (monthlyDiaries.isEmpty()) {
-            return trends;
-        }
-
-        for (int day = 1; day <= yearMonth.toLocalDate().lengthOfMonth(); day++) {
-            final LocalDateTime dayStart = yearMonth.withDayOfMonth(day).withHour(0).withMinute(0).withSecond(0);
-            final LocalDateTime dayEnd = yearMonth.withDayOfMonth(day).withHour(HOUR_23).withMinute(MINUTE_59).withSecond(SECOND_59);
-
-            final List<Diary> dayDiaries = monthlyDiaries.stream()
-                    .filter(diary -> !diary.getCreatedAt().isBefore(dayStart) && !diary.getCreatedAt().isAfter(dayEnd))
-                    .toList();
-
-            if (!dayDiaries.isEmpty()) {
-                final double averageScore = dayDiaries.stream()
-                        .mapToDouble(diary -> {
-                            final EmotionType emotionType = EmotionMapper.mapDiaryEmotionToStats(diary.getEmotion());
-                            return emotionType.getScore();
-                        })
-                        .average()
-                        .orElse(0.0);
-
-                final EmotionType dominantEmotion = EmotionType.fromScore(averageScore);
-                final String trend = determineTrend(averageScore);
-                final String description = generateTrendDescription(averageScore);
-
-                trends.add(StatsResponse.EmotionTrend.builder()
-                        .date(dayStart.format(DateTimeFormatter.ofPattern("MM-dd")))
-                        .dominantEmotion(dominantEmotion)
-                        .averageScore(averageScore)
-                        .trend(trend)
-                        .description(description)
-                        .build());
-            }
-        }
-
-        return trends;
-    }
-
-    private String determineTrend(double averageScore) {
-        if (averageScore >= 1.0) return "상승";
-        if (averageScore >= 0.0) return "안정";
-        return "하락";
-    }
-
-    private String generateTrendDescription(double averageScore) {
-        if (averageScore >= 1.5) return "매우 긍정적인 하루";
-        if (averageScore >= 0.5) return "긍정적인 하루";
-        if (averageScore >= -0.5) return "평온한 하루";
-        if (averageScore >= -1.5) return "조금 힘든 하루";
-        return "힘든 하루";
-    }
-
-    private List<StatsResponse.EmotionRatio> calculateEmotionRatio(Map<EmotionType, Integer> emotionCounts) {
-        final int totalCount = emotionCounts.values().stream().mapToInt(Integer::intValue).sum();
-
-        if (totalCount == 0) {
-            return Collections.emptyList();
-        }
-
-        final List<StatsResponse.EmotionRatio> emotionRatios = new ArrayList<>();
-
-        for (final Map.Entry<EmotionType, Integer> entry : emotionCounts.entrySet()) {
-            final EmotionType emotionType = entry.getKey();
-            final Integer count = entry.getValue();
-            final double percentage = (double) count / totalCount * 100;
-
-            final StatsResponse.EmotionRatio ratio = StatsResponse.EmotionRatio.builder()
-                    .emotion(emotionType)
-                    .value(count)
-                    .emoji(emotionType.getEmoji())
-                    .percentage(Math.round(percentage * 10.0) / 10.0)
-                    .build();
-
-            emotionRatios.add(ratio);
-        }
-
-        emotionRatios.sort((a, b) -> {
-            final int orderA = getEmotionOrder(a.getEmotion());
-            final int orderB = getEmotionOrder(b.getEmotion());
-            return Integer.compare(orderA, orderB);
-        });
-
-        return emotionRatios;
-    }
-
-    private int getEmotionOrder(EmotionType emotionType) {
-        return switch (emotionType) {
-            case GREAT -> 1;
-            case GOOD -> 2;
-            case OKAY -> 3;
-            case DOWN -> 4;
-            case ANGRY -> 5;
-        };
-    }
-
     private Map<EmotionType, Integer> parseEmotionCountsJson(String json) {
         if (json == null || json.trim().isEmpty()) {
             return new EnumMap<>(EmotionType.class);
@@ -898,209 +713,20 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         };
     }
 
-    private List<Map<String, Object>> parseTopKeywordsJson(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return Collections.emptyList();
-        }
-        
-        try {
-            final String cleanedJson = unwrapIfQuoted(json.trim());
-            
-            if (cleanedJson.startsWith("{")) {
-                final Map<String, Integer> keywordCounts = objectMapper.readValue(cleanedJson, new TypeReference<Map<String, Integer>>() {});
-                return convertKeywordMapToList(keywordCounts);
-            }
-            
-            return objectMapper.readValue(cleanedJson, new TypeReference<>() {});
-            
-        } catch (Exception e) {
-            log.error("키워드 JSON 파싱 실패: {}", json, e);
-            return createDefaultTopKeywords();
-        }
-    }
+    private List<StatsResponse.KeywordData> createKeywordDataList(List<StatsKeyword> topKeywords) {
+        final int maxCount = topKeywords.isEmpty() ? 0 : topKeywords.get(0).getCount();
+        final List<StatsResponse.KeywordData> keywordDataList = new ArrayList<>(topKeywords.size());
 
-    private List<Map<String, Object>> convertKeywordMapToList(Map<String, Integer> keywordCounts) {
-        final List<Map<String, Object>> keywordList = new ArrayList<>();
-        
-        if (keywordCounts == null || keywordCounts.isEmpty()) {
-            log.info("키워드 데이터가 비어있음 - 빈 리스트 반환");
-            return keywordList;
-        }
-        
-        log.info("원본 키워드 빈도수: {}", keywordCounts);
-        
-        final List<Map.Entry<String, Integer>> sortedKeywords = keywordCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
-                        .thenComparing(Map.Entry.comparingByKey()))
-                .limit(MAX_KEYWORDS)
-                .toList();
-        
-        log.info("정렬된 키워드 Top5: {}", sortedKeywords);
-        
-        final int maxCount = sortedKeywords.stream()
-                .mapToInt(Map.Entry::getValue)
-                .max()
-                .orElse(1);
-        
-        for (int i = 0; i < sortedKeywords.size(); i++) {
-            final Map.Entry<String, Integer> entry = sortedKeywords.get(i);
-            final Map<String, Object> keywordData = new HashMap<>();
-            keywordData.put(KEYWORD_KEY, entry.getKey());
-            keywordData.put(COUNT_KEY, entry.getValue());
-            keywordData.put(RANK_KEY, i + 1);
-            keywordData.put(NORMALIZED_VALUE_KEY, maxCount > 0 ? (double) entry.getValue() / maxCount : 0.0);
-            keywordList.add(keywordData);
-            
-            log.info("키워드 데이터 생성: keyword={}, count={}, rank={}, normalizedValue={}", 
-                    entry.getKey(), entry.getValue(), i + 1, 
-                    maxCount > 0 ? (double) entry.getValue() / maxCount : 0.0);
-        }
-        
-        log.info("최종 키워드 리스트: {}", keywordList);
-        return keywordList;
-    }
-
-    private List<Map<String, Object>> createDefaultTopKeywords() {
-        return new ArrayList<>();
-    }
-
-    private List<StatsResponse.KeywordData> createKeywordDataList(List<Map<String, Object>> topKeywordsData) {
-        return topKeywordsData.stream()
-                .filter(keyword -> {
-                    String keywordText = (String) keyword.get(KEYWORD_KEY);
-                    return keywordText != null && !keywordText.trim().isEmpty();
-                })
-                .map(keyword -> {
-                    String keywordText = (String) keyword.get(KEYWORD_KEY);
-                    Integer count = (Integer) keyword.get(COUNT_KEY);
-                    Integer rank = (Integer) keyword.get(RANK_KEY);
-                    
-                    Double normalizedValue = keyword.get(NORMALIZED_VALUE_KEY) != null ?
-                            (Double) keyword.get(NORMALIZED_VALUE_KEY) : 0.0;
-                    
-                    return StatsResponse.KeywordData.builder()
-                            .keyword(keywordText)
-                            .count(count != null ? count : 0)
-                            .rank(rank != null ? rank : 1)
-                            .normalizedValue(normalizedValue)
-                            .build();
-                })
-                .toList();
-    }
-
-    private List<StatsResponse.MonthlyChange> getMonthlyChange(Long bifId, LocalDateTime yearMonth) {
-        final LocalDateTime lastYearMonth = yearMonth.minusMonths(1);
-
-        final Optional<Stats> currentStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, yearMonth);
-        final Optional<Stats> lastStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, lastYearMonth);
-
-        final List<StatsResponse.MonthlyChange> monthlyChange = new ArrayList<>();
-
-        try {
-            final Map<EmotionType, Integer> currentCounts = parseEmotionCountsFromStats(currentStats);
-            final Map<EmotionType, Integer> lastCounts = parseEmotionCountsFromStats(lastStats);
-
-            for (EmotionType emotion : EmotionType.values()) {
-                final Integer currentValue = currentCounts.getOrDefault(emotion, 0);
-                final Integer previousValue = lastCounts.getOrDefault(emotion, 0);
-
-                monthlyChange.add(buildMonthlyComparisonItem(emotion, currentValue, previousValue));
-            }
-
-            monthlyChange.sort((a, b) -> {
-                final int orderA = getEmotionOrder(a.getEmotion());
-                final int orderB = getEmotionOrder(b.getEmotion());
-                return Integer.compare(orderA, orderB);
-            });
-
-        } catch (Exception e) {
-            log.error("월별 감정 비교 데이터 생성 중 오류 발생", e);
-            addDefaultMonthlyChangeItems(monthlyChange);
-        }
-
-        return monthlyChange;
-    }
-
-    private Map<EmotionType, Integer> parseEmotionCountsFromStats(Optional<Stats> statsOpt) {
-        if (statsOpt.isPresent() && statsOpt.get().getEmotionCounts() != null && !statsOpt.get().getEmotionCounts().trim().isEmpty()) {
-            try {
-                final String countsJson = unwrapIfQuoted(statsOpt.get().getEmotionCounts());
-                final Map<String, Integer> rawCounts = objectMapper.readValue(countsJson, new TypeReference<>() {});
-                return processEmotionCountsFromRaw(rawCounts);
-            } catch (Exception e) {
-                log.error("통계에서 감정 카운트 파싱 실패", e);
-                return new EnumMap<>(EmotionType.class);
-            }
-        }
-        return new EnumMap<>(EmotionType.class);
-    }
-
-    private StatsResponse.MonthlyChange buildMonthlyComparisonItem(EmotionType emotion, Integer currentValue, Integer previousValue) {
-        final Double changePercentage = calculateChangePercentage(previousValue, currentValue);
-        final String changeStatus = determineChangeStatus(currentValue, previousValue);
-        final String changeDescription = generateChangeDescription(emotion, currentValue, previousValue, changePercentage);
-
-        return StatsResponse.MonthlyChange.builder()
-                .month("감정별 변화")
-                .emotion(emotion)
-                .value(currentValue)
-                .previousValue(previousValue)
-                .changePercentage(changePercentage)
-                .changeStatus(changeStatus)
-                .changeDescription(changeDescription)
-                .build();
-    }
-
-    private String determineChangeStatus(Integer currentValue, Integer previousValue) {
-        if (previousValue == 0) {
-            return currentValue > 0 ? "NEW" : "SAME";
-        }
-
-        final double change = ((double) (currentValue - previousValue) / previousValue) * 100.0;
-
-        if (change > CHANGE_THRESHOLD) {
-            return "INCREASE";
-        } else if (change < -CHANGE_THRESHOLD) {
-            return "DECREASE";
-        } else {
-            return "STABLE";
-        }
-    }
-
-    private String generateChangeDescription(EmotionType emotion, Integer currentValue, Integer previousValue, Double changePercentage) {
-        if (previousValue == 0) {
-            if (currentValue > 0) {
-                return String.format("지난달에는 없었던 %s 감정이 이번달에 %d회 나타났습니다.", emotion.getKoreanName(), currentValue);
-            }
-            return String.format("지난달과 이번달 모두 %s 감정이 나타나지 않았습니다.", emotion.getKoreanName());
-        }
-
-        if (changePercentage > CHANGE_THRESHOLD) {
-            return String.format("지난달보다 %s 감정이 %.1f%% 증가했습니다.", emotion.getKoreanName(), changePercentage);
-        } else if (changePercentage < -CHANGE_THRESHOLD) {
-            return String.format("지난달보다 %s 감정이 %.1f%% 감소했습니다.", emotion.getKoreanName(), Math.abs(changePercentage));
-        } else {
-            return String.format("지난달과 비슷한 수준의 %s 감정을 보였습니다.", emotion.getKoreanName());
-        }
-    }
-
-    private void addDefaultMonthlyChangeItems(List<StatsResponse.MonthlyChange> monthlyChange) {
-        for (EmotionType emotion : EmotionType.values()) {
-            monthlyChange.add(StatsResponse.MonthlyChange.builder()
-                    .month("감정별 변화")
-                    .emotion(emotion)
-                    .value(0)
-                    .previousValue(0)
-                    .changePercentage(0.0)
+        for (int i = 0; i < topKeywords.size(); i++) {
+            final StatsKeyword keyword = topKeywords.get(i);
+            keywordDataList.add(StatsResponse.KeywordData.builder()
+                    .keyword(keyword.getKeyword())
+                    .count(keyword.getCount())
+                    .rank(i + 1)
+                    .normalizedValue(maxCount > 0 ? (double) keyword.getCount() / maxCount : 0.0)
                     .build());
         }
-    }
-
-    private Double calculateChangePercentage(Integer previousValue, Integer currentValue) {
-        if (previousValue == 0) {
-            return currentValue > 0 ? 100.0 : 0.0;
-        }
-        return ((double) (currentValue - previousValue) / previousValue) * 100.0;
+        return keywordDataList;
     }
 
     private String unwrapIfQuoted(String jsonLike) {
@@ -1114,28 +740,27 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         return trimmed;
     }
 
+    // 이번 달만 보는 cleanupInvalidKeywords와 달리 stats_keyword에 쌓인 모든 달의 키워드를 사전 기준으로 다시 검사한다.
     public void forceCleanupInvalidKeywords(Long bifId) {
         log.info("=== BIF ID {}의 잘못된 키워드 데이터 강제 정리 시작 ===", bifId);
         
         try {
-            final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
-            
-            if (existingStats.isPresent()) {
-                final Stats stats = existingStats.get();
-                
-                if (stats.getTopKeywords() != null && stats.getTopKeywords().contains("일상")) {
-                    log.warn("잘못된 키워드 데이터 발견 - 강제로 초기화");
-                    stats.setTopKeywords("{}"); // 빈 맵으로 초기화
-                    statsRepository.save(stats);
-                    
-                    log.info("잘못된 키워드 데이터 정리 완료");
-                } else {
-                    log.info("정리할 잘못된 데이터가 없음");
+            final Map<LocalDateTime, List<String>> invalidKeywordsByMonth = new TreeMap<>();
+            for (StatsKeyword row : statsKeywordRepository.findByBifId(bifId)) {
+                if (!isValidKeyword(row.getKeyword())) {
+                    invalidKeywordsByMonth.computeIfAbsent(row.getYearMonth(), month -> new ArrayList<>()).add(row.getKeyword());
                 }
-            } else {
-                log.info("통계 데이터가 없음");
             }
+
+            if (invalidKeywordsByMonth.isEmpty()) {
+                log.info("정리할 잘못된 데이터가 없음");
+                return;
+            }
+
+            invalidKeywordsByMonth.forEach((yearMonth, keywords) ->
+                    keywordAccumulationService.removeKeywords(bifId, yearMonth, keywords));
+            log.info("잘못된 키워드 데이터 정리 완료 - 대상 월: {}건", invalidKeywordsByMonth.size());
+
         } catch (Exception e) {
             log.error("키워드 데이터 정리 중 오류 발생 - bifId: {}", bifId, e);
         }
@@ -1145,10 +770,10 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         log.info("=== BIF ID {}의 통계 데이터 강제 재생성 시작 ===", bifId);
         
         try {
-            log.info("캐시 무효화 코드 제거됨");
             
             final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
+            statsResponseCache.evict(bifId, currentYearMonth);
+            final Optional<Stats> existingStats = statsRepository.findByBifIdAndYearMonth(bifId, currentYearMonth);
             
             if (existingStats.isPresent()) {
                 final Stats stats = existingStats.get();
@@ -1156,13 +781,9 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
                 log.info("기존 통계 데이터 삭제 완료");
             }
             
-            final List<Diary> monthlyDiaries = diaryRepository.findByUserId(bifId);
-            if (!monthlyDiaries.isEmpty()) {
-                final Diary latestDiary = monthlyDiaries.stream()
-                        .max(Comparator.comparing(Diary::getCreatedAt))
-                        .orElse(monthlyDiaries.get(0));
-                
-                updateStatsWithKeywords(bifId, latestDiary.getContent());
+            final Optional<Diary> latestDiary = diaryRepository.findFirstByUser_BifIdAndIsDeletedFalseOrderByCreatedAtDesc(bifId);
+            if (latestDiary.isPresent()) {
+                updateStatsWithKeywords(bifId, latestDiary.get().getContent());
                 log.info("새로운 통계 데이터 생성 완료");
             } else {
                 log.info("월간 일기가 없음 - 기본 통계 생성");
@@ -1181,28 +802,20 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
         
         try {
             final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
-            
-            if (existingStats.isPresent()) {
-                final Stats stats = existingStats.get();
-                final Map<String, Integer> currentKeywords = parseTopKeywordsJson(stats.getTopKeywords()).stream()
-                        .collect(LinkedHashMap::new, 
-                                (map, item) -> map.put((String) item.get(KEYWORD_KEY), (Integer) item.get(COUNT_KEY)), 
-                                LinkedHashMap::putAll);
-                
-                final Map<String, Integer> cleanedKeywords = new HashMap<>();
-                for (Map.Entry<String, Integer> entry : currentKeywords.entrySet()) {
-                    if (isValidKeyword(entry.getKey())) {
-                        cleanedKeywords.put(entry.getKey(), entry.getValue());
-                    } else {
-                        log.info("잘못된 키워드 제거: {}", entry.getKey());
+            final Map<String, Integer> currentKeywords = keywordAccumulationService.getKeywordFrequency(bifId, currentYearMonth);
+            
+            if (!currentKeywords.isEmpty()) {
+                final List<String> invalidKeywords = new ArrayList<>();
+                for (String keyword : currentKeywords.keySet()) {
+                    if (!isValidKeyword(keyword)) {
+                        log.info("잘못된 키워드 제거: {}", keyword);
+                        invalidKeywords.add(keyword);
                     }
                 }
                 
-                stats.setTopKeywords(objectMapper.writeValueAsString(cleanedKeywords));
-                statsRepository.save(stats);
+                keywordAccumulationService.removeKeywords(bifId, currentYearMonth, invalidKeywords);
                 
-                log.info("키워드 정리 완료 - 정리 전: {}, 정리 후: {}", currentKeywords.size(), cleanedKeywords.size());
+                log.info("키워드 정리 완료 - 정리 전: {}, 정리 후: {}", currentKeywords.size(), currentKeywords.size() - invalidKeywords.size());
             } else {
                 log.info("통계 데이터가 없음");
             }
@@ -1214,43 +827,11 @@ public class StatsServiceImpl implements StatsService, ApplicationContextAware {
     
     @Override
     public void resetKeywords(Long bifId) {
-        try {
-            log.info("BIF ID {}의 키워드 데이터 초기화 시작", bifId);
-            
-            final LocalDateTime currentYearMonth = getCurrentYearMonth();
-            final Optional<Stats> existingStats = statsRepository.findFirstByBifIdAndYearMonthOrderByCreatedAtDesc(bifId, currentYearMonth);
-            
-            if (existingStats.isPresent()) {
-                final Stats stats = existingStats.get();
-                stats.setTopKeywords("{}");
-                statsRepository.save(stats);
-                log.info("BIF ID {}의 키워드 데이터 초기화 완료", bifId);
-            } else {
-                log.info("BIF ID {}의 키워드 데이터가 없음", bifId);
-            }
-            
-        } catch (Exception e) {
-            log.error("키워드 데이터 초기화 중 오류 발생 - bifId: {}", bifId, e);
-        }
+        keywordAccumulationService.resetKeywords(bifId);
     }
     
     private boolean isValidKeyword(String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return false;
-        }
-        
-        String[] invalidPatterns = {
-            "사용불가", "서울역", "우울감", "협회", "회의실", "일상", "일반", "보통", "평범",
-            "그냥", "그저", "그런", "이런", "저런", "어떤", "무엇", "언제", "어디", "왜", "어떻게"
-        };
-        
-        for (String pattern : invalidPatterns) {
-            if (keyword.contains(pattern)) {
-                return false;
-            }
-        }
-        
-        return true;
+        return keywordDictionary.isValidKeyword(keyword);
     }
 
     private MonthlyDiaryData loadMonthlyDiaryData(Long bifId, LocalDateTime yearMonth) {
@@ -0,0 +1,115 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.stats.entity.StatsTextCache;
+import com.sage.bif.stats.repository.StatsTextCacheRepository;
+import com.sage.bif.stats.util.EmotionDistributionBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+// 감정 분포 버킷과 프롬프트 버전별로 AI 통계 문구를 저장해 같은 분포의 사용자끼리 재사용한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatsTextCacheService {
+
+    private final StatsTextCacheRepository statsTextCacheRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${stats.text-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stats.text-cache.ttl-days:30}")
+    private long ttlDays;
+
+    @Value("${stats.text-cache.max-entries:5000}")
+    private long maxEntries;
+
+    public CompletableFuture<String> getOrGenerate(final StatsTextCache.Kind kind, final EmotionDistributionBucket bucket,
+                                                   final String promptVersion, final Supplier<CompletableFuture<String>> generator) {
+        if (!enabled) {
+            return generator.get();
+        }
+
+        final Optional<StatsTextCache> cached = find(kind, bucket, promptVersion);
+        if (cached.isPresent()) {
+            meterRegistry.counter("stats.text.cache", "kind", kind.name(), "result", "hit").increment();
+            touch(cached.get());
+            return CompletableFuture.completedFuture(cached.get().getContent());
+        }
+
+        meterRegistry.counter("stats.text.cache", "kind", kind.name(), "result", "miss").increment();
+        return generator.get().thenApply(text -> {
+            store(kind, bucket, promptVersion, text);
+            return text;
+        });
+    }
+
+    public boolean isCached(final StatsTextCache.Kind kind, final EmotionDistributionBucket bucket, final String promptVersion) {
+        return statsTextCacheRepository.existsByKindAndBucketKeyAndPromptVersionAndCreatedAtAfter(
+                kind, bucket.getKey(), promptVersion, expiryThreshold());
+    }
+
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void evict() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            final int expired = statsTextCacheRepository.deleteCreatedBefore(expiryThreshold());
+            final long excess = statsTextCacheRepository.count() - maxEntries;
+            final int evicted = excess > 0 ? statsTextCacheRepository.deleteLeastRecentlyUsed(excess) : 0;
+            log.info("통계 문구 캐시 정리 완료 - 만료: {}건, 용량 초과 제거: {}건", expired, evicted);
+
+        } catch (Exception e) {
+            log.error("통계 문구 캐시 정리 중 오류 발생", e);
+        }
+    }
+
+    private Optional<StatsTextCache> find(final StatsTextCache.Kind kind, final EmotionDistributionBucket bucket,
+                                          final String promptVersion) {
+        try {
+            final LocalDateTime threshold = expiryThreshold();
+            return statsTextCacheRepository.findByKindAndBucketKeyAndPromptVersion(kind, bucket.getKey(), promptVersion)
+                    .filter(cached -> cached.getCreatedAt().isAfter(threshold));
+        } catch (Exception e) {
+            log.warn("통계 문구 캐시 조회 실패 - kind: {}, bucket: {}", kind, bucket.getKey(), e);
+            return Optional.empty();
+        }
+    }
+
+    private void touch(final StatsTextCache cached) {
+        try {
+            statsTextCacheRepository.touch(cached.getId());
+        } catch (Exception e) {
+            log.warn("통계 문구 캐시 사용 기록 실패 - id: {}", cached.getId(), e);
+        }
+    }
+
+    private void store(final StatsTextCache.Kind kind, final EmotionDistributionBucket bucket,
+                       final String promptVersion, final String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        try {
+            statsTextCacheRepository.upsert(kind.name(), bucket.getKey(), promptVersion, text);
+        } catch (Exception e) {
+            log.warn("통계 문구 캐시 저장 실패 - kind: {}, bucket: {}", kind, bucket.getKey(), e);
+        }
+    }
+
+    private LocalDateTime expiryThreshold() {
+        return LocalDateTime.now().minusDays(ttlDays);
+    }
+
+}
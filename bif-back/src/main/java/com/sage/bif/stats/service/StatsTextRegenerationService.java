@@ -0,0 +1,142 @@
+package com.sage.bif.stats.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sage.bif.notification.dto.NotificationMessage;
+import com.sage.bif.notification.service.SseNotificationService;
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.Stats;
+import com.sage.bif.stats.event.model.StatsUpdatedEvent;
+import com.sage.bif.stats.repository.StatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+public class StatsTextRegenerationService {
+
+    private static final String STATS_UPDATED_TYPE = "stats-updated";
+
+    private final StatsRepository statsRepository;
+    private final StatsWriter statsWriter;
+    private final EmotionCounterService emotionCounterService;
+    private final AiEmotionAnalysisService aiEmotionAnalysisService;
+    private final SseNotificationService sseNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<StatsService> statsServiceProvider;
+    private final ObjectMapper objectMapper;
+    private final Executor statsTextTaskExecutor;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public StatsTextRegenerationService(StatsRepository statsRepository,
+                                        StatsWriter statsWriter,
+                                        EmotionCounterService emotionCounterService,
+                                        AiEmotionAnalysisService aiEmotionAnalysisService,
+                                        SseNotificationService sseNotificationService,
+                                        ApplicationEventPublisher eventPublisher,
+                                        ObjectProvider<StatsService> statsServiceProvider,
+                                        ObjectMapper objectMapper,
+                                        @Qualifier("statsTextTaskExecutor") Executor statsTextTaskExecutor) {
+        this.statsRepository = statsRepository;
+        this.statsWriter = statsWriter;
+        this.emotionCounterService = emotionCounterService;
+        this.aiEmotionAnalysisService = aiEmotionAnalysisService;
+        this.sseNotificationService = sseNotificationService;
+        this.eventPublisher = eventPublisher;
+        this.statsServiceProvider = statsServiceProvider;
+        this.objectMapper = objectMapper;
+        this.statsTextTaskExecutor = statsTextTaskExecutor;
+    }
+
+    public void requestRegeneration(final Long bifId, final LocalDateTime yearMonth) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(bifId, yearMonth);
+                }
+            });
+            return;
+        }
+        enqueue(bifId, yearMonth);
+    }
+
+    private void enqueue(final Long bifId, final LocalDateTime yearMonth) {
+        final String key = bifId + ":" + yearMonth;
+        if (!inFlight.add(key)) {
+            log.debug("BIF ID {}의 통계 텍스트 재생성이 이미 대기 중입니다.", bifId);
+            return;
+        }
+
+        try {
+            statsTextTaskExecutor.execute(() -> {
+                try {
+                    regenerate(bifId, yearMonth);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.warn("통계 텍스트 재생성 작업이 거부되었습니다 - 다음 조회 시 재시도합니다. bifId: {}", bifId);
+        }
+    }
+
+    public void regenerate(final Long bifId, final LocalDateTime yearMonth) {
+        try {
+            log.info("BIF ID {}의 {}년 {}월 통계 텍스트 재생성 시작", bifId, yearMonth.getYear(), yearMonth.getMonthValue());
+
+            final Optional<Stats> existingStats = statsRepository.findByBifIdAndYearMonth(bifId, yearMonth);
+            if (existingStats.isEmpty()) {
+                statsServiceProvider.getObject().generateMonthlyStats(bifId, yearMonth);
+                statsRepository.findByBifIdAndYearMonth(bifId, yearMonth)
+                        .ifPresent(created -> notifyUpdated(created, bifId));
+                return;
+            }
+
+            final Stats stats = existingStats.get();
+            final Map<EmotionType, Integer> emotionCounts = emotionCounterService.getCounts(bifId, yearMonth);
+            final AiEmotionAnalysisService.StatsTexts texts = aiEmotionAnalysisService.generateStatsTextsAsync(emotionCounts).join();
+            final LocalDateTime generatedAt = statsWriter.updateGeneratedTexts(stats.getId(), texts,
+                    objectMapper.writeValueAsString(emotionCounts));
+
+            stats.setEmotionStatisticsText(texts.getStatisticsText());
+            stats.setGuardianAdviceText(texts.getAdviceText());
+            stats.setTextGeneratedAt(generatedAt);
+            if (!texts.isAiGenerated()) {
+                log.warn("BIF ID {}의 통계 텍스트를 기본 문구로 대체했습니다 - 다음 조회 시 다시 생성합니다.", bifId);
+            }
+            notifyUpdated(stats, bifId);
+
+            log.info("BIF ID {}의 통계 텍스트 재생성 완료", bifId);
+
+        } catch (Exception e) {
+            log.error("통계 텍스트 재생성 중 오류 발생 - bifId: {}", bifId, e);
+        }
+    }
+
+    private void notifyUpdated(final Stats stats, final Long bifId) {
+        eventPublisher.publishEvent(new StatsUpdatedEvent(this, stats, bifId, "TEXT_REGENERATED", "감정 통계 텍스트 재생성"));
+
+        sseNotificationService.send(bifId, NotificationMessage.builder()
+                .title("감정 통계 업데이트")
+                .body("이번 달 감정 통계가 새로 정리되었어요.")
+                .type(STATS_UPDATED_TYPE)
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.stats.util.ContentHasher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// bifId별 파티션(단일 스레드)에서 통계 갱신을 순서대로 처리한다.
+// 같은 bifId의 이벤트는 coalesce-window 동안 모아 한 번의 갱신으로 합친다.
+// 같은 일기의 연속 수정은 최초 수정 전 내용과 마지막 내용의 차이만 반영한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatsUpdateWorker {
+
+    private final StatsService statsService;
+    private final MeterRegistry meterRegistry;
+    private final ContentHasher contentHasher;
+
+    private final Map<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+
+    @Value("${stats.update-worker.partitions:4}")
+    private int partitionCount;
+
+    @Value("${stats.update-worker.coalesce-window-ms:500}")
+    private long coalesceWindowMillis;
+
+    private ScheduledExecutorService[] partitions;
+    private Counter eventCounter;
+    private Counter runCounter;
+    private DistributionSummary batchSize;
+    private Timer lagTimer;
+
+    @PostConstruct
+    void start() {
+        partitions = new ScheduledExecutorService[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("StatsUpdate-" + i + "-"));
+        }
+
+        meterRegistry.gauge("stats.update.worker.pending", pending, Map::size);
+        eventCounter = meterRegistry.counter("stats.update.worker.events");
+        runCounter = meterRegistry.counter("stats.update.worker.runs");
+        batchSize = meterRegistry.summary("stats.update.worker.batch.size");
+        lagTimer = meterRegistry.timer("stats.update.worker.lag");
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        for (ScheduledExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+        for (ScheduledExecutorService partition : partitions) {
+            if (!partition.awaitTermination(30, TimeUnit.SECONDS)) {
+                partition.shutdownNow();
+            }
+        }
+    }
+
+    public void diaryCreated(final Long bifId, final String content) {
+        enqueue(bifId, update -> update.createdContents.add(content));
+    }
+
+    public void diaryUpdated(final Long bifId, final Long diaryId, final LocalDateTime diaryCreatedAt,
+                             final String previousContentHash, final String content) {
+        enqueue(bifId, update -> update.edits.merge(diaryId,
+                new DiaryEdit(diaryCreatedAt, previousContentHash, content),
+                (earlier, later) -> new DiaryEdit(later.diaryCreatedAt, earlier.previousContentHash, later.content)));
+    }
+
+    // 삭제는 내용이 비어 있는 수정으로 다룬다. 같은 창에서 수정 후 삭제되면 최초 내용의 키워드가 빠진다.
+    public void diaryDeleted(final Long bifId, final Long diaryId, final LocalDateTime diaryCreatedAt,
+                             final String previousContentHash) {
+        if (diaryId == null || previousContentHash == null) {
+            enqueue(bifId, update -> { });
+            return;
+        }
+        diaryUpdated(bifId, diaryId, diaryCreatedAt, previousContentHash, null);
+    }
+
+    private void enqueue(final Long bifId, final Consumer<PendingUpdate> change) {
+        eventCounter.increment();
+        pending.compute(bifId, (key, update) -> {
+            if (update == null) {
+                update = new PendingUpdate(System.nanoTime());
+                partitionOf(bifId).schedule(() -> drain(bifId), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+            }
+            update.events++;
+            change.accept(update);
+            return update;
+        });
+    }
+
+    private void drain(final Long bifId) {
+        final PendingUpdate update = pending.remove(bifId);
+        if (update == null) {
+            return;
+        }
+
+        lagTimer.record(System.nanoTime() - update.enqueuedAtNanos, TimeUnit.NANOSECONDS);
+        runCounter.increment();
+        batchSize.record(update.events);
+
+        try {
+            for (String content : update.createdContents) {
+                statsService.applyDiaryContent(bifId, content);
+            }
+
+            for (DiaryEdit edit : update.edits.values()) {
+                if (edit.content() == null) {
+                    statsService.applyDiaryDeletion(bifId, edit.diaryCreatedAt(), edit.previousContentHash());
+                    continue;
+                }
+                if (contentHasher.hash(edit.content()).equals(edit.previousContentHash())) {
+                    continue;
+                }
+                statsService.applyDiaryEdit(bifId, edit.diaryCreatedAt(), edit.previousContentHash(), edit.content());
+            }
+
+            statsService.updateRealTimeStats(bifId);
+            log.debug("BIF ID {}의 통계 갱신 처리 완료 - 병합된 이벤트: {}건", bifId, update.events);
+
+        } catch (Exception e) {
+            log.error("통계 갱신 작업 처리 중 오류 발생 - bifId: {}, 이벤트: {}건", bifId, update.events, e);
+        }
+    }
+
+    private ScheduledExecutorService partitionOf(final Long bifId) {
+        return partitions[Math.floorMod(bifId.hashCode(), partitions.length)];
+    }
+
+    private record DiaryEdit(LocalDateTime diaryCreatedAt, String previousContentHash, String content) {}
+
+    private static class PendingUpdate {
+        private final long enqueuedAtNanos;
+        private final List<String> createdContents = new ArrayList<>();
+        private final Map<Long, DiaryEdit> edits = new LinkedHashMap<>();
+        private int events;
+
+        private PendingUpdate(final long enqueuedAtNanos) {
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.stats.repository.StatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// emotion_statistics는 (bif_id, stats_year_month)당 한 행만 존재한다. 모든 쓰기는 이 클래스를 거쳐 upsert로 합쳐진다.
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StatsWriter {
+
+    private final StatsRepository statsRepository;
+
+    // 기본 문구는 생성 시각과 카운트를 비워 저장한다. 다음 조회에서 카운트가 바뀐 것으로 보고 다시 생성을 요청한다.
+    public void upsertGeneratedTexts(final Long bifId, final LocalDateTime yearMonth, final AiEmotionAnalysisService.StatsTexts texts,
+                                     final String emotionCounts, final Double aiEmotionScore) {
+        statsRepository.upsertGeneratedTexts(bifId, yearMonth, texts.getStatisticsText(), texts.getAdviceText(),
+                texts.isAiGenerated() ? emotionCounts : null, aiEmotionScore,
+                texts.isAiGenerated() ? LocalDateTime.now() : null);
+    }
+
+    public LocalDateTime updateGeneratedTexts(final Long statsId, final AiEmotionAnalysisService.StatsTexts texts,
+                                              final String emotionCounts) {
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime generatedAt = texts.isAiGenerated() ? now : null;
+        statsRepository.updateGeneratedTexts(statsId, texts.getStatisticsText(), texts.getAdviceText(),
+                texts.isAiGenerated() ? emotionCounts : null, generatedAt, now);
+        return generatedAt;
+    }
+
+    // 일기가 없는 달의 자리 표시용 행이다. 문구는 기본 문구이므로 생성 시각을 남기지 않는다.
+    public boolean insertIfAbsent(final Long bifId, final LocalDateTime yearMonth, final String statisticsText,
+                                  final String adviceText, final String emotionCounts, final Double aiEmotionScore) {
+        return statsRepository.insertIfAbsent(bifId, yearMonth, statisticsText, adviceText, emotionCounts,
+                aiEmotionScore, null) > 0;
+    }
+
+    public void updateAiEmotionScore(final Long bifId, final LocalDateTime yearMonth, final Double aiEmotionScore) {
+        statsRepository.updateAiEmotionScore(bifId, yearMonth, aiEmotionScore);
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.sage.bif.stats.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class AhoCorasickMatcher {
+
+    private final char[][] transitionKeys;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    private final int[][] outputs;
+
+    public AhoCorasickMatcher(final List<String> patterns) {
+        final List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        final List<List<Integer>> matches = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        matches.add(new ArrayList<>());
+
+        for (int i = 0; i < patterns.size(); i++) {
+            final String pattern = patterns.get(i);
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+
+            int node = 0;
+            for (int j = 0; j < pattern.length(); j++) {
+                final Integer next = transitions.get(node).get(pattern.charAt(j));
+                if (next != null) {
+                    node = next;
+                    continue;
+                }
+                transitions.add(new TreeMap<>());
+                matches.add(new ArrayList<>());
+                transitions.get(node).put(pattern.charAt(j), transitions.size() - 1);
+                node = transitions.size() - 1;
+            }
+            matches.get(node).add(i);
+        }
+
+        final int size = transitions.size();
+        this.failure = new int[size];
+        final Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (final Map.Entry<Character, Integer> entry : transitions.get(node).entrySet()) {
+                final int child = entry.getValue();
+                int fallback = failure[node];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(entry.getKey())) {
+                    fallback = failure[fallback];
+                }
+                final Integer target = transitions.get(fallback).get(entry.getKey());
+                failure[child] = node != 0 && target != null ? target : 0;
+                matches.get(child).addAll(matches.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        this.transitionKeys = new char[size][];
+        this.transitionTargets = new int[size][];
+        this.outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            final TreeMap<Character, Integer> edges = transitions.get(node);
+            transitionKeys[node] = new char[edges.size()];
+            transitionTargets[node] = new int[edges.size()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> entry : edges.entrySet()) {
+                transitionKeys[node][index] = entry.getKey();
+                transitionTargets[node][index] = entry.getValue();
+                index++;
+            }
+            outputs[node] = matches.get(node).stream().mapToInt(Integer::intValue).distinct().toArray();
+        }
+    }
+
+    public BitSet match(final CharSequence text) {
+        final BitSet found = new BitSet();
+        if (text == null) {
+            return found;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            int next = next(state, c);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = next(state, c);
+            }
+            state = next < 0 ? 0 : next;
+            for (final int pattern : outputs[state]) {
+                found.set(pattern);
+            }
+        }
+        return found;
+    }
+
+    private int next(final int state, final char c) {
+        final int index = Arrays.binarySearch(transitionKeys[state], c);
+        return index < 0 ? -1 : transitionTargets[state][index];
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.sage.bif.stats.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+// 일기 본문 식별용 해시. 서버 비밀키 HMAC을 써서 저장된 해시만으로 본문을 대입 추측할 수 없게 한다.
+@Component
+public class ContentHasher {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SecretKeySpec key;
+
+    public ContentHasher(@Value("${stats.analysis-cache.hash-secret}") final String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("stats.analysis-cache.hash-secret 설정이 필요합니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public static String normalize(final String content) {
+        if (content == null) {
+            return "";
+        }
+        final String composed = Normalizer.normalize(content, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed.strip()).replaceAll(" ");
+    }
+
+    public String hash(final String content) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return HexFormat.of().formatHex(mac.doFinal(normalize(content).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.sage.bif.stats.util;
+
+import com.sage.bif.stats.dto.StatsResponse;
+import com.sage.bif.stats.entity.EmotionType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class EmotionComparisonCalculator {
+
+    private static final double CHANGE_THRESHOLD = 20.0;
+
+    private EmotionComparisonCalculator() {
+    }
+
+    public static List<StatsResponse.EmotionRatio> calculateEmotionRatio(final Map<EmotionType, Integer> emotionCounts) {
+        final int totalCount = emotionCounts.values().stream().mapToInt(Integer::intValue).sum();
+
+        if (totalCount == 0) {
+            return Collections.emptyList();
+        }
+
+        final List<StatsResponse.EmotionRatio> emotionRatios = new ArrayList<>();
+
+        for (final Map.Entry<EmotionType, Integer> entry : emotionCounts.entrySet()) {
+            final EmotionType emotionType = entry.getKey();
+            final Integer count = entry.getValue();
+            final double percentage = (double) count / totalCount * 100;
+
+            final StatsResponse.EmotionRatio ratio = StatsResponse.EmotionRatio.builder()
+                    .emotion(emotionType)
+                    .value(count)
+                    .emoji(emotionType.getEmoji())
+                    .percentage(Math.round(percentage * 10.0) / 10.0)
+                    .build();
+
+            emotionRatios.add(ratio);
+        }
+
+        emotionRatios.sort((a, b) -> {
+            final int orderA = getEmotionOrder(a.getEmotion());
+            final int orderB = getEmotionOrder(b.getEmotion());
+            return Integer.compare(orderA, orderB);
+        });
+
+        return emotionRatios;
+    }
+
+    private static int getEmotionOrder(EmotionType emotionType) {
+        return switch (emotionType) {
+            case GREAT -> 1;
+            case GOOD -> 2;
+            case OKAY -> 3;
+            case DOWN -> 4;
+            case ANGRY -> 5;
+        };
+    }
+
+    public static List<StatsResponse.MonthlyChange> calculateMonthlyChange(final Map<EmotionType, Integer> currentCounts,
+                                                                         final Map<EmotionType, Integer> lastCounts) {
+        final List<StatsResponse.MonthlyChange> monthlyChange = new ArrayList<>();
+
+        try {
+            for (EmotionType emotion : EmotionType.values()) {
+                final Integer currentValue = currentCounts.getOrDefault(emotion, 0);
+                final Integer previousValue = lastCounts.getOrDefault(emotion, 0);
+
+                monthlyChange.add(buildMonthlyComparisonItem(emotion, currentValue, previousValue));
+            }
+
+            monthlyChange.sort((a, b) -> {
+                final int orderA = getEmotionOrder(a.getEmotion());
+                final int orderB = getEmotionOrder(b.getEmotion());
+                return Integer.compare(orderA, orderB);
+            });
+
+        } catch (Exception e) {
+            log.error("월별 감정 비교 데이터 생성 중 오류 발생", e);
+            addDefaultMonthlyChangeItems(monthlyChange);
+        }
+
+        return monthlyChange;
+    }
+
+    private static StatsResponse.MonthlyChange buildMonthlyComparisonItem(EmotionType emotion, Integer currentValue, Integer previousValue) {
+        final Double changePercentage = calculateChangePercentage(previousValue, currentValue);
+        final String changeStatus = determineChangeStatus(currentValue, previousValue);
+        final String changeDescription = generateChangeDescription(emotion, currentValue, previousValue, changePercentage);
+
+        return StatsResponse.MonthlyChange.builder()
+                .month("감정별 변화")
+                .emotion(emotion)
+                .value(currentValue)
+                .previousValue(previousValue)
+                .changePercentage(changePercentage)
+                .changeStatus(changeStatus)
+                .changeDescription(changeDescription)
+                .build();
+    }
+
+    private static String determineChangeStatus(Integer currentValue, Integer previousValue) {
+        if (previousValue == 0) {
+            return currentValue > 0 ? "NEW" : "SAME";
+        }
+
+        final double change = ((double) (currentValue - previousValue) / previousValue) * 100.0;
+
+        if (change > CHANGE_THRESHOLD) {
+            return "INCREASE";
+        } else if (change < -CHANGE_THRESHOLD) {
+            return "DECREASE";
+        } else {
+            return "STABLE";
+        }
+    }
+
+    private static String generateChangeDescription(EmotionType emotion, Integer currentValue, Integer previousValue, Double changePercentage) {
+        if (previousValue == 0) {
+            if (currentValue > 0) {
+                return String.format("지난달에는 없었던 %s 감정이 이번달에 %d회 나타났습니다.", emotion.getKoreanName(), currentValue);
+            }
+            return String.format("지난달과 이번달 모두 %s 감정이 나타나지 않았습니다.", emotion.getKoreanName());
+        }
+
+        if (changePercentage > CHANGE_THRESHOLD) {
+            return String.format("지난달보다 %s 감정이 %.1f%% 증가했습니다.", emotion.getKoreanName(), changePercentage);
+        } else if (changePercentage < -CHANGE_THRESHOLD) {
+            return String.format("지난달보다 %s 감정이 %.1f%% 감소했습니다.", emotion.getKoreanName(), Math.abs(changePercentage));
+        } else {
+            return String.format("지난달과 비슷한 수준의 %s 감정을 보였습니다.", emotion.getKoreanName());
+        }
+    }
+
+    private static void addDefaultMonthlyChangeItems(List<StatsResponse.MonthlyChange> monthlyChange) {
+        for (EmotionType emotion : EmotionType.values()) {
+            monthlyChange.add(StatsResponse.MonthlyChange.builder()
+                    .month("감정별 변화")
+                    .emotion(emotion)
+                    .value(0)
+                    .previousValue(0)
+                    .changePercentage(0.0)
+                    .build());
+        }
+    }
+
+    private static Double calculateChangePercentage(Integer previousValue, Integer currentValue) {
+        if (previousValue == 0) {
+            return currentValue > 0 ? 100.0 : 0.0;
+        }
+        return ((double) (currentValue - previousValue) / previousValue) * 100.0;
+    }
+
+}
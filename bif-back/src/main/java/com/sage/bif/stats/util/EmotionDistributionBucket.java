@@ -0,0 +1,73 @@
+package com.sage.bif.stats.util;
+
+import com.sage.bif.stats.entity.EmotionType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 감정 개수 분포를 10% 단위 비율로 정규화한다. 같은 버킷의 사용자는 같은 통계 문구를 공유한다.
+@Getter
+@EqualsAndHashCode(of = "key")
+public final class EmotionDistributionBucket {
+
+    public static final int UNITS = 10;
+    private static final String EMPTY_KEY = "EMPTY";
+
+    private final String key;
+    private final Map<EmotionType, Integer> shares;
+
+    private EmotionDistributionBucket(final String key, final Map<EmotionType, Integer> shares) {
+        this.key = key;
+        this.shares = Collections.unmodifiableMap(shares);
+    }
+
+    public static EmotionDistributionBucket of(final Map<EmotionType, Integer> emotionCounts) {
+        final EmotionType[] emotions = EmotionType.values();
+        final int total = Arrays.stream(emotions)
+                .mapToInt(emotion -> Math.max(emotionCounts.getOrDefault(emotion, 0), 0))
+                .sum();
+
+        final Map<EmotionType, Integer> shares = new EnumMap<>(EmotionType.class);
+        if (total == 0) {
+            Arrays.stream(emotions).forEach(emotion -> shares.put(emotion, 0));
+            return new EmotionDistributionBucket(EMPTY_KEY, shares);
+        }
+
+        // 최대 잉여 방식으로 나눠 비율 합이 항상 UNITS가 되도록 맞춘다.
+        final Map<EmotionType, Integer> remainders = new EnumMap<>(EmotionType.class);
+        int assigned = 0;
+        for (EmotionType emotion : emotions) {
+            final int scaled = Math.max(emotionCounts.getOrDefault(emotion, 0), 0) * UNITS;
+            shares.put(emotion, scaled / total);
+            remainders.put(emotion, scaled % total);
+            assigned += scaled / total;
+        }
+
+        final EmotionType[] byRemainder = Arrays.stream(emotions)
+                .sorted(Comparator.comparing((EmotionType emotion) -> remainders.get(emotion)).reversed())
+                .toArray(EmotionType[]::new);
+        for (int i = 0; i < UNITS - assigned; i++) {
+            shares.merge(byRemainder[i], 1, Integer::sum);
+        }
+
+        final String key = Arrays.stream(emotions)
+                .map(emotion -> emotion.name() + shares.get(emotion))
+                .collect(Collectors.joining("-"));
+        return new EmotionDistributionBucket(key, shares);
+    }
+
+    public boolean isEmpty() {
+        return EMPTY_KEY.equals(key);
+    }
+
+    public int getPercentage(final EmotionType emotion) {
+        return shares.getOrDefault(emotion, 0) * (100 / UNITS);
+    }
+
+}
@@ -22,6 +22,26 @@ public class EmotionMapper {
         DIARY_TO_STATS_MAP.put(Emotion.ANGER, EmotionType.ANGRY);
     }
 
+    // emotion_counts JSON 키는 통계 감정명(GOOD)으로 저장되지만, 이전 데이터에는 일기 감정명(JOY)이 섞여 있다
+    public static EmotionType mapStoredEmotionKey(final String key) {
+        if (key == null) {
+            return null;
+        }
+
+        final String normalized = key.trim().toUpperCase();
+        for (EmotionType emotionType : EmotionType.values()) {
+            if (emotionType.name().equals(normalized)) {
+                return emotionType;
+            }
+        }
+        for (Emotion emotion : Emotion.values()) {
+            if (emotion.name().equals(normalized)) {
+                return DIARY_TO_STATS_MAP.get(emotion);
+            }
+        }
+        return null;
+    }
+
     public static EmotionType mapDiaryEmotionToStats(final Emotion diaryEmotion) {
         final EmotionType statsEmotion = DIARY_TO_STATS_MAP.get(diaryEmotion);
         if (statsEmotion == null) {
@@ -0,0 +1,79 @@
+package com.sage.bif.stats.util;
+
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import com.sage.bif.stats.dto.StatsResponse;
+import com.sage.bif.stats.entity.EmotionType;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class EmotionTrendBucketer {
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private EmotionTrendBucketer() {
+    }
+
+    public static List<StatsResponse.EmotionTrend> bucketMonth(final List<DiaryEmotionView> entries, final LocalDate yearMonth) {
+        final LocalDate firstDay = yearMonth.withDayOfMonth(1);
+        return bucket(entries, firstDay, firstDay.withDayOfMonth(firstDay.lengthOfMonth()));
+    }
+
+    public static List<StatsResponse.EmotionTrend> bucket(final List<DiaryEmotionView> entries,
+                                                          final LocalDate from, final LocalDate to) {
+        if (entries.isEmpty() || to.isBefore(from)) {
+            return Collections.emptyList();
+        }
+
+        final int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        final long fromEpochDay = from.toEpochDay();
+        final int[] scoreSums = new int[days];
+        final int[] counts = new int[days];
+
+        for (final DiaryEmotionView entry : entries) {
+            final int index = (int) (entry.getCreatedAt().toLocalDate().toEpochDay() - fromEpochDay);
+            if (index < 0 || index >= days) {
+                continue;
+            }
+            scoreSums[index] += EmotionMapper.mapDiaryEmotionToStats(entry.getEmotion()).getScore();
+            counts[index]++;
+        }
+
+        final List<StatsResponse.EmotionTrend> trends = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+
+            final double averageScore = (double) scoreSums[i] / counts[i];
+            trends.add(StatsResponse.EmotionTrend.builder()
+                    .date(from.plusDays(i).format(DAY_FORMATTER))
+                    .dominantEmotion(EmotionType.fromScore(averageScore))
+                    .averageScore(averageScore)
+                    .trend(determineTrend(averageScore))
+                    .description(generateTrendDescription(averageScore))
+                    .build());
+        }
+
+        return trends;
+    }
+
+    private static String determineTrend(final double averageScore) {
+        if (averageScore >= 1.0) return "상승";
+        if (averageScore >= 0.0) return "안정";
+        return "하락";
+    }
+
+    private static String generateTrendDescription(final double averageScore) {
+        if (averageScore >= 1.5) return "매우 긍정적인 하루";
+        if (averageScore >= 0.5) return "긍정적인 하루";
+        if (averageScore >= -0.5) return "평온한 하루";
+        if (averageScore >= -1.5) return "조금 힘든 하루";
+        return "힘든 하루";
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.sage.bif.user.event.model;
+
+import com.sage.bif.common.event.model.BaseEvent;
+import lombok.Getter;
+
+@Getter
+public class GuardianConnectedEvent extends BaseEvent {
+
+    private final Long bifId;
+    private final Long guardianId;
+
+    public GuardianConnectedEvent(Object source, Long bifId, Long guardianId) {
+        super(source);
+        this.bifId = bifId;
+        this.guardianId = guardianId;
+    }
+
+    @Override
+    public String getEventType() {
+        return "GUARDIAN_CONNECTED";
+    }
+
+}
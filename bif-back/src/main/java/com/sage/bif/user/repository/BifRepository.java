@@ -1,9 +1,13 @@
 package com.sage.bif.user.repository;
 
 import com.sage.bif.user.entity.Bif;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,7 @@ public interface BifRepository extends JpaRepository<Bif, Long> {
     Optional<Bif> findByConnectionCode(String connectionCode);
     Optional<Bif> findBySocialLogin_SocialId(Long socialId);
 
+    @Query("SELECT b.bifId FROM Bif b WHERE b.bifId > :afterBifId ORDER BY b.bifId")
+    List<Long> findIdsAfter(@Param("afterBifId") Long afterBifId, Pageable pageable);
+
 }
@@ -2,6 +2,7 @@ package com.sage.bif.user.repository;
 
 import com.sage.bif.user.entity.Bif;
 import com.sage.bif.user.entity.Guardian;
+import com.sage.bif.user.repository.projection.GuardianBifView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +23,10 @@ public interface GuardianRepository extends JpaRepository<Guardian, Long> {
     @Query("SELECT g.bif.bifId FROM Guardian g WHERE g.socialLogin.socialId = :socialId")
     Optional<Long> findBifIdBySocialId(@Param("socialId") Long socialId);
 
+    @Query("SELECT b.bifId AS bifId, b.nickname AS bifNickname, g.createdAt AS guardianCreatedAt " +
+            "FROM Guardian g JOIN g.bif b WHERE g.socialLogin.socialId = :socialId")
+    Optional<GuardianBifView> findBifViewBySocialId(@Param("socialId") Long socialId);
+
     boolean existsByBif(Bif bif);
 
 }
@@ -0,0 +1,13 @@
+package com.sage.bif.user.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface GuardianBifView {
+
+    Long getBifId();
+
+    String getBifNickname();
+
+    LocalDateTime getGuardianCreatedAt();
+
+}
@@ -7,6 +7,7 @@ import com.sage.bif.common.util.RandomGenerator;
 import com.sage.bif.user.entity.Bif;
 import com.sage.bif.user.entity.Guardian;
 import com.sage.bif.user.entity.SocialLogin;
+import com.sage.bif.user.event.model.GuardianConnectedEvent;
 import com.sage.bif.user.event.model.UserWithdrawalEvent;
 import com.sage.bif.user.repository.BifRepository;
 import com.sage.bif.user.repository.GuardianRepository;
@@ -50,7 +51,9 @@ public class GuardianServiceImpl implements GuardianService {
                 .nickname(nickname)
                 .build();
 
-        return guardianRepository.save(guardian);
+        final Guardian savedGuardian = guardianRepository.save(guardian);
+        eventPublisher.publishEvent(new GuardianConnectedEvent(this, bif.getBifId(), savedGuardian.getGuardianId()));
+        return savedGuardian;
     }
 
     @Override
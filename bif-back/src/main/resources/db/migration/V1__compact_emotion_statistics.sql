@@ -0,0 +1,60 @@
+-- emotion_statistics에 (bif_id, stats_year_month)당 여러 행이 쌓인 기존 DB를 한 번 정리하고 고유 키를 추가한다.
+-- 테이블이 아직 없는 새 DB(Hibernate가 고유 키와 함께 생성)나 이미 고유 키가 있는 DB에서는 아무것도 하지 않는다.
+SET @run_compaction = (SELECT COUNT(*) FROM information_schema.tables
+                       WHERE table_schema = DATABASE() AND table_name = 'emotion_statistics') > 0
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+         WHERE table_schema = DATABASE() AND table_name = 'emotion_statistics'
+           AND index_name = 'uk_stats_bif_year_month') = 0;
+
+-- 월마다 가장 최근 행(updated_at, statistics_id 순)이 rn = 1이다.
+SET @sql = IF(@run_compaction,
+    'CREATE TABLE stats_compaction_ranked AS
+     SELECT statistics_id, bif_id, stats_year_month, top_keywords, ai_emotion_score, text_generated_at,
+            ROW_NUMBER() OVER (PARTITION BY bif_id, stats_year_month ORDER BY updated_at DESC, statistics_id DESC) AS rn
+     FROM emotion_statistics',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 남길 행에 비어 있는 값(빈 키워드 JSON 포함)은 가장 최근 중복 행의 값으로 채운다.
+SET @sql = IF(@run_compaction,
+    'UPDATE emotion_statistics s
+     JOIN stats_compaction_ranked r ON r.statistics_id = s.statistics_id AND r.rn = 1
+     SET s.top_keywords = COALESCE(NULLIF(NULLIF(TRIM(s.top_keywords), ''''), ''{}''),
+             (SELECT d.top_keywords FROM stats_compaction_ranked d
+              WHERE d.bif_id = r.bif_id AND d.stats_year_month = r.stats_year_month AND d.rn > 1
+                AND NULLIF(NULLIF(TRIM(d.top_keywords), ''''), ''{}'') IS NOT NULL
+              ORDER BY d.rn LIMIT 1)),
+         s.ai_emotion_score = COALESCE(s.ai_emotion_score,
+             (SELECT d.ai_emotion_score FROM stats_compaction_ranked d
+              WHERE d.bif_id = r.bif_id AND d.stats_year_month = r.stats_year_month AND d.rn > 1
+                AND d.ai_emotion_score IS NOT NULL
+              ORDER BY d.rn LIMIT 1)),
+         s.text_generated_at = COALESCE(s.text_generated_at,
+             (SELECT d.text_generated_at FROM stats_compaction_ranked d
+              WHERE d.bif_id = r.bif_id AND d.stats_year_month = r.stats_year_month AND d.rn > 1
+                AND d.text_generated_at IS NOT NULL
+              ORDER BY d.rn LIMIT 1))',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(@run_compaction,
+    'DELETE s FROM emotion_statistics s
+     JOIN stats_compaction_ranked r ON r.statistics_id = s.statistics_id
+     WHERE r.rn > 1',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(@run_compaction,
+    'ALTER TABLE emotion_statistics ADD CONSTRAINT uk_stats_bif_year_month UNIQUE (bif_id, stats_year_month)',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+DROP TABLE IF EXISTS stats_compaction_ranked;
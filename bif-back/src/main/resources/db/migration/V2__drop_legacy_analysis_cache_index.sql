@@ -0,0 +1,22 @@
+-- 사용자 범위 없이 평문 SHA-256으로 저장하던 diary_analysis_cache 행은 새 HMAC 키로 다시 찾을 수 없으므로 지우고,
+-- 사용자 간 충돌을 일으키는 이전 고유 인덱스를 내린다. 이전 인덱스가 없는 DB에서는 아무것도 하지 않는다.
+SET @run_cleanup = (SELECT COUNT(*) FROM information_schema.statistics
+                    WHERE table_schema = DATABASE() AND table_name = 'diary_analysis_cache'
+                      AND index_name = 'uk_analysis_hash_version') > 0;
+
+-- bif_id 컬럼이 아직 없으면 모든 행이 이전 형식이고, 이미 추가됐다면 기본값 0으로 채워진 행이 이전 형식이다.
+SET @has_bif_id = (SELECT COUNT(*) FROM information_schema.columns
+                   WHERE table_schema = DATABASE() AND table_name = 'diary_analysis_cache'
+                     AND column_name = 'bif_id') > 0;
+
+SET @sql = IF(@run_cleanup,
+    IF(@has_bif_id, 'DELETE FROM diary_analysis_cache WHERE bif_id = 0', 'DELETE FROM diary_analysis_cache'),
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = IF(@run_cleanup, 'ALTER TABLE diary_analysis_cache DROP INDEX uk_analysis_hash_version', 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,174 @@
+package com.sage.bif.common.client.ai.resilience;
+
+import com.sage.bif.common.client.ai.AiPurpose;
+import com.sage.bif.common.client.ai.AzureOpenAiClient;
+import com.sage.bif.common.client.ai.dto.AiChatSettings;
+import com.sage.bif.common.client.ai.dto.AiRequest;
+import com.sage.bif.common.client.ai.dto.AiResponse;
+import com.sage.bif.common.exception.AiCallRejectedException;
+import com.sage.bif.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 격벽 자리가 없을 때 비동기·스트리밍 호출이 최대 대기 시간만큼 기다렸다가 거절되는지, 취소된 호출이 자리와 허가를 돌려주는지 확인한다.
+@ExtendWith(MockitoExtension.class)
+class ResilientAiServiceClientTest {
+
+    private static final AiRequest REQUEST = new AiRequest("오늘 산책을 했다");
+    private static final AiChatSettings SETTINGS = AiChatSettings.getDefault();
+    private static final AiPurpose PURPOSE = SETTINGS.getPurpose();
+
+    @Mock
+    private AzureOpenAiClient delegate;
+
+    @Mock
+    private AiRateLimiter rateLimiter;
+
+    @Mock
+    private AiCircuitBreaker circuitBreaker;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiBulkhead bulkhead;
+    private ResilientAiServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new AiBulkhead(meterRegistry, new MockEnvironment()
+                .withProperty("ai.resilience.bulkhead." + PURPOSE.getKey(), "1"));
+        bulkhead.init();
+
+        client = new ResilientAiServiceClient(delegate, rateLimiter, bulkhead, circuitBreaker, meterRegistry);
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "bulkheadMaxWaitMs", 2000L);
+
+        when(rateLimiter.reserve(anyInt())).thenReturn(0L);
+    }
+
+    @Test
+    void asyncCallWaitsForPermitReleasedWithinMaxWait() {
+        when(circuitBreaker.tryAcquirePermission()).thenReturn(true);
+        when(delegate.generateAsync(REQUEST, SETTINGS)).thenReturn(CompletableFuture.completedFuture(new AiResponse("좋은 하루였네요")));
+        occupyPermit(100);
+
+        final AiResponse response = client.generateAsync(REQUEST, SETTINGS).join();
+
+        assertThat(response.getContent()).isEqualTo("좋은 하루였네요");
+        assertThat(rejectedCount()).isZero();
+    }
+
+    @Test
+    void asyncCallIsRejectedAfterMaxWaitWithoutTrippingBreaker() {
+        ReflectionTestUtils.setField(client, "bulkheadMaxWaitMs", 50L);
+        occupyPermit(-1);
+
+        assertRejected(client.generateAsync(REQUEST, SETTINGS));
+        verify(delegate, never()).generateAsync(any(), any());
+        verify(circuitBreaker, never()).onFailure();
+        assertThat(rejectedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    void streamWaitsForPermitReleasedWithinMaxWait() {
+        when(circuitBreaker.tryAcquirePermission()).thenReturn(true);
+        when(delegate.generateStream(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(new AiResponse("좋은 하루였네요")));
+        occupyPermit(100);
+
+        final AiResponse response = client.generateStream(REQUEST, SETTINGS, delta -> { }).join();
+
+        assertThat(response.getContent()).isEqualTo("좋은 하루였네요");
+    }
+
+    @Test
+    void streamIsRejectedAfterMaxWait() {
+        ReflectionTestUtils.setField(client, "bulkheadMaxWaitMs", 50L);
+        occupyPermit(-1);
+
+        assertRejected(client.generateStream(REQUEST, SETTINGS, delta -> { }));
+        verify(delegate, never()).generateStream(any(), any(), any());
+        verify(circuitBreaker, never()).onFailure();
+    }
+
+    @Test
+    void cancellingHalfOpenCallReturnsCircuitPermit() {
+        final AiCircuitBreaker halfOpenBreaker = halfOpenBreaker();
+        client = new ResilientAiServiceClient(delegate, rateLimiter, bulkhead, halfOpenBreaker, meterRegistry);
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "bulkheadMaxWaitMs", 2000L);
+        when(delegate.generateAsync(REQUEST, SETTINGS)).thenReturn(new CompletableFuture<>());
+
+        final CompletableFuture<AiResponse> result = client.generateAsync(REQUEST, SETTINGS);
+        verify(delegate, timeout(1000)).generateAsync(REQUEST, SETTINGS);
+        result.cancel(true);
+
+        verify(halfOpenBreaker, timeout(1000)).onIgnored();
+        assertThat(halfOpenBreaker.getState()).isEqualTo(AiCircuitBreaker.State.HALF_OPEN);
+        assertThat(halfOpenBreaker.tryAcquirePermission()).isTrue();
+        assertThat(bulkhead.tryAcquire(PURPOSE, 1000)).isTrue();
+    }
+
+    @Test
+    void cancellingWhileWaitingForPermitSkipsDelegate() throws InterruptedException {
+        occupyPermit(-1);
+
+        final CompletableFuture<AiResponse> result = client.generateAsync(REQUEST, SETTINGS);
+        result.cancel(true);
+        bulkhead.release(PURPOSE);
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        verify(delegate, never()).generateAsync(any(), any());
+        verify(circuitBreaker, never()).tryAcquirePermission();
+        assertThat(bulkhead.tryAcquire(PURPOSE, 0)).isTrue();
+    }
+
+    // 열린 지 충분히 지난 차단기라 다음 허가 요청에서 반열림으로 바뀌고, 반열림에서는 한 번에 한 호출만 허가한다.
+    private AiCircuitBreaker halfOpenBreaker() {
+        final AiCircuitBreaker breaker = spy(new AiCircuitBreaker(meterRegistry));
+        ReflectionTestUtils.setField(breaker, "halfOpenCalls", 1);
+        ReflectionTestUtils.setField(breaker, "openDurationMs", 0L);
+        ReflectionTestUtils.setField(breaker, "state", AiCircuitBreaker.State.OPEN);
+        ReflectionTestUtils.setField(breaker, "openedAtNanos", System.nanoTime());
+        return breaker;
+    }
+
+    // releaseAfterMs가 음수면 자리를 돌려주지 않는다.
+    private void occupyPermit(final long releaseAfterMs) {
+        assertThat(bulkhead.tryAcquire(PURPOSE, 0)).isTrue();
+        if (releaseAfterMs >= 0) {
+            CompletableFuture.delayedExecutor(releaseAfterMs, TimeUnit.MILLISECONDS).execute(() -> bulkhead.release(PURPOSE));
+        }
+    }
+
+    private void assertRejected(final CompletableFuture<AiResponse> result) {
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(AiCallRejectedException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.COMMON_AI_CALL_REJECTED));
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.counter("ai.bulkhead.rejected", "purpose", PURPOSE.getKey()).count();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.model.Emotion;
+import com.sage.bif.diary.repository.projection.DiaryEmotionView;
+import com.sage.bif.stats.entity.AchievementType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AchievementHistoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 2, 1, 21, 0);
+
+    @Test
+    void recordsDateWhenStreakWasReached() {
+        final List<DiaryEntry> diaries = List.of(
+                diary(START, Emotion.JOY),
+                diary(START.plusDays(1), Emotion.JOY),
+                diary(START.plusDays(3), Emotion.JOY),
+                diary(START.plusDays(4), Emotion.JOY),
+                diary(START.plusDays(5), Emotion.JOY));
+
+        final Map<AchievementType, LocalDateTime> earned = AchievementHistory.fromDiaries(diaries);
+
+        assertThat(earned).containsEntry(AchievementType.FIRST_DIARY, START);
+        assertThat(earned).containsEntry(AchievementType.DIARY_STREAK_3, START.plusDays(5));
+        assertThat(earned).doesNotContainKey(AchievementType.DIARY_STREAK_7);
+    }
+
+    @Test
+    void recordsDateWhenFourthEmotionAppearedInOneMonth() {
+        final List<DiaryEntry> diaries = List.of(
+                diary(START.minusDays(3), Emotion.SAD),
+                diary(START.minusDays(2), Emotion.ANGER),
+                diary(START.minusDays(1), Emotion.NEUTRAL),
+                diary(START, Emotion.JOY),
+                diary(START.plusDays(1), Emotion.SAD),
+                diary(START.plusDays(2), Emotion.ANGER),
+                diary(START.plusDays(5), Emotion.JOY),
+                diary(START.plusDays(9), Emotion.NEUTRAL));
+
+        final Map<AchievementType, LocalDateTime> earned = AchievementHistory.fromDiaries(diaries);
+
+        assertThat(earned).containsEntry(AchievementType.EMOTION_VARIETY, START.plusDays(9));
+    }
+
+    @Test
+    void recordsLastDayOfFirstCompletedMonth() {
+        final List<DiaryEntry> diaries = new ArrayList<>();
+        for (int day = 0; day < 28; day++) {
+            diaries.add(diary(START.plusDays(day), Emotion.NEUTRAL));
+        }
+
+        final Map<AchievementType, LocalDateTime> earned = AchievementHistory.fromDiaries(diaries);
+
+        assertThat(earned).containsEntry(AchievementType.MONTHLY_COMPLETE, START.plusDays(27));
+        assertThat(earned).containsEntry(AchievementType.DIARY_STREAK_7, START.plusDays(6));
+        assertThat(earned).doesNotContainKey(AchievementType.DIARY_STREAK_30);
+    }
+
+    @Test
+    void usesLastDiaryOfMonthForKeywordAchievement() {
+        final List<DiaryEntry> diaries = List.of(
+                diary(START, Emotion.JOY),
+                diary(START.plusDays(10), Emotion.JOY),
+                diary(START.plusMonths(1), Emotion.JOY));
+
+        assertThat(AchievementHistory.lastDiaryInMonth(diaries, YearMonth.from(START))).contains(START.plusDays(10));
+        assertThat(AchievementHistory.lastDiaryInMonth(diaries, YearMonth.from(START).minusMonths(1))).isEmpty();
+    }
+
+    private static DiaryEntry diary(final LocalDateTime createdAt, final Emotion emotion) {
+        return new DiaryEntry(createdAt, emotion);
+    }
+
+    private record DiaryEntry(LocalDateTime createdAt, Emotion emotion) implements DiaryEmotionView {
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public Emotion getEmotion() {
+            return emotion;
+        }
+
+    }
+
+}
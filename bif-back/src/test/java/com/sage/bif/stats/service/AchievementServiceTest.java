@@ -0,0 +1,126 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.repository.DiaryRepository;
+import com.sage.bif.stats.entity.AchievementTotal;
+import com.sage.bif.stats.entity.AchievementType;
+import com.sage.bif.stats.repository.AchievementLedgerRepository;
+import com.sage.bif.stats.repository.AchievementTotalRepository;
+import com.sage.bif.stats.repository.StatsKeywordRepository;
+import com.sage.bif.user.entity.Guardian;
+import com.sage.bif.user.repository.GuardianRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AchievementServiceTest {
+
+    private static final Long BIF_ID = 1L;
+
+    @Mock
+    private AchievementLedgerRepository achievementLedgerRepository;
+
+    @Mock
+    private AchievementTotalRepository achievementTotalRepository;
+
+    @Mock
+    private StatsKeywordRepository statsKeywordRepository;
+
+    @Mock
+    private DiaryDayBitmapService diaryDayBitmapService;
+
+    @Mock
+    private EmotionCounterService emotionCounterService;
+
+    @Mock
+    private StatsResponseCache statsResponseCache;
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @Mock
+    private GuardianRepository guardianRepository;
+
+    @InjectMocks
+    private AchievementService achievementService;
+
+    @Test
+    void awardsPointsOnlyOncePerAchievement() {
+        final int points = AchievementType.GUARDIAN_CONNECTION.getPoints();
+        when(achievementLedgerRepository.insertIfAbsent(BIF_ID, AchievementType.GUARDIAN_CONNECTION.name(), points))
+                .thenReturn(1, 0);
+        when(achievementTotalRepository.findById(BIF_ID)).thenReturn(Optional.of(total(points)));
+
+        achievementService.recordGuardianConnection(BIF_ID);
+        achievementService.recordGuardianConnection(BIF_ID);
+
+        verify(achievementTotalRepository, times(1)).addPoints(BIF_ID, points);
+        verify(statsResponseCache, times(1)).evictAll(BIF_ID);
+    }
+
+    @Test
+    void updatesLevelFromAccumulatedPoints() {
+        when(achievementLedgerRepository.insertIfAbsent(anyLong(), anyString(), anyInt())).thenReturn(1);
+        when(achievementTotalRepository.findById(BIF_ID)).thenReturn(Optional.of(total(60)));
+
+        achievementService.recordGuardianConnection(BIF_ID);
+
+        verify(achievementTotalRepository).updateLevel(BIF_ID, 2);
+    }
+
+    @Test
+    void calculatesLevelAtThresholds() {
+        assertThat(AchievementService.calculateLevel(0)).isEqualTo(1);
+        assertThat(AchievementService.calculateLevel(49)).isEqualTo(1);
+        assertThat(AchievementService.calculateLevel(50)).isEqualTo(2);
+        assertThat(AchievementService.calculateLevel(149)).isEqualTo(2);
+        assertThat(AchievementService.calculateLevel(150)).isEqualTo(3);
+        assertThat(AchievementService.calculateLevel(300)).isEqualTo(4);
+        assertThat(AchievementService.calculateLevel(500)).isEqualTo(5);
+    }
+
+    @Test
+    void backfillUsesHistoricalDateAndSkipsExistingEntries() {
+        final LocalDateTime connectedAt = LocalDateTime.of(2024, 11, 3, 10, 0);
+        final Guardian guardian = new Guardian();
+        guardian.setCreatedAt(connectedAt);
+        when(diaryRepository.findEmotionsByUserId(BIF_ID)).thenReturn(List.of());
+        when(guardianRepository.findByBif_BifId(BIF_ID)).thenReturn(List.of(guardian));
+        when(achievementLedgerRepository.insertIfAbsentAt(eq(BIF_ID), eq(AchievementType.GUARDIAN_CONNECTION.name()),
+                anyInt(), eq(connectedAt))).thenReturn(1, 0);
+        when(achievementTotalRepository.findById(BIF_ID)).thenReturn(Optional.of(total(40)));
+
+        assertThat(achievementService.backfill(BIF_ID)).isEqualTo(1);
+        assertThat(achievementService.backfill(BIF_ID)).isZero();
+
+        verify(achievementTotalRepository, times(1)).addPoints(BIF_ID, AchievementType.GUARDIAN_CONNECTION.getPoints());
+        verify(achievementLedgerRepository).backdate(BIF_ID, AchievementType.GUARDIAN_CONNECTION, connectedAt);
+        verify(achievementLedgerRepository, never()).insertIfAbsent(anyLong(), anyString(), anyInt());
+    }
+
+    private static AchievementTotal total(final int points) {
+        return AchievementTotal.builder()
+                .bifId(BIF_ID)
+                .totalPoints(points)
+                .currentLevel(1)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.stats.entity.StatsKeyword;
+import com.sage.bif.stats.repository.StatsKeywordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 키워드 쓰기는 REQUIRES_NEW로 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({KeywordAccumulationService.class, KeywordDictionary.class})
+class KeywordAccumulationServiceTest {
+
+    private static final Long BIF_ID = 7L;
+    private static final LocalDateTime YEAR_MONTH = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Autowired
+    private KeywordAccumulationService keywordAccumulationService;
+
+    @Autowired
+    private StatsKeywordRepository statsKeywordRepository;
+
+    @MockitoBean
+    private StatsResponseCache statsResponseCache;
+
+    @AfterEach
+    void tearDown() {
+        statsKeywordRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void editRemovesDroppedKeywordsAndAddsNewOnes() {
+        seed(Map.of("산책", 2, "바다", 1));
+
+        keywordAccumulationService.replaceKeywords(BIF_ID, YEAR_MONTH,
+                List.of("산책", "바다"), List.of("산책", "수영"), "산책하고 수영을 했다");
+
+        assertThat(counts()).containsExactlyInAnyOrderEntriesOf(Map.of("산책", 2, "수영", 1));
+    }
+
+    @Test
+    void deletionSubtractsPreviousKeywords() {
+        seed(Map.of("산책", 2, "바다", 1));
+
+        keywordAccumulationService.replaceKeywords(BIF_ID, YEAR_MONTH, List.of("산책", "바다"), List.of(), null);
+
+        assertThat(counts()).containsExactlyInAnyOrderEntriesOf(Map.of("산책", 1));
+    }
+
+    @Test
+    void unchangedKeywordsLeaveCountsAlone() {
+        seed(Map.of("산책", 2));
+
+        keywordAccumulationService.replaceKeywords(BIF_ID, YEAR_MONTH, List.of("산책"), List.of("산책"), "저녁 산책");
+
+        assertThat(counts()).containsExactlyInAnyOrderEntriesOf(Map.of("산책", 2));
+    }
+
+    @Test
+    void newKeywordsMissingFromContentAreIgnored() {
+        seed(Map.of("산책", 1));
+
+        keywordAccumulationService.replaceKeywords(BIF_ID, YEAR_MONTH, List.of("산책"), List.of("산책", "바다"), "저녁 산책");
+
+        assertThat(counts()).containsExactlyInAnyOrderEntriesOf(Map.of("산책", 1));
+    }
+
+    private void seed(final Map<String, Integer> keywordCounts) {
+        keywordCounts.forEach((keyword, count) -> statsKeywordRepository.save(StatsKeyword.builder()
+                .bifId(BIF_ID)
+                .yearMonth(YEAR_MONTH)
+                .keyword(keyword)
+                .count(count)
+                .updatedAt(LocalDateTime.now())
+                .build()));
+    }
+
+    private Map<String, Integer> counts() {
+        final Map<String, Integer> counts = new HashMap<>();
+        for (StatsKeyword row : statsKeywordRepository.findByBifIdAndYearMonth(BIF_ID, YEAR_MONTH)) {
+            counts.put(row.getKeyword(), row.getCount());
+        }
+        return counts;
+    }
+
+}
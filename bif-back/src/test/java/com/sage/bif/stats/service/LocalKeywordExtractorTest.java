@@ -0,0 +1,37 @@
+package com.sage.bif.stats.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalKeywordExtractorTest {
+
+    private final LocalKeywordExtractor extractor = new LocalKeywordExtractor(new KeywordDictionary());
+
+    @Test
+    void keepsNounsEndingWithParticleSyllables() {
+        assertThat(extractor.extract("원숭이 털을 빗었다").getKeywords()).contains("원숭이");
+        assertThat(extractor.extract("아이 손을 잡았다").getKeywords()).contains("아이");
+        assertThat(extractor.extract("놀이 시간이 즐거웠다").getKeywords()).contains("놀이");
+    }
+
+    @Test
+    void keepsNounsEndingWithDa() {
+        assertThat(extractor.extract("바다 냄새가 좋았다").getKeywords()).contains("바다");
+    }
+
+    @Test
+    void stripsParticlesWhenStemIsConfirmed() {
+        assertThat(extractor.extract("원숭이와 산책하고 원숭이가 잠들었다").getKeywords())
+                .contains("원숭이")
+                .doesNotContain("원숭", "원숭이가", "원숭이와");
+        assertThat(extractor.extract("사과를 먹었다").getKeywords()).contains("사과");
+    }
+
+    @Test
+    void dropsConjugatedPredicates() {
+        assertThat(extractor.extract("바다에 갔다 귀엽다").getKeywords())
+                .doesNotContain("갔다", "귀엽다");
+    }
+
+}
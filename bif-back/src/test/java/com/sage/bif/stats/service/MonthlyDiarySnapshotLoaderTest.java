@@ -0,0 +1,130 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.entity.Diary;
+import com.sage.bif.diary.model.Emotion;
+import com.sage.bif.stats.entity.DiaryDayBitmap;
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.StatsEmotionCount;
+import com.sage.bif.user.entity.Bif;
+import com.sage.bif.user.entity.SocialLogin;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MonthlyDiarySnapshotLoader.class, EmotionCounterService.class, DiaryDayBitmapService.class})
+class MonthlyDiarySnapshotLoaderTest {
+
+    private static final LocalDateTime MONTH = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    // 월 일기 조회, 이번 달/지난 달 감정 카운터, 연간 비트맵
+    private static final long EXPECTED_STATEMENTS = 4;
+
+    @Autowired
+    private MonthlyDiarySnapshotLoader snapshotLoader;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Bif bif;
+
+    @BeforeEach
+    void setUp() {
+        final SocialLogin socialLogin = SocialLogin.builder()
+                .email("snapshot@test.com")
+                .provider(SocialLogin.SocialProvider.KAKAO)
+                .providerUniqueId("snapshot-test")
+                .build();
+        entityManager.persist(socialLogin);
+
+        bif = Bif.builder()
+                .socialLogin(socialLogin)
+                .nickname("snapshot")
+                .connectionCode("SNAP01")
+                .build();
+        entityManager.persist(bif);
+
+        seedCounters(MONTH);
+        seedCounters(MONTH.minusMonths(1));
+        entityManager.persist(DiaryDayBitmap.builder()
+                .bifId(bif.getBifId())
+                .year(MONTH.getYear())
+                .days(new byte[DiaryDayBitmap.BITMAP_BYTES])
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void loadsMonthWithFixedStatementCount() {
+        persistDiaries(3);
+
+        final MonthlyDiarySnapshot snapshot = loadWithStatistics();
+
+        assertThat(snapshot.getDiaryCount()).isEqualTo(3);
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithDiaryCount() {
+        persistDiaries(20);
+
+        final MonthlyDiarySnapshot snapshot = loadWithStatistics();
+
+        assertThat(snapshot.getDiaryCount()).isEqualTo(20);
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(statistics().getEntityStatistics(Diary.class.getName()).getLoadCount()).isZero();
+    }
+
+    private MonthlyDiarySnapshot loadWithStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+        return snapshotLoader.load(bif.getBifId(), MONTH.plusDays(10));
+    }
+
+    private void persistDiaries(final int count) {
+        final Emotion[] emotions = Emotion.values();
+        for (int day = 0; day < count; day++) {
+            final LocalDateTime createdAt = MONTH.plusDays(day).withHour(21);
+            entityManager.persist(Diary.builder()
+                    .user(bif)
+                    .emotion(emotions[day % emotions.length])
+                    .content("스냅샷 테스트 일기 " + day)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+    }
+
+    private void seedCounters(final LocalDateTime yearMonth) {
+        for (EmotionType emotion : EmotionType.values()) {
+            entityManager.persist(StatsEmotionCount.builder()
+                    .bifId(bif.getBifId())
+                    .yearMonth(yearMonth)
+                    .emotion(emotion)
+                    .count(0)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+}
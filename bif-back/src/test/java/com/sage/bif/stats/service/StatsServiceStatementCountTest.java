@@ -0,0 +1,215 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.diary.entity.Diary;
+import com.sage.bif.diary.model.Emotion;
+import com.sage.bif.stats.dto.StatsResponse;
+import com.sage.bif.stats.entity.AchievementLedger;
+import com.sage.bif.stats.entity.AchievementTotal;
+import com.sage.bif.stats.entity.AchievementType;
+import com.sage.bif.stats.entity.DiaryDayBitmap;
+import com.sage.bif.stats.entity.EmotionType;
+import com.sage.bif.stats.entity.Stats;
+import com.sage.bif.stats.entity.StatsEmotionCount;
+import com.sage.bif.stats.entity.StatsKeyword;
+import com.sage.bif.user.entity.Bif;
+import com.sage.bif.user.entity.SocialLogin;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 월별 통계 조회 한 번에 실행되는 SQL 수를 고정한다. getMonthlyStats는 트랜잭션 없이 실행되므로 준비 데이터를 커밋하고 직접 정리한다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({StatsServiceImpl.class, StatsWriter.class, StatsResponseCache.class, MonthlyDiarySnapshotLoader.class,
+        EmotionCounterService.class, DiaryDayBitmapService.class, KeywordAccumulationService.class, KeywordDictionary.class,
+        AchievementService.class})
+class StatsServiceStatementCountTest {
+
+    // 통계 행, 월 일기, 연간 비트맵(일기 수), 이번 달/지난 달 감정 카운터, 상위 키워드, BIF 프로필, 연간 비트맵(연속 기록), 업적 합계, 최근 업적
+    private static final long EXPECTED_STATEMENTS = 10;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private AiEmotionAnalysisService aiEmotionAnalysisService;
+
+    @MockitoBean
+    private StatsTextRegenerationService statsTextRegenerationService;
+
+    @MockitoBean
+    private GuardianStatsAssembler guardianStatsAssembler;
+
+    @MockitoBean
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> List.of(AchievementLedger.class, AchievementTotal.class, StatsKeyword.class, Stats.class,
+                        StatsEmotionCount.class, DiaryDayBitmap.class, Diary.class, Bif.class, SocialLogin.class)
+                .forEach(entity -> entityManager.createQuery("DELETE FROM " + entity.getSimpleName()).executeUpdate()));
+    }
+
+    @Test
+    void monthlyStatsRunFixedStatementCount() {
+        final Long bifId = seed(3);
+
+        final StatsResponse response = getMonthlyStatsWithStatistics(bifId);
+
+        assertThat(response.getStatisticsText()).isEqualTo("저장된 통계 문구");
+        assertThat(response.getTopKeywords()).hasSize(2);
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(expectedStatements());
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithDiaryCount() {
+        final Long bifId = seed(20);
+
+        final StatsResponse response = getMonthlyStatsWithStatistics(bifId);
+
+        assertThat(response.getStatisticsText()).isEqualTo("저장된 통계 문구");
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(expectedStatements());
+        assertThat(statistics().getEntityStatistics(Diary.class.getName()).getLoadCount()).isZero();
+    }
+
+    // 1월 1일에는 연속 기록 계산이 어제가 속한 지난해 비트맵을 한 번 더 읽는다.
+    private long expectedStatements() {
+        return LocalDate.now().getDayOfYear() == 1 ? EXPECTED_STATEMENTS + 1 : EXPECTED_STATEMENTS;
+    }
+
+    private StatsResponse getMonthlyStatsWithStatistics(final Long bifId) {
+        statistics().clear();
+        return statsService.getMonthlyStats(bifId);
+    }
+
+    private Long seed(final int diaryCount) {
+        final LocalDateTime month = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        final Bif bif = new TransactionTemplate(transactionManager).execute(status -> {
+            final SocialLogin socialLogin = SocialLogin.builder()
+                    .email("stats-count@test.com")
+                    .provider(SocialLogin.SocialProvider.KAKAO)
+                    .providerUniqueId("stats-count-test")
+                    .build();
+            entityManager.persist(socialLogin);
+
+            final Bif created = Bif.builder()
+                    .socialLogin(socialLogin)
+                    .nickname("statscount")
+                    .connectionCode("STAT01")
+                    .build();
+            entityManager.persist(created);
+
+            final Emotion[] emotions = Emotion.values();
+            for (int i = 0; i < diaryCount; i++) {
+                final LocalDateTime createdAt = month.plusMinutes(i);
+                entityManager.persist(Diary.builder()
+                        .user(created)
+                        .emotion(emotions[i % emotions.length])
+                        .content("통계 조회 테스트 일기 " + i)
+                        .createdAt(createdAt)
+                        .updatedAt(createdAt)
+                        .build());
+            }
+
+            seedCounters(created.getBifId(), month);
+            seedCounters(created.getBifId(), month.minusMonths(1));
+            seedBitmap(created.getBifId(), month.getYear());
+            seedBitmap(created.getBifId(), month.getYear() - 1);
+            seedKeyword(created.getBifId(), month, "산책", 2);
+            seedKeyword(created.getBifId(), month, "바다", 1);
+
+            entityManager.persist(Stats.builder()
+                    .bifId(created.getBifId())
+                    .yearMonth(month)
+                    .emotionStatisticsText("저장된 통계 문구")
+                    .guardianAdviceText("저장된 보호자 조언")
+                    .build());
+            entityManager.persist(AchievementTotal.builder()
+                    .bifId(created.getBifId())
+                    .totalPoints(AchievementType.FIRST_DIARY.getPoints())
+                    .currentLevel(1)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            entityManager.persist(AchievementLedger.builder()
+                    .bifId(created.getBifId())
+                    .achievement(AchievementType.FIRST_DIARY)
+                    .points(AchievementType.FIRST_DIARY.getPoints())
+                    .earnedAt(month)
+                    .build());
+            return created;
+        });
+        return bif.getBifId();
+    }
+
+    private void seedCounters(final Long bifId, final LocalDateTime yearMonth) {
+        for (EmotionType emotion : EmotionType.values()) {
+            entityManager.persist(StatsEmotionCount.builder()
+                    .bifId(bifId)
+                    .yearMonth(yearMonth)
+                    .emotion(emotion)
+                    .count(0)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    private void seedBitmap(final Long bifId, final int year) {
+        entityManager.persist(DiaryDayBitmap.builder()
+                .bifId(bifId)
+                .year(year)
+                .days(new byte[DiaryDayBitmap.BITMAP_BYTES])
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void seedKeyword(final Long bifId, final LocalDateTime yearMonth, final String keyword, final int count) {
+        entityManager.persist(StatsKeyword.builder()
+                .bifId(bifId)
+                .yearMonth(yearMonth)
+                .keyword(keyword)
+                .count(count)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void inTransaction(final Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+}
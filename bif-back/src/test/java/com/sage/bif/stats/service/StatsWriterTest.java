@@ -0,0 +1,74 @@
+package com.sage.bif.stats.service;
+
+import com.sage.bif.stats.entity.Stats;
+import com.sage.bif.stats.repository.StatsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatsWriter.class)
+class StatsWriterTest {
+
+    private static final Long BIF_ID = 42L;
+    private static final LocalDateTime YEAR_MONTH = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final String EMOTION_COUNTS = "{\"GREAT\":1}";
+
+    @Autowired
+    private StatsWriter statsWriter;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Test
+    void upsertKeepsOneRowPerMonth() {
+        statsWriter.upsertGeneratedTexts(BIF_ID, YEAR_MONTH,
+                new AiEmotionAnalysisService.StatsTexts("첫 문구", "첫 조언", true), EMOTION_COUNTS, 0.5);
+        statsWriter.upsertGeneratedTexts(BIF_ID, YEAR_MONTH,
+                new AiEmotionAnalysisService.StatsTexts("새 문구", "새 조언", true), EMOTION_COUNTS, null);
+
+        assertThat(statsRepository.count()).isEqualTo(1);
+        assertThat(statsRepository.findByBifIdAndYearMonth(BIF_ID, YEAR_MONTH))
+                .get()
+                .satisfies(stats -> {
+                    assertThat(stats.getEmotionStatisticsText()).isEqualTo("새 문구");
+                    assertThat(stats.getAiEmotionScore()).isEqualTo(0.5);
+                });
+    }
+
+    @Test
+    void fallbackTextsAreStoredWithoutGenerationTime() {
+        statsWriter.upsertGeneratedTexts(BIF_ID, YEAR_MONTH,
+                new AiEmotionAnalysisService.StatsTexts("기본 통계 문구", "기본 조언", false), EMOTION_COUNTS, null);
+
+        assertThat(statsRepository.findByBifIdAndYearMonth(BIF_ID, YEAR_MONTH))
+                .get()
+                .satisfies(stats -> {
+                    assertThat(stats.getEmotionStatisticsText()).isEqualTo("기본 통계 문구");
+                    assertThat(stats.getTextGeneratedAt()).isNull();
+                    assertThat(stats.getEmotionCounts()).isNull();
+                });
+    }
+
+    @Test
+    void aiTextsAreStampedWithGenerationTime() {
+        statsWriter.upsertGeneratedTexts(BIF_ID, YEAR_MONTH,
+                new AiEmotionAnalysisService.StatsTexts("AI 통계 문구", "AI 조언", true), EMOTION_COUNTS, null);
+
+        assertThat(statsRepository.findByBifIdAndYearMonth(BIF_ID, YEAR_MONTH))
+                .get()
+                .extracting(Stats::getTextGeneratedAt, Stats::getEmotionCounts)
+                .satisfies(values -> {
+                    assertThat(values.get(0)).isNotNull();
+                    assertThat(values.get(1)).isEqualTo(EMOTION_COUNTS);
+                });
+    }
+
+}